@@ -80,11 +80,29 @@ class UserInteraction(BaseModel):
     articleId: Optional[int] = None
     action: str # "click" or "scrap"
     keyword: Optional[str] = None
+    vector: Optional[List[float]] = None # Spring 측에서 이미 임베딩한 검색어 벡터
+
+class EmbedRequest(BaseModel):
+    texts: List[str]
+
+class EmbedResponse(BaseModel):
+    modelVersion: str
+    vectors: List[List[float]]
+
+class VectorSearchRequest(BaseModel):
+    query: str
+    vector: List[float]
+    page: int = 0
+    size: int = 5
+    threshold: float = 0.7
 
 class UserProfileRequest(BaseModel):
     userId: int
     interactions: List[UserInteraction]
 
+class UserProfileBatchRequest(BaseModel):
+    profiles: List[UserProfileRequest]
+
 class RecommendedArticle(BaseModel):
     articleId: int
     score: float
@@ -332,7 +350,7 @@ async def check_db_schema():
 async def search_articles_semantic(
         query: str = Query(..., description="검색할 단어"),
         page: int = Query(0, ge=0, description="페이지 번호"),
-        size: int = Query(5, ge=1, le=50, description="페이지 크기"),
+        size: int = Query(5, ge=1, le=300, description="페이지 크기"),
         threshold: float = Query(0.7, ge=0, le=1, description="최소 유사도 임계값")
 ):
     try:
@@ -367,69 +385,100 @@ async def search_articles_semantic(
             logger.warning(f"검색어 벡터화 실패: {cleaned_query}")
             return SearchResponse(query=cleaned_query, totalCount=0, articles=[])
 
-        async with db_pool.acquire() as conn:
-            async with conn.cursor(aiomysql.DictCursor) as cursor:
-                # 대표벡터를 사용한 빠른 검색
-                await cursor.execute("""
-                    SELECT a.article_id, a.title, a.summary, a.published_at, 
-                           asv.representative_vector
-                    FROM articles a 
-                    INNER JOIN article_semantic_vectors asv ON a.article_id = asv.article_id
-                    WHERE asv.representative_vector IS NOT NULL
-                """)
+        return await _search_by_vector(cleaned_query, query_vector, page, size, threshold)
 
-                all_articles = await cursor.fetchall()
-                search_results = []
+    except HTTPException:
+        raise
+    except Exception as e:
+        logger.error(f"검색 중 오류 발생: {e}", exc_info=True)
+        raise HTTPException(
+            status_code=status.HTTP_500_INTERNAL_SERVER_ERROR,
+            detail=f"검색 처리 중 오류가 발생했습니다: {str(e)}"
+        )
 
-                for article in all_articles:
-                    try:
-                        rep_vector = np.array(json.loads(article['representative_vector']))
-                        similarity = cosine_similarity(query_vector, rep_vector)
+@app.post("/api/articles/search/vector")
+async def search_articles_by_vector(request: VectorSearchRequest):
+    # Spring 측 임베딩 캐시에서 받은 벡터로 검색 (검색어 재임베딩 생략)
+    cleaned_query = request.query.strip()
+    if not cleaned_query or not request.vector:
+        raise HTTPException(status_code=status.HTTP_400_BAD_REQUEST, detail="검색어와 벡터가 필요합니다.")
+    if request.page < 0 or not (1 <= request.size <= 300) or not (0 <= request.threshold <= 1):
+        raise HTTPException(status_code=status.HTTP_400_BAD_REQUEST, detail="페이지 파라미터가 올바르지 않습니다.")
+    if not db_pool:
+        raise HTTPException(status_code=status.HTTP_503_SERVICE_UNAVAILABLE, detail="데이터베이스 연결이 없습니다.")
 
-                        if article['summary'] and cleaned_query in article['summary']:
-                            similarity = 0.99
+    try:
+        return await _search_by_vector(cleaned_query, np.array(request.vector), request.page, request.size, request.threshold)
+    except Exception as e:
+        logger.error(f"벡터 검색 중 오류 발생: {e}", exc_info=True)
+        raise HTTPException(
+            status_code=status.HTTP_500_INTERNAL_SERVER_ERROR,
+            detail=f"검색 처리 중 오류가 발생했습니다: {str(e)}"
+        )
 
-                        if similarity >= threshold:
-                            search_results.append({
-                                'article_id': article['article_id'],
-                                'title': article['title'],
-                                'summary': article['summary'],
-                                'score': float(similarity),
-                                'publishedAt': article['published_at'].isoformat() if article['published_at'] else None
-                            })
+@app.post("/api/nlp/embed", response_model=EmbedResponse)
+async def embed_texts(request: EmbedRequest):
+    # 여러 텍스트를 한 번에 임베딩 (Spring 측 임베딩 캐시 미스 일괄 처리용)
+    if not nlp_processor:
+        raise HTTPException(status_code=status.HTTP_503_SERVICE_UNAVAILABLE, detail="NLP 서비스가 준비되지 않았습니다.")
+    vectors = await nlp_processor.vectorize_texts(request.texts)
+    return EmbedResponse(modelVersion=nlp_processor.VECTORIZER_MODEL_NAME, vectors=vectors)
 
-                    except json.JSONDecodeError as e:
-                        logger.warning(f"기사 {article['article_id']} JSON 파싱 오류: {e}")
-                        continue
-                    except Exception as e:
-                        logger.warning(f"기사 {article['article_id']} 처리 중 오류: {e}")
-                        continue
+async def _search_by_vector(cleaned_query: str, query_vector: np.ndarray, page: int, size: int, threshold: float) -> SearchResponse:
+    async with db_pool.acquire() as conn:
+        async with conn.cursor(aiomysql.DictCursor) as cursor:
+            # 대표벡터를 사용한 빠른 검색
+            await cursor.execute("""
+                SELECT a.article_id, a.title, a.summary, a.published_at, 
+                       asv.representative_vector
+                FROM articles a 
+                INNER JOIN article_semantic_vectors asv ON a.article_id = asv.article_id
+                WHERE asv.representative_vector IS NOT NULL
+            """)
 
-                # 정렬 및 페이징
-                search_results.sort(key=lambda x: x['score'], reverse=True)
-                paginated_results = search_results[page * size : (page + 1) * size]
+            all_articles = await cursor.fetchall()
+            search_results = []
 
-                articles_response = [
-                    ArticleSearchResult(**{k: v for k, v in res.items() if k != 'keywords'})
-                    for res in paginated_results
-                ]
+            for article in all_articles:
+                try:
+                    rep_vector = np.array(json.loads(article['representative_vector']))
+                    similarity = cosine_similarity(query_vector, rep_vector)
+
+                    if article['summary'] and cleaned_query in article['summary']:
+                        similarity = 0.99
+
+                    if similarity >= threshold:
+                        search_results.append({
+                            'article_id': article['article_id'],
+                            'title': article['title'],
+                            'summary': article['summary'],
+                            'score': float(similarity),
+                            'publishedAt': article['published_at'].isoformat() if article['published_at'] else None
+                        })
+
+                except json.JSONDecodeError as e:
+                    logger.warning(f"기사 {article['article_id']} JSON 파싱 오류: {e}")
+                    continue
+                except Exception as e:
+                    logger.warning(f"기사 {article['article_id']} 처리 중 오류: {e}")
+                    continue
 
-                logger.info(f"검색 완료 - 전체: {len(search_results)}개, 반환: {len(articles_response)}개")
+            # 정렬 및 페이징
+            search_results.sort(key=lambda x: x['score'], reverse=True)
+            paginated_results = search_results[page * size : (page + 1) * size]
 
-                return SearchResponse(
-                    query=cleaned_query,
-                    totalCount=len(search_results),
-                    articles=articles_response
-                )
+            articles_response = [
+                ArticleSearchResult(**{k: v for k, v in res.items() if k != 'keywords'})
+                for res in paginated_results
+            ]
 
-    except HTTPException:
-        raise
-    except Exception as e:
-        logger.error(f"검색 중 오류 발생: {e}", exc_info=True)
-        raise HTTPException(
-            status_code=status.HTTP_500_INTERNAL_SERVER_ERROR,
-            detail=f"검색 처리 중 오류가 발생했습니다: {str(e)}"
-        )
+            logger.info(f"검색 완료 - 전체: {len(search_results)}개, 반환: {len(articles_response)}개")
+
+            return SearchResponse(
+                query=cleaned_query,
+                totalCount=len(search_results),
+                articles=articles_response
+            )
 
 # --- 헬퍼 함수 ---
 async def calculate_weighted_average(
@@ -547,7 +596,8 @@ async def _calculate_user_profile_vector(interactions: List[UserInteraction]) ->
     # 행동 로그를 기반으로 사용자 프로필 벡터 계산
     # articleId가 있는 경우만 추출
     article_ids = [interaction.articleId for interaction in interactions if interaction.articleId]
-    search_keywords = [inter.keyword for inter in interactions if inter.keyword]
+    # 벡터가 함께 온 검색어는 재임베딩하지 않음
+    search_keywords = [inter.keyword for inter in interactions if inter.keyword and not inter.vector]
 
     # 기사 벡터와 검색어 벡터를 모두 가져옴
     article_vectors_map = await _get_representative_vectors(article_ids)
@@ -555,7 +605,8 @@ async def _calculate_user_profile_vector(interactions: List[UserInteraction]) ->
     if search_keywords and nlp_processor:
         keyword_vectors_map = await nlp_processor.vectorize_keywords(search_keywords)
 
-    if not article_vectors_map and not keyword_vectors_map:
+    has_given_vectors = any(inter.keyword and inter.vector for inter in interactions)
+    if not article_vectors_map and not keyword_vectors_map and not has_given_vectors:
         return None
 
     weighted_vectors = []
@@ -566,7 +617,9 @@ async def _calculate_user_profile_vector(interactions: List[UserInteraction]) ->
         weight = ACTION_WEIGHTS.get(action, 0.0)
         vector = None
 
-        if interaction.keyword and interaction.keyword in keyword_vectors_map:
+        if interaction.keyword and interaction.vector:
+            vector = np.array(interaction.vector)
+        elif interaction.keyword and interaction.keyword in keyword_vectors_map:
             vector = np.array(keyword_vectors_map[interaction.keyword])
         elif interaction.articleId and interaction.articleId in article_vectors_map:
             vector = article_vectors_map[interaction.articleId]
@@ -607,6 +660,32 @@ async def update_user_profile(request: UserProfileRequest):
 
     return {"userId": user_id, "status": "profile_updated"}
 
+@app.post("/api/nlp/user-profile/batch")
+async def update_user_profiles_batch(request: UserProfileBatchRequest):
+    # 여러 사용자 프로필을 한 번에 갱신 (Spring 측 병합기에서 호출)
+    rows = []
+    skipped = []
+    for profile in request.profiles:
+        vector = await _calculate_user_profile_vector(profile.interactions)
+        if vector is None:
+            skipped.append(profile.userId)
+            continue
+        rows.append((profile.userId, json.dumps(vector.tolist()), "profile-v1"))
+
+    if rows:
+        async with db_pool.acquire() as conn:
+            async with conn.cursor() as cursor:
+                await cursor.executemany("""
+                    INSERT INTO user_vectors (user_id, vector, model_version)
+                    VALUES (%s, %s, %s)
+                    ON DUPLICATE KEY UPDATE
+                        vector = VALUES(vector),
+                        model_version = VALUES(model_version),
+                        updated_at = NOW()
+                """, rows)
+
+    return {"updated": len(rows), "skipped": skipped}
+
 @app.get("/api/nlp/feed/{user_id}", response_model=FeedResponse)
 async def get_personalized_feed(user_id: int, page: int = 0, size: int = 20):
     # 맞춤 피드
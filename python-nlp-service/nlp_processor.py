@@ -35,6 +35,9 @@ def _load_stopwords(file_path: str) -> set:
         logger.error(f"불용어 파일 로드 중 오류 발생: {e}. 기본 불용어를 사용합니다.", exc_info=True)
         return default_stopwords
 
+# 의미 벡터 모델 (Spring 측 임베딩 캐시 키의 모델 버전으로도 사용)
+VECTORIZER_MODEL_NAME = 'jhgan/ko-sbert-sts'
+
 class NLPProcessor:
     # KeyBERT & SBERT 사용하여 키워드 추출 및 벡터화 처리
     def __init__(self, stopwords_path = "data_source/stopwords.csv"):
@@ -57,7 +60,7 @@ class NLPProcessor:
             self.keybert_model = KeyBERT(self.keyword_model)
 
             # 2. 의미 벡터 변환용 모델 로드
-            vec_model_name = 'jhgan/ko-sbert-sts'
+            vec_model_name = VECTORIZER_MODEL_NAME
             logger.info(f"Loading Vectorizer Model: {vec_model_name}...")
             self.vectorizer_model = await asyncio.to_thread(SentenceTransformer, vec_model_name)
 
@@ -118,6 +121,15 @@ async def vectorize_query(query: str) -> np.ndarray:
 
     return embedding
 
+async def vectorize_texts(texts: List[str]) -> List[List[float]]:
+    # 여러 텍스트를 한 번의 encode 호출로 벡터화 (입력 순서 유지)
+    if not processor.vectorizer_model:
+        raise RuntimeError("Vectorizer model is not initialized.")
+    if not texts:
+        return []
+    embeddings = await asyncio.to_thread(processor.vectorizer_model.encode, texts)
+    return [emb.tolist() for emb in embeddings]
+
 async def vectorize_keywords(keywords: List[str]) -> Dict[str, List[float]]:
     # 키워드 '리스트'를 입력받아 벡터 '딕셔너리'를 반환
     if not processor.vectorizer_model:
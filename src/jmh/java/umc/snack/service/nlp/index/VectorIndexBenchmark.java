@@ -0,0 +1,75 @@
+package umc.snack.service.nlp.index;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VectorMatrix top-k vs 기존 방식(행마다 코사인을 스칼라로 계산 후 전체 정렬)
+ * - 기존 FastAPI 경로의 JSON 파싱/DB 전송 비용은 제외한 순수 연산 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VectorIndexBenchmark {
+
+    private static final int DIM = 768;
+    private static final int TOP_K = 400;
+
+    @Param({"10000", "100000", "1000000"})
+    public int articles;
+
+    private VectorMatrix matrix;
+    private float[][] rawVectors;
+    private float[] query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        matrix = new VectorMatrix(DIM, articles);
+        rawVectors = new float[articles][];
+        for (int i = 0; i < articles; i++) {
+            float[] v = randomVector(random);
+            rawVectors[i] = v;
+            matrix.put(i + 1, v);
+        }
+        query = randomVector(random);
+    }
+
+    @Benchmark
+    public void vectorMatrixTopK(Blackhole bh) {
+        bh.consume(matrix.topK(query, TOP_K));
+    }
+
+    @Benchmark
+    public void scalarFullScan(Blackhole bh) {
+        List<VectorMatrix.Scored> scored = new ArrayList<>(articles);
+        for (int i = 0; i < articles; i++) {
+            scored.add(new VectorMatrix.Scored(i + 1, cosine(query, rawVectors[i])));
+        }
+        scored.sort((a, b) -> Float.compare(b.score(), a.score()));
+        bh.consume(scored.subList(0, Math.min(TOP_K, scored.size())));
+    }
+
+    private static float cosine(float[] a, float[] b) {
+        double dot = 0, na = 0, nb = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            na += a[i] * a[i];
+            nb += b[i] * b[i];
+        }
+        return (float) (dot / (Math.sqrt(na) * Math.sqrt(nb)));
+    }
+
+    private static float[] randomVector(SplittableRandom random) {
+        float[] v = new float[DIM];
+        for (int i = 0; i < DIM; i++) {
+            v[i] = (float) (random.nextDouble() * 2 - 1);
+        }
+        return v;
+    }
+}
@@ -0,0 +1,80 @@
+package umc.snack.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import umc.snack.domain.article.event.ArticleReadyEvent;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 응답 ETag용 콘텐츠 버전 카운터
+ * - 기사 내용은 요약 파이프라인(ArticleReadyEvent)에서만 바뀌므로 이벤트마다 버전 증가
+ * - feed: READY 기사가 생길 때마다, 또는 카드의 카운트가 바뀌었을 때 주기적으로 증가 (피드 페이지 전체)
+ * - article: 해당 기사가 다시 READY가 될 때만 증가 (상세, 용어), 최근에 바뀐 기사만 메모리에 보관
+ * - related: 관련 기사 그래프가 바뀌거나 READY 기사가 생길 때 증가
+ * - 여러 기사가 한 번에 바뀌는 일괄 작업(원문 재추출 등)은 전체 기사 버전을 함께 올림
+ * - 카운터는 메모리에만 있으므로 기동 시각(epoch)을 앞에 붙여 재시작 후 이전 ETag와 섞이지 않게 함
+ */
+@Component
+public class ContentVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong feedVersion = new AtomicLong();
+    private final AtomicLong relatedVersion = new AtomicLong();
+    private final AtomicLong allArticlesVersion = new AtomicLong();
+    // 기사별 버전 = 마지막으로 바뀐 시점의 전역 순번, 최근에 바뀐 기사만 보관 (제한 없이 늘지 않도록)
+    private final AtomicLong articleSequence = new AtomicLong();
+    // 밀려난 기사의 버전 중 최댓값 - 밀려난 기사는 이 값을 버전으로 씀
+    // (그 기사의 이전 버전보다 항상 크거나 같으므로 예전 ETag가 다시 일치하지 않음)
+    private final AtomicLong evictedFloor = new AtomicLong();
+    private final Cache<Long, Long> articleVersions = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofDays(7))
+            // 밀려나는 시점에 동기로 반영 (조회가 밀려난 기사를 이전 floor로 보는 틈이 없도록)
+            .evictionListener((Long articleId, Long version, RemovalCause cause) -> {
+                if (version != null) evictedFloor.accumulateAndGet(version, Math::max);
+            })
+            .build();
+
+    @TransactionalEventListener
+    public void onArticleReady(ArticleReadyEvent event) {
+        articleVersions.put(event.articleId(), articleSequence.incrementAndGet());
+        feedVersion.incrementAndGet();
+        relatedVersion.incrementAndGet();
+    }
+
+    public void touchFeed() {
+        feedVersion.incrementAndGet();
+    }
+
+    public void touchRelated() {
+        relatedVersion.incrementAndGet();
+    }
+
+    public void touchAllArticles() {
+        allArticlesVersion.incrementAndGet();
+        feedVersion.incrementAndGet();
+        relatedVersion.incrementAndGet();
+    }
+
+    public String feed() {
+        return epoch + "." + feedVersion.get();
+    }
+
+    public String article(Long articleId) {
+        return epoch + "." + allArticlesVersion.get() + "." + articleVersion(articleId);
+    }
+
+    private long articleVersion(Long articleId) {
+        Long version = articleVersions.getIfPresent(articleId);
+        return version != null ? version : evictedFloor.get();
+    }
+
+    public String related() {
+        return epoch + "." + relatedVersion.get();
+    }
+}
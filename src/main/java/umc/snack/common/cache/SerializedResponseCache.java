@@ -0,0 +1,129 @@
+package umc.snack.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+import umc.snack.common.config.CacheConfig;
+import umc.snack.common.dto.ApiResponse;
+import umc.snack.common.exception.CustomException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화된 ApiResponse 바이트 캐시 + ETag/304 처리
+ * - 키 = 요청 리소스 키 + 콘텐츠 버전, 값 = JSON 바이트와 (충분히 크면) gzip 바이트
+ * - 요청 값 검증 후 If-None-Match가 현재 ETag와 같으면 조회/직렬화 없이 304
+ * - ETag는 콘텐츠 버전만으로 만들어지므로 304 판단에는 캐시 조회도 필요 없음
+ * - 서비스 예외는 그대로 전파되어 GlobalExceptionHandler가 처리 (캐시하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class SerializedResponseCache {
+
+    // 이보다 작은 응답은 gzip 이득보다 헤더/CPU 비용이 큼
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    public ResponseEntity<byte[]> respond(WebRequest request, String key, String version,
+                                          Supplier<ApiResponse<?>> body) {
+        return respond(request, key, version, () -> {}, body);
+    }
+
+    /**
+     * @param validate 요청 값 검증 - 304 판단보다 먼저 실행 (잘못된 요청은 ETag가 맞아도 오류 응답)
+     */
+    public ResponseEntity<byte[]> respond(WebRequest request, String key, String version, Runnable validate,
+                                          Supplier<ApiResponse<?>> body) {
+        validate.run();
+        boolean acceptsGzip = acceptsGzip(request);
+
+        // 작은 응답은 gzip 표현이 없으므로, 304 판단은 두 표현의 ETag 중 어느 쪽이 와도 허용 (캐시 조회 전)
+        String identityEtag = etag(version, false);
+        String gzipEtag = etag(version, true);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            String matched = ifNoneMatch.contains(gzipEtag) ? gzipEtag
+                    : ifNoneMatch.contains(identityEtag) ? identityEtag : null;
+            if (matched != null) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(matched)
+                        .cacheControl(CacheControl.noCache())
+                        .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                        .build();
+            }
+        }
+
+        Serialized serialized;
+        try {
+            serialized = cache().get(key + "#" + version, () -> serialize(body.get()));
+        } catch (Cache.ValueRetrievalException e) {
+            // 로더에서 던진 비즈니스 예외는 그대로 전달
+            if (e.getCause() instanceof CustomException ce) {
+                throw ce;
+            }
+            throw e;
+        }
+        boolean gzip = acceptsGzip && serialized.gzip() != null;
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(gzip ? gzipEtag : identityEtag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return builder.body(serialized.gzip());
+        }
+        return builder.body(serialized.json());
+    }
+
+    private Serialized serialize(ApiResponse<?> response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            return new Serialized(json, json.length >= GZIP_MIN_BYTES ? gzip(json) : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private static String etag(String version, boolean gzip) {
+        return "\"" + version + (gzip ? "-gz" : "") + "\"";
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheConfig.SERIALIZED_RESPONSES);
+    }
+
+    public record Serialized(byte[] json, byte[] gzip) {
+        public int weight() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package umc.snack.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import umc.snack.common.cache.SerializedResponseCache;
+import umc.snack.domain.nlp.dto.SearchResponseDto;
+
+import java.time.Duration;
+
+/**
+ * 캐시별 개별 설정
+ * - 기본 캐시는 application.yml의 spring.cache.caffeine.spec을 그대로 사용
+ * - 크기/만료 정책이 다른 캐시만 여기서 따로 등록
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String FEED_SNAPSHOT = "feed-snapshot";
+    public static final String SEARCH_RESULTS = "search-results";
+    public static final String QUERY_EMBEDDINGS = "query-embeddings";
+    public static final String RELATED_ARTICLES = "related-articles";
+    public static final String SERIALIZED_RESPONSES = "serialized-responses";
+
+    @Value("${feed.snapshot.ttl-minutes:30}")
+    private long feedSnapshotTtlMinutes;
+
+    @Value("${feed.snapshot.max-entries:10000}")
+    private long feedSnapshotMaxEntries;
+
+    // 검색 결과 캐시 용량: 엔트리 수가 아니라 보관 중인 검색 결과(기사) 수 합계 기준
+    @Value("${search.cache.max-results:30000}")
+    private long searchCacheMaxResults;
+
+    @Value("${search.cache.ttl-minutes:30}")
+    private long searchCacheTtlMinutes;
+
+    @Value("${nlp.embedding.cache.max-entries:50000}")
+    private long queryEmbeddingMaxEntries;
+
+    @Value("${article.related.cache.max-entries:20000}")
+    private long relatedArticlesMaxEntries;
+
+    @Value("${article.related.cache.ttl-minutes:10}")
+    private long relatedArticlesTtlMinutes;
+
+    // 직렬화 응답 캐시 용량: 보관 중인 JSON + gzip 바이트 합계 기준
+    @Value("${response.cache.max-bytes:67108864}")
+    private long responseCacheMaxBytes;
+
+    @Value("${response.cache.ttl-minutes:30}")
+    private long responseCacheTtlMinutes;
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> customCacheRegistrar() {
+        return cacheManager -> {
+            // 맞춤 피드 랭킹 스냅샷: 사용자 스크롤 세션 동안만 유지
+            cacheManager.registerCustomCache(FEED_SNAPSHOT, Caffeine.newBuilder()
+                    .maximumSize(feedSnapshotMaxEntries)
+                    .expireAfterAccess(Duration.ofMinutes(feedSnapshotTtlMinutes))
+                    .recordStats()
+                    .build());
+
+            // 의미 검색 결과: 검색어별 전체 랭킹 목록, 새 기사 READY 시 전체 무효화
+            cacheManager.registerCustomCache(SEARCH_RESULTS, Caffeine.newBuilder()
+                    .maximumWeight(searchCacheMaxResults)
+                    .weigher((Object key, Object value) -> value instanceof SearchResponseDto result && result.getArticles() != null
+                            ? Math.max(1, result.getArticles().size())
+                            : 1)
+                    .expireAfterWrite(Duration.ofMinutes(searchCacheTtlMinutes))
+                    .recordStats()
+                    .build());
+
+            // 검색어 임베딩: 키에 모델 버전이 포함되므로 만료 없이 용량으로만 관리
+            cacheManager.registerCustomCache(QUERY_EMBEDDINGS, Caffeine.newBuilder()
+                    .maximumSize(queryEmbeddingMaxEntries)
+                    .recordStats()
+                    .build());
+
+            // 관련 기사: 이웃 목록이 배치로 갱신되므로 배치 주기 수준으로만 유지
+            cacheManager.registerCustomCache(RELATED_ARTICLES, Caffeine.newBuilder()
+                    .maximumSize(relatedArticlesMaxEntries)
+                    .expireAfterWrite(Duration.ofMinutes(relatedArticlesTtlMinutes))
+                    .recordStats()
+                    .build());
+
+            // 직렬화된 응답: 키에 콘텐츠 버전이 포함되므로 이전 버전은 접근이 끊기면 자연히 만료
+            cacheManager.registerCustomCache(SERIALIZED_RESPONSES, Caffeine.newBuilder()
+                    .maximumWeight(responseCacheMaxBytes)
+                    .weigher((Object key, Object value) -> value instanceof SerializedResponseCache.Serialized serialized
+                            ? serialized.weight()
+                            : 1)
+                    .expireAfterAccess(Duration.ofMinutes(responseCacheTtlMinutes))
+                    .recordStats()
+                    .build());
+        };
+    }
+}
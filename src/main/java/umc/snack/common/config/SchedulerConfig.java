@@ -2,18 +2,43 @@ package umc.snack.common.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+/**
+ * 스케줄러 두 개로 분리
+ * - taskScheduler(기본): 크롤링/요약/재추출/감쇠/재계산/관련 기사 그래프처럼 수 분씩 걸리는 작업
+ * - flushScheduler: 수 초 주기의 write-behind 반영과 인메모리 인덱스 갱신
+ *   → 긴 작업이 돌고 있어도 반영이 밀리지 않음 (장애 시 유실 = 반영 주기 1회분 유지)
+ *   → 작업마다 스레드 하나씩 돌 수 있게 풀 크기 = 등록된 작업 수 (작업을 추가하면 함께 늘릴 것)
+ */
 @Configuration
 public class SchedulerConfig {
 
+    public static final String FLUSH_SCHEDULER = "flushScheduler";
+
+    // RecentSearchKeywordStore, ArticleCounterService, UserProfileUpdateCoalescer,
+    // UserCategoryScoreUpdater.flush, SemanticVectorIndex.refresh, FeedTimelineCache.prune
+    private static final int FLUSH_JOBS = 6;
+
     @Bean
+    @Primary
     public TaskScheduler taskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-        scheduler.setPoolSize(2); // 적당한 값
+        // 크롤링(+재개)/요약/재추출/관련 기사 그래프/감쇠·재계산이 같은 시각에 겹쳐도 서로 밀리지 않을 정도
+        scheduler.setPoolSize(4);
         scheduler.setThreadNamePrefix("task-");
         scheduler.initialize();
         return scheduler;
     }
+
+    @Bean(name = FLUSH_SCHEDULER)
+    public TaskScheduler flushScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(FLUSH_JOBS);
+        scheduler.setThreadNamePrefix("flush-");
+        scheduler.initialize();
+        return scheduler;
+    }
 }
@@ -143,6 +143,7 @@ public enum ErrorCode {
     FEED_9604(401, "로그인이 필요한 서비스입니다."),
     FEED_9605(400, "페이지 값이 유효하지 않습니다."),
     FEED_9606(200, "검색 결과가 없습니다."),
+    FEED_9607(410, "맞춤 피드 목록이 만료되었습니다. 처음부터 다시 조회해주세요."),
 
     // 파일/File (9700-9799)
     FILE_NOT_PROVIDED(400, "파일이 제공되지 않았습니다."),
@@ -0,0 +1,177 @@
+package umc.snack.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기사 파이프라인(수집 → 저장 → 요약 → 벡터화) 지표
+ * - 이름/태그를 한 곳에 모아 두고 각 단계는 이 메서드들만 호출 (/actuator/metrics 로 조회)
+ * - 지연 시간 타이머는 백분위 히스토그램을 함께 내보내 SLO(발행 → READY 등) 설정에 사용
+ * - host/reason/stage 태그 값은 고정된 소수 집합만 사용 (URL 등 고유값을 태그로 넣지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class PipelineMetrics {
+
+    public static final String OK = "ok";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry registry;
+
+    /**
+     * 크롤링 단계별 소요 시간 (collect, crawl, extract, persist.articles, persist.categories, persist.contents …)
+     */
+    public void crawlStage(String stage, long nanos) {
+        Timer.builder("snack.crawl.stage")
+                .description("크롤링 단계별 소요 시간")
+                .tag("stage", stage)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 페이지 조회 (네트워크 구간만, 속도 제한 대기는 따로)
+     */
+    public void fetch(String host, long nanos, String outcome) {
+        Timer.builder("snack.crawl.fetch")
+                .description("크롤러 HTTP 조회 지연")
+                .tags("host", host, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void fetchWait(String host, long nanos) {
+        Timer.builder("snack.crawl.fetch.wait")
+                .description("동시 요청 상한/호스트 속도 제한 대기 시간")
+                .tag("host", host)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void fetchedBytes(String host, long bytes) {
+        DistributionSummary.builder("snack.crawl.fetch.bytes")
+                .description("조회한 페이지 본문 크기")
+                .baseUnit("bytes")
+                .tag("host", host)
+                .register(registry)
+                .record(bytes);
+    }
+
+    public void parse(long nanos) {
+        Timer.builder("snack.crawl.parse")
+                .description("HTML 파싱 시간")
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 채택하지 않은 기사 수 (already_crawled, invalid_body, near_duplicate, batch_duplicate, fetch_error, extract_error …)
+     */
+    public void rejected(String reason) {
+        rejected(reason, 1);
+    }
+
+    public void rejected(String reason, int count) {
+        if (count <= 0) return;
+        Counter.builder("snack.crawl.rejected")
+                .description("수집/저장 단계에서 걸러진 기사 수")
+                .tag("reason", reason)
+                .register(registry)
+                .increment(count);
+    }
+
+    /**
+     * 저장 결과 (processed, duplicate, failed)
+     */
+    public void persisted(String status, int count) {
+        if (count <= 0) return;
+        Counter.builder("snack.crawl.persisted")
+                .description("crawled_articles 기록 수")
+                .tag("status", status)
+                .register(registry)
+                .increment(count);
+    }
+
+    public void geminiCall(String model, long nanos, String outcome) {
+        Timer.builder("snack.gemini.request")
+                .description("Gemini 호출 지연 (재시도 한 번 = 한 건)")
+                .tags("model", model, "outcome", outcome)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofMinutes(3))
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void geminiRetry(String model, String reason) {
+        Counter.builder("snack.gemini.retries")
+                .description("Gemini 호출 재시도 수")
+                .tags("model", model, "reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 토큰 사용량 (type = prompt | completion | total)
+     */
+    public void geminiTokens(String model, String type, Integer tokens) {
+        if (tokens == null) return;
+        DistributionSummary.builder("snack.gemini.tokens")
+                .description("Gemini 호출당 토큰 수")
+                .baseUnit("tokens")
+                .tags("model", model, "type", type)
+                .register(registry)
+                .record(tokens);
+    }
+
+    public void summarize(long nanos, String outcome) {
+        Timer.builder("snack.summarize.article")
+                .description("기사 한 건 요약(호출 + 파싱 + 저장) 시간")
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void vectorize(long nanos, int articles, String outcome) {
+        Timer.builder("snack.nlp.vectorize")
+                .description("FastAPI 기사 벡터화 요청 시간")
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (articles > 0) {
+            DistributionSummary.builder("snack.nlp.vectorize.articles")
+                    .description("벡터화 요청당 기사 수")
+                    .register(registry)
+                    .record(articles);
+        }
+    }
+
+    /**
+     * 기사가 READY가 되기까지 걸린 시간 (from = published: 언론사 발행 시각, crawled: 기사 행 생성 시각)
+     */
+    public void articleReady(LocalDateTime publishedAt, LocalDateTime crawledAt) {
+        LocalDateTime now = LocalDateTime.now();
+        recordReady("published", publishedAt, now);
+        recordReady("crawled", crawledAt, now);
+    }
+
+    private void recordReady(String from, LocalDateTime since, LocalDateTime now) {
+        if (since == null || since.isAfter(now)) return;
+        Timer.builder("snack.article.ready.latency")
+                .description("기사가 READY가 되기까지 걸린 시간")
+                .tag("from", from)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMinutes(1))
+                .maximumExpectedValue(Duration.ofDays(2))
+                .register(registry)
+                .record(Duration.between(since, now));
+    }
+}
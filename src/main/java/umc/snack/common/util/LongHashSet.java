@@ -0,0 +1,85 @@
+package umc.snack.common.util;
+
+import java.util.Arrays;
+
+/**
+ * long 전용 오픈 어드레싱 해시 집합 (박싱 없이 원소당 약 8~16바이트)
+ * - 0은 빈 칸 표시로 쓰므로 별도 플래그로 관리
+ * - 동기화하지 않음 (공유 시 호출 측에서 잠금)
+ */
+public final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] table;
+    private int size;
+    private int resizeAt;
+    private boolean containsZero;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int slot = slotOf(table, value);
+        if (table[slot] == value) return false;
+        table[slot] = value;
+        if (++size >= resizeAt) rehash(table.length << 1);
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) return containsZero;
+        return table[slotOf(table, value)] == value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(table, EMPTY);
+        containsZero = false;
+        size = 0;
+    }
+
+    // value가 있는 칸, 없으면 처음 만나는 빈 칸 (선형 탐사)
+    private static int slotOf(long[] table, long value) {
+        int mask = table.length - 1;
+        int slot = mix(value) & mask;
+        while (table[slot] != EMPTY && table[slot] != value) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void rehash(int capacity) {
+        long[] old = table;
+        allocate(capacity);
+        for (long value : old) {
+            if (value != EMPTY) table[slotOf(table, value)] = value;
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+}
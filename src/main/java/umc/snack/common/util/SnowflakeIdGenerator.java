@@ -0,0 +1,59 @@
+package umc.snack.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+
+/**
+ * 충돌 없는 64비트 ID 생성기 (Snowflake 방식)
+ * - [41비트 밀리초(2025-01-01 기준)] [10비트 노드 ID] [12비트 같은 밀리초 내 순번]
+ * - 노드당 밀리초마다 4096개까지, 여러 노드가 동시에 생성해도 겹치지 않음
+ * - 시계가 뒤로 가면 마지막 시각을 계속 사용해 단조 증가를 유지
+ */
+@Slf4j
+@Component
+public class SnowflakeIdGenerator {
+
+    private static final long EPOCH_MILLIS = 1735657200000L; // 2025-01-01T00:00:00+09:00
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private long lastMillis = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeIdGenerator(@Value("${app.node-id:-1}") long configuredNodeId) {
+        this.nodeId = configuredNodeId >= 0 ? configuredNodeId & MAX_NODE : hostNodeId();
+        log.info("ID 생성기 노드 ID: {}", nodeId);
+    }
+
+    public synchronized long nextId() {
+        long now = Math.max(System.currentTimeMillis(), lastMillis);
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 밀리초 순번 소진 → 다음 밀리초까지 대기
+                while ((now = System.currentTimeMillis()) <= lastMillis) {
+                    Thread.onSpinWait();
+                }
+            }
+        } else {
+            sequence = 0L;
+        }
+        lastMillis = now;
+        return ((now - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    // 설정이 없으면 호스트명(컨테이너 ID) 해시로 노드 구분
+    private static long hostNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName().hashCode() & MAX_NODE;
+        } catch (Exception e) {
+            return (long) (Math.random() * MAX_NODE);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package umc.snack.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 기사 본문 압축 (deflate + 한국어 뉴스 공용 사전)
+ * - 형식: [1바이트 버전][raw deflate]
+ *   - 0: 압축 안 함 (짧아서 압축하면 오히려 커질 때)
+ *   - 1: DICTIONARY_V1을 미리 넣은 deflate
+ * - 사전은 바꾸면 기존 행을 풀 수 없으므로, 내용을 바꿀 땐 새 버전을 추가하고 이전 사전은 그대로 둠
+ * - 기사 하나는 수 KB라 사전 없는 deflate는 앞부분에서 참조할 문자열이 부족함 → 자주 나오는 표현을 미리 넣어 보완
+ */
+public final class TextCompressor {
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATE_V1 = 1;
+
+    // 자주 쓰이는 표현일수록 뒤쪽에 (deflate는 가까운 거리의 참조가 더 짧게 부호화됨)
+    private static final byte[] DICTIONARY_V1 = String.join(" ",
+            "코스피 코스닥 환율 금리 물가 부동산 아파트 전세 대출 수출 반도체 인공지능 AI 플랫폼 스타트업",
+            "대통령실 국회 여당 야당 더불어민주당 국민의힘 국무총리 장관 의원 위원장 대표 후보 선거 여론조사",
+            "검찰 경찰 법원 재판부 혐의 구속 기소 수사 조사 피의자 피해자 사건 사고 화재 실종",
+            "미국 중국 일본 북한 러시아 우크라이나 유럽 트럼프 정상회담 외교부 국방부 기획재정부",
+            "서울 부산 인천 대구 광주 대전 경기도 서울시 정부 지방자치단체 기업 회장 사장 임원 직원",
+            "지난해 올해 내년 이날 오전 오후 현재 최근 이번 지난 다음 상반기 하반기 분기 전년 대비 증가 감소",
+            "억원 조원 만원 달러 퍼센트 % 포인트 명 건 개 곳 차례 가구 연간 월간 누적",
+            "이에 따라 이와 관련해 한편 또한 특히 다만 그러나 하지만 아울러 이어 이후 앞서 동시에",
+            "것으로 알려졌다 것으로 나타났다 것으로 보인다 것으로 전해졌다 것으로 예상된다 할 계획이다 할 방침이다",
+            "고 설명했다 고 강조했다 고 덧붙였다 고 지적했다 고 전했다 고 발표했다 고 주장했다 고 당부했다",
+            "라고 말했다 이라고 말했다 고 말했다 고 밝혔다 라고 밝혔다 이라고 밝혔다 에 따르면 관계자는",
+            "사진 연합뉴스 뉴스1 뉴시스 기자 특파원 앵커 리포트 제공 자료사진 그래픽",
+            "무단 전재 및 재배포 금지 무단전재 및 재배포 금지 저작권자 ⓒ 기자 = 에 따르면 했다 했다.",
+            "있다. 했다. 밝혔다. 말했다. 것이다. 했다고 밝혔다. 있는 것으로 나타났다. 등을 통해 에 대해 에서 으로 했다"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private TextCompressor() {
+    }
+
+    public static byte[] compress(String text) {
+        if (text == null) return null;
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setDictionary(DICTIONARY_V1);
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            out.write(DEFLATE_V1);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            if (out.size() < raw.length + 1) return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+
+        byte[] stored = new byte[raw.length + 1];
+        stored[0] = RAW;
+        System.arraycopy(raw, 0, stored, 1, raw.length);
+        return stored;
+    }
+
+    public static String decompress(byte[] stored) {
+        if (stored == null) return null;
+        if (stored.length == 0) throw new IllegalArgumentException("압축 본문 형식 오류: 빈 값");
+        return switch (stored[0]) {
+            case RAW -> new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+            case DEFLATE_V1 -> inflate(stored, DICTIONARY_V1);
+            default -> throw new IllegalArgumentException("압축 본문 형식 오류: 알 수 없는 버전 " + stored[0]);
+        };
+    }
+
+    private static String inflate(byte[] stored, byte[] dictionary) {
+        // raw deflate는 사전 요청(needsDictionary)을 알리지 않으므로 시작 전에 넣음
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setDictionary(dictionary);
+            inflater.setInput(stored, 1, stored.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(stored.length * 3);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("압축 본문 형식 오류: 데이터가 잘림");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("압축 본문 형식 오류: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -1,11 +1,10 @@
 package umc.snack.controller.article;
 
-import umc.snack.domain.article.dto.ArticleDto;
-
 import umc.snack.domain.article.dto.RelatedArticleDto;
 import umc.snack.domain.article.entity.CrawledArticle;
-import umc.snack.domain.term.dto.TermResponseDto;
 import umc.snack.domain.user.dto.UserClicksDto;
+import umc.snack.crawler.service.CrawlRunLedger;
+import umc.snack.repository.article.CrawlLedgerRepository;
 import umc.snack.repository.article.CrawledArticleRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,9 +14,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import umc.snack.common.cache.ContentVersions;
+import umc.snack.common.cache.SerializedResponseCache;
 import umc.snack.common.config.security.CustomUserDetails;
 import umc.snack.common.dto.ApiResponse;
+import umc.snack.service.article.ArticleCounterService;
 import umc.snack.service.article.ArticleService;
 import umc.snack.service.user.UserClickService;
 
@@ -32,20 +35,32 @@ import java.util.Map;
 public class ArticleController {
 
     private final CrawledArticleRepository crawledArticleRepository;
+    private final CrawlRunLedger crawlRunLedger;
     private final ArticleService articleService;
     private final UserClickService userClickService;
+    private final ArticleCounterService articleCounterService;
+    private final SerializedResponseCache serializedResponseCache;
+    private final ContentVersions contentVersions;
 
     @Operation(summary = "기사 크롤링 상태 확인", description = "현재 크롤링 작업이 진행 중인지 확인합니다.")
     @GetMapping("/crawl/status")
     public ResponseEntity<ApiResponse<Map<String, Long>>> checkCrawlStatus() {
-        long total   = crawledArticleRepository.count();
-        long success = crawledArticleRepository.countByStatus(CrawledArticle.Status.PROCESSED);
-        long failed  = crawledArticleRepository.countByStatus(CrawledArticle.Status.FAILED);
+        // 저장 때 증분으로 유지하는 누적 카운터 한 행 조회 (카운터 행이 아직 없으면 상태별 집계로 대체)
+        CrawlLedgerRepository.StatsRow stats = crawlRunLedger.stats().orElseGet(() -> {
+            long total = 0, success = 0, failed = 0;
+            for (CrawledArticleRepository.StatusCount row : crawledArticleRepository.countGroupByStatus()) {
+                total += row.getCount();
+                if (row.getStatus() == CrawledArticle.Status.PROCESSED) success = row.getCount();
+                else if (row.getStatus() == CrawledArticle.Status.FAILED) failed = row.getCount();
+            }
+            return new CrawlLedgerRepository.StatsRow(total, success, failed);
+        });
 
         Map<String, Long> result = Map.of(
-                "total",   total,
-                "success", success,
-                "failed",  failed
+                "total",   stats.total(),
+                "success", stats.processed(),
+                "failed",  stats.failed(),
+                "running", (long) crawlRunLedger.runningRuns()
         );
 
         return ResponseEntity.ok(
@@ -61,60 +76,53 @@ public class ArticleController {
     @Operation(summary = "기사 상세 정보 조회", description = "기사 요약내용, 원본 url 등 기사의 상세 정보를 제공합니다. " +
             "로그인한 사용자의 경우 자동으로 클릭 로그가 저장됩니다.")
     @GetMapping("/{articleId}")
-    public ResponseEntity<ApiResponse<ArticleDto>> getArticle(
+    public ResponseEntity<byte[]> getArticle(
             @PathVariable Long articleId,
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
-        
-        // 기사 조회
-        ArticleDto dto = articleService.getArticleById(articleId);
-        
-        // 로그인한 사용자라면 클릭 로그 자동 저장 
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest request) {
+
+        // 조회수는 메모리 카운터에만 더하고 주기적으로 DB 반영 (304 응답이어도 조회로 집계)
+        articleCounterService.increment(articleId, ArticleCounterService.Counter.VIEW);
+
+        // 로그인한 사용자라면 클릭 로그 접수 (큐에 넣기만 하므로 응답 지연 없음, 304 응답이어도 기록)
         if (userDetails != null) {
-            try {
-                UserClicksDto clickDto = UserClicksDto.builder()
+            userClickService.saveUserClick(UserClicksDto.builder()
                     .userId(userDetails.getUserId())
                     .articleId(articleId)
-                    .build();
-                userClickService.saveUserClick(clickDto);
-            } catch (Exception e) {
-                // 클릭 로그 저장 실패해도 기사 조회는 성공 (에러 무시)
-            }
+                    .build());
         }
-        
-        return ResponseEntity.ok(
-                ApiResponse.onSuccess(
+
+        // 기사 조회 (같은 버전이면 직렬화된 응답 재사용, If-None-Match 일치 시 304)
+        return serializedResponseCache.respond(request, "article:" + articleId, contentVersions.article(articleId),
+                () -> ApiResponse.onSuccess(
                         "ARTICLE_9001",
                         "기사 정보를 성공적으로 불러왔습니다.",
-                        dto
-                )
-        );
+                        articleService.getArticleById(articleId)
+                ));
     }
 
 
     @Operation(summary = "주요 용어 조회", description = "기사에 대해 추출된 용어들을 조회합니다.")
     @GetMapping("/{articleId}/terms")
-    public ResponseEntity<ApiResponse<List<TermResponseDto>>> getTerms(@PathVariable Long articleId) {
-        List<TermResponseDto> terms = articleService.getTermsByArticleId(articleId);
-        return ResponseEntity.ok(
-                ApiResponse.onSuccess(
+    public ResponseEntity<byte[]> getTerms(@PathVariable Long articleId, WebRequest request) {
+        return serializedResponseCache.respond(request, "terms:" + articleId, contentVersions.article(articleId),
+                () -> ApiResponse.onSuccess(
                         "ARTICLE_9002",
                         "기사 주요 용어 조회 성공",
-                        terms
-                )
-        );
+                        articleService.getTermsByArticleId(articleId)
+                ));
     }
 
-    @Operation(summary = "관련 기사 조회", description = "현재 보고 있는 기사와 카테고리가 같은 관련 기사를 추천합니다.")
+    @Operation(summary = "관련 기사 조회", description = "현재 보고 있는 기사와 의미가 가까운 관련 기사를 추천합니다. " +
+            "유사 기사가 부족하면 같은 카테고리의 최신 기사로 채웁니다.")
     @GetMapping("/{articleId}/related-articles")
-    public ResponseEntity<ApiResponse<List<RelatedArticleDto>>> getRelatedArticles(@PathVariable Long articleId) {
-        List<RelatedArticleDto> relatedArticles = articleService.findRelatedArticles(articleId);
-        if (relatedArticles.isEmpty()) {
-            return ResponseEntity.ok(
-                    ApiResponse.onSuccess("ARTICLE_9004", "해당 기사와 관련된 기사가 없습니다.", List.of()));
-        } else {
-            return ResponseEntity.ok(
-                    ApiResponse.onSuccess("ARTICLE_9003", "관련 기사 조회에 성공하였습니다.", relatedArticles)
-            );
-        }
+    public ResponseEntity<byte[]> getRelatedArticles(@PathVariable Long articleId, WebRequest request) {
+        return serializedResponseCache.respond(request, "related:" + articleId, contentVersions.related(), () -> {
+            List<RelatedArticleDto> relatedArticles = articleService.findRelatedArticles(articleId);
+            if (relatedArticles.isEmpty()) {
+                return ApiResponse.onSuccess("ARTICLE_9004", "해당 기사와 관련된 기사가 없습니다.", List.of());
+            }
+            return ApiResponse.onSuccess("ARTICLE_9003", "관련 기사 조회에 성공하였습니다.", relatedArticles);
+        });
     }
 }
\ No newline at end of file
@@ -10,14 +10,20 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import umc.snack.common.cache.ContentVersions;
+import umc.snack.common.cache.SerializedResponseCache;
 import umc.snack.common.config.security.CustomUserDetails;
 import umc.snack.common.dto.ApiResponse;
 import umc.snack.common.exception.ErrorCode;
 import umc.snack.domain.article.entity.Article;
 import umc.snack.domain.feed.dto.ArticleInFeedDto;
+import umc.snack.domain.nlp.dto.ArticleSearchResultDto;
 import umc.snack.domain.nlp.dto.SearchResponseDto;
 import umc.snack.repository.user.SearchKeywordRepository;
 import umc.snack.service.feed.FeedService;
+import umc.snack.service.feed.UserCategoryScoreUpdater;
+import umc.snack.service.feed.trending.TrendingService;
 import umc.snack.service.nlp.NlpService;
 import umc.snack.service.user.SearchKeywordService;
 
@@ -30,19 +36,51 @@ import java.util.List;
 public class FeedController {
     private final FeedService feedService;
     private final SearchKeywordService searchKeywordService;
+    private final SerializedResponseCache serializedResponseCache;
+    private final ContentVersions contentVersions;
+    private final TrendingService trendingService;
+    private final UserCategoryScoreUpdater userCategoryScoreUpdater;
+
+    private static final int TRENDING_MAX_SIZE = 50;
+
     @Operation(summary = "메인 피드에서 기사 제공", description = "메인 피드에서 특정 카테고리의 기사를 무한스크롤 조회합니다.")
+    @Parameter(name = "cursor", description = "이전 응답의 nextCursor 값. 첫번째 조회시에는 생략")
     @GetMapping("/feeds/main")
-    public ApiResponse<ArticleInFeedDto> getMainFeedArticles(
+    public ResponseEntity<byte[]> getMainFeedArticles(
             @RequestParam(value = "category", required = false) List<String> category,
-            @RequestParam(required = false) Long lastArticleId,
-            @AuthenticationPrincipal Long userId) {
+            @RequestParam(required = false) String cursor,
+            @AuthenticationPrincipal Long userId,
+            WebRequest request) {
+
+        // 메인 피드는 사용자와 무관하므로 (카테고리, 커서) 단위로 직렬화된 응답 재사용
+        String key = "feed:main:" + (category == null ? "" : String.join(",", category)) + ":" + (cursor == null ? "" : cursor);
+        return serializedResponseCache.respond(request, key, contentVersions.feed(),
+                () -> feedService.validateMainFeedRequest(category, cursor),
+                () -> ApiResponse.onSuccess("FEED_9501", "메인 피드 조회에 성공하였습니다",
+                        feedService.getMainFeedByCategories(category, cursor, userId)));
+    }
 
-        ArticleInFeedDto responseDto = feedService.getMainFeedByCategories(category, lastArticleId, userId);
 
-        return ApiResponse.onSuccess("FEED_9501", "메인 피드 조회에 성공하였습니다", responseDto);
+    @Operation(summary = "실시간 인기 기사", description = "최근 1시간 동안 조회·스크랩·공유가 많은 기사를 최근 반응에 가중치를 두어 조회합니다.")
+    @Parameters({
+            @Parameter(name = "category", description = "카테고리 이름. 생략하면 전체"),
+            @Parameter(name = "size", description = "조회할 기사 수 (최대 50)")
+    })
+    @GetMapping("/feeds/trending")
+    public ResponseEntity<byte[]> getTrendingArticles(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            WebRequest request) {
+
+        int limit = Math.max(1, Math.min(size, TRENDING_MAX_SIZE));
+        // 집계 스냅샷이 바뀌거나 피드 표시 수치가 갱신되면 새 버전
+        String key = "feed:trending:" + (category == null ? "" : category) + ":" + limit;
+        return serializedResponseCache.respond(request, key, "t" + trendingService.version() + "-" + contentVersions.feed(),
+                () -> feedService.validateTrendingRequest(category),
+                () -> ApiResponse.onSuccess("FEED_9509", "트렌딩 기사 조회에 성공하였습니다",
+                        feedService.getTrending(category, limit)));
     }
 
-
     @Operation(summary = "의미 기반 기사 검색", description = "검색어를 기반으로 의미적으로 유사한 기사를 조회합니다.\n\n" +
             "※ 로그인한 경우에만 검색어가 저장됩니다.")
     @GetMapping("articles/search")
@@ -63,6 +101,13 @@ public class FeedController {
 
         SearchResponseDto result = feedService.searchArticlesByQuery(query, page, size, threshold);
 
+        // 로그인한 경우 상위 검색 결과의 카테고리에 검색 선호 점수 반영 (검색 한 번 = 첫 페이지 한 번, 다음 페이지 조회는 제외)
+        if (page == 0 && userDetails != null && result.getArticles() != null) {
+            userCategoryScoreUpdater.recordSearch(userDetails.getUser().getUserId(), result.getArticles().stream()
+                    .map(ArticleSearchResultDto::getArticleId)
+                    .toList());
+        }
+
         if (result.getArticles() == null || result.getArticles().isEmpty()) {
             return ResponseEntity.status(HttpStatus.NO_CONTENT)
                     .body(ApiResponse.onFailure(
@@ -78,11 +123,11 @@ public class FeedController {
     }
 
     @Operation(summary = "맞춤 피드에서 기사 제공", description = "사용자의 상위 관심 카테고리 3개에 대한 기사를 최신순으로 무한스크롤 조회합니다.")
-    @Parameter(name = "lastArticleId", description = "마지막으로 조회한 기사의 ID. 첫번째 조회시에는 생략")
+    @Parameter(name = "cursor", description = "이전 응답의 nextCursor 값. 첫번째 조회시에는 생략")
     @GetMapping("feeds/personalized")
     public ApiResponse<ArticleInFeedDto> getPersonalizedFeedArticles(
             @AuthenticationPrincipal CustomUserDetails userDetails,
-            @RequestParam(required = false) Long lastArticleId) {
+            @RequestParam(required = false) String cursor) {
 
         if (userDetails == null) {
             return ApiResponse.onFailure("FEED_9604", "로그인이 필요한 서비스입니다.", null);
@@ -90,7 +135,7 @@ public class FeedController {
 
         Long userId = userDetails.getUserId();
 
-        ArticleInFeedDto responseDto = feedService.getPersonalizedFeed(userId, lastArticleId);
+        ArticleInFeedDto responseDto = feedService.getPersonalizedFeed(userId, cursor);
         
         return ApiResponse.onSuccess("FEED_9503", "맞춤 피드 조회에 성공하였습니다", responseDto);
     }
@@ -1,39 +1,75 @@
 package umc.snack.converter.feed;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import umc.snack.domain.article.entity.Article;
 import umc.snack.domain.feed.dto.ArticleInFeedDto;
 import umc.snack.domain.feed.dto.IndividualArticleDto;
+import umc.snack.service.article.ArticleCounterService;
+import umc.snack.service.feed.CategoryRegistry;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 public class FeedConverter {
+
+    private final CategoryRegistry categoryRegistry;
+    private final ArticleCounterService articleCounterService;
+
     public ArticleInFeedDto toArticleInFeedDto(String category, boolean hasNext, Long nextCursorId, List<Article> articles) {
+        return toArticleInFeedDto(category, hasNext, nextCursorId, null, articles);
+    }
+
+    public ArticleInFeedDto toArticleInFeedDto(String category, boolean hasNext, Long nextCursorId, String nextCursor,
+                                               List<Article> articles) {
         // 개별 기사 DTO 리스트로 변환
         List<IndividualArticleDto> individualArticles = articles.stream()
                 .map(this::toIndividualArticleDto) // 아래의 개별 변환 메서드 호출
                 .toList();
 
+        return toArticleInFeedDtoFromCards(category, hasNext, nextCursorId, nextCursor, individualArticles);
+    }
+
+    // 이미 변환된 개별 기사 DTO(피드 타임라인 캐시 등)로 응답 생성
+    public ArticleInFeedDto toArticleInFeedDtoFromCards(String category, boolean hasNext, Long nextCursorId,
+                                                        String nextCursor, List<IndividualArticleDto> individualArticles) {
         return ArticleInFeedDto.builder()
                 .category(category)
                 .hasNext(hasNext)
                 .nextCursorId(nextCursorId)
-                .articles(individualArticles)
+                .nextCursor(nextCursor)
+                .articles(individualArticles.stream().map(this::withLiveCounts).toList())
                 .build();
     }
 
     // Article 엔티티 하나를 개별 기사 DTO(IndividualArticleDto)로 변환하는 메서드
-    private IndividualArticleDto toIndividualArticleDto(Article article) {
+    public IndividualArticleDto toIndividualArticleDto(Article article) {
         return IndividualArticleDto.builder()
                 .articleId(article.getArticleId())
                 .title(article.getTitle())
                 .publishedAt(article.getPublishedAt())
                 .imageUrl(article.getImageUrl())
+                // 카테고리명은 레지스트리에서 조회 (Category 연관 로딩 없음)
                 .categories(article.getArticleCategories().stream()
-                        .map(ac -> ac.getCategory().getCategoryName())
+                        .map(ac -> categoryRegistry.getName(ac.getCategoryId()))
+                        .filter(Objects::nonNull)
                         .collect(Collectors.toList()))
+                .viewCount(article.getViewCount() == null ? 0 : article.getViewCount())
+                .scrapCount(article.getScrapCount() == null ? 0 : article.getScrapCount())
+                .shareCount(article.getShareCount() == null ? 0 : article.getShareCount())
+                .build();
+    }
+
+    // 카드의 카운트를 인메모리 카운터 값으로 덮어씀 (캐시된 카드는 공유되므로 복사본 생성, 추가 쿼리 없음)
+    private IndividualArticleDto withLiveCounts(IndividualArticleDto card) {
+        Long id = card.getArticleId();
+        return card.toBuilder()
+                .viewCount(articleCounterService.get(id, ArticleCounterService.Counter.VIEW, card.getViewCount()))
+                .scrapCount(articleCounterService.get(id, ArticleCounterService.Counter.SCRAP, card.getScrapCount()))
+                .shareCount(articleCounterService.get(id, ArticleCounterService.Counter.SHARE, card.getShareCount()))
                 .build();
     }
 
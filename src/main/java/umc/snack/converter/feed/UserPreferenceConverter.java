@@ -1,8 +1,8 @@
 package umc.snack.converter.feed;
 
 import org.springframework.stereotype.Component;
-import umc.snack.domain.feed.entity.Category;
 import umc.snack.domain.user.dto.UserCategoryScoreDto;
+import umc.snack.domain.user.entity.UserCategoryScore;
 
 @Component
 public class UserPreferenceConverter {
@@ -11,23 +11,27 @@ public class UserPreferenceConverter {
     private static final double WEIGHT_SEARCH = 0.2;
 
 
-    public UserCategoryScoreDto toUserCategoryScoreDto(Long userId, Category category,
-                                                       int[] counts, double totalScraps,
+    public UserCategoryScoreDto toUserCategoryScoreDto(UserCategoryScore score, double totalScraps,
                                                        double totalClicks, double totalSearches) {
         // 각 행동점수 0~1 사이로 정규화
-        float scrapScore = (totalScraps == 0) ? 0 : (float) (counts[0] / totalScraps);
-        float clickScore = (totalClicks == 0) ? 0 : (float) (counts[1] / totalClicks);
-        float searchScore = (totalSearches == 0) ? 0 : (float) (counts[2] / totalSearches);
+        float scrapScore = (totalScraps == 0) ? 0 : (float) (valueOf(score.getScrapScore()) / totalScraps);
+        float clickScore = (totalClicks == 0) ? 0 : (float) (valueOf(score.getClickScore()) / totalClicks);
+        float searchScore = (totalSearches == 0) ? 0 : (float) (valueOf(score.getSearchScore()) / totalSearches);
 
         float behaviorScore = (float) ((scrapScore * WEIGHT_SCRAP) + (clickScore * WEIGHT_CLICK) + (searchScore * WEIGHT_SEARCH));
 
         return UserCategoryScoreDto.builder()
-                .userId(userId)
-                .categoryId(category.getCategoryId())
+                .scoreId(score.getScoreId())
+                .userId(score.getUserId())
+                .categoryId(score.getCategoryId())
                 .scrapScore(scrapScore)
                 .clickScore(clickScore)
                 .searchScore(searchScore)
                 .behaviorScore(behaviorScore)
                 .build();
     }
+
+    private static double valueOf(Float score) {
+        return score == null ? 0 : score;
+    }
 }
@@ -0,0 +1,195 @@
+package umc.snack.crawler.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * URL 키 → 아카이브 레코드 위치 색인 (메모리 매핑 파일 위의 오픈 어드레싱 해시 테이블)
+ * - 슬롯 16바이트: 키(long) + 위치(long, 세그먼트 번호 << 40 | 오프셋), 키 0은 빈 슬롯
+ * - 헤더에 마지막으로 색인한 세그먼트/오프셋을 남겨, 재기동 시 그 뒤만 다시 읽어 따라잡음
+ * - 동기화하지 않음 (RawHtmlArchive가 잠금 안에서만 호출)
+ */
+final class ArchiveIndex implements AutoCloseable {
+
+    private static final int MAGIC = 0x52484958; // "RHIX"
+    private static final int HEADER_BYTES = 32;
+    private static final int SLOT_BYTES = 16;
+    private static final float LOAD_FACTOR = 0.7f;
+    private static final int OFFSET_BITS = 40;
+
+    static final long MISSING = -1L;
+
+    private final Path file;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int count;
+
+    private ArchiveIndex(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * 색인 파일을 열고, 없거나 형식이 맞지 않으면 빈 색인을 새로 만듦
+     */
+    static ArchiveIndex open(Path file, int initialCapacity) throws IOException {
+        ArchiveIndex index = new ArchiveIndex(file);
+        if (Files.exists(file) && Files.size(file) >= HEADER_BYTES) {
+            index.map(file);
+            int magic = index.buffer.getInt(0);
+            int capacity = index.buffer.getInt(4);
+            if (magic == MAGIC && Integer.bitCount(capacity) == 1
+                    && Files.size(file) == HEADER_BYTES + (long) capacity * SLOT_BYTES) {
+                index.capacity = capacity;
+                index.count = index.buffer.getInt(8);
+                return index;
+            }
+            index.close();
+        }
+        index.create(file, Integer.highestOneBit(Math.max(1024, initialCapacity) - 1) << 1);
+        return index;
+    }
+
+    static long location(int segment, long offset) {
+        return ((long) segment << OFFSET_BITS) | offset;
+    }
+
+    static int segmentOf(long location) {
+        return (int) (location >>> OFFSET_BITS);
+    }
+
+    static long offsetOf(long location) {
+        return location & ((1L << OFFSET_BITS) - 1);
+    }
+
+    void put(long key, long location) throws IOException {
+        int slot = slotOf(key);
+        int position = slotPosition(slot);
+        if (buffer.getLong(position) != key) {
+            buffer.putLong(position, key);
+            buffer.putInt(8, ++count);
+        }
+        buffer.putLong(position + 8, location);
+        if (count > capacity * LOAD_FACTOR) grow();
+    }
+
+    long get(long key) {
+        int position = slotPosition(slotOf(key));
+        return buffer.getLong(position) == key ? buffer.getLong(position + 8) : MISSING;
+    }
+
+    int size() {
+        return count;
+    }
+
+    /**
+     * 여기까지 색인했음을 기록 (세그먼트 번호, 다음 레코드 오프셋)
+     */
+    void markTail(int segment, long offset) {
+        buffer.putInt(12, segment);
+        buffer.putLong(16, offset);
+    }
+
+    int tailSegment() {
+        return buffer.getInt(12);
+    }
+
+    long tailOffset() {
+        return buffer.getLong(16);
+    }
+
+    /**
+     * 모든 키를 배열로 (재추출 작업용 스냅샷)
+     */
+    long[] keys() {
+        long[] keys = new long[count];
+        int n = 0;
+        for (int slot = 0; slot < capacity && n < count; slot++) {
+            long key = buffer.getLong(slotPosition(slot));
+            if (key != 0L) keys[n++] = key;
+        }
+        return n == count ? keys : Arrays.copyOf(keys, n);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer != null) buffer.force();
+        if (channel != null) channel.close();
+        buffer = null;
+        channel = null;
+    }
+
+    // key가 있는 슬롯, 없으면 처음 만나는 빈 슬롯 (선형 탐사)
+    private int slotOf(long key) {
+        int mask = capacity - 1;
+        int slot = mix(key) & mask;
+        while (true) {
+            long existing = buffer.getLong(slotPosition(slot));
+            if (existing == 0L || existing == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    // 매핑 한 번(최대 2GB) 안에 들어가는 크기만 사용하므로 int 위치로 충분
+    private static int slotPosition(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // 두 배 크기의 새 파일에 다시 넣은 뒤 원자적으로 교체
+    private void grow() throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        ArchiveIndex bigger = new ArchiveIndex(tmp);
+        bigger.create(tmp, capacity << 1);
+        for (int slot = 0; slot < capacity; slot++) {
+            int position = slotPosition(slot);
+            long key = buffer.getLong(position);
+            if (key != 0L) bigger.put(key, buffer.getLong(position + 8));
+        }
+        bigger.markTail(tailSegment(), tailOffset());
+        bigger.close();
+        close();
+
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        map(file);
+        capacity = buffer.getInt(4);
+        count = buffer.getInt(8);
+    }
+
+    private void create(Path target, int capacity) throws IOException {
+        Files.deleteIfExists(target);
+        try (FileChannel ch = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ch.position(HEADER_BYTES + (long) capacity * SLOT_BYTES - 1);
+            ch.write(ByteBuffer.wrap(new byte[1]));
+        }
+        map(target);
+        this.capacity = capacity;
+        this.count = 0;
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, capacity);
+        buffer.putInt(8, 0);
+        markTail(1, 0L);
+    }
+
+    private void map(Path target) throws IOException {
+        channel = FileChannel.open(target, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        buffer.order(ByteOrder.BIG_ENDIAN);
+    }
+}
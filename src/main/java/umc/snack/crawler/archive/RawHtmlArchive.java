@@ -0,0 +1,347 @@
+package umc.snack.crawler.archive;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import umc.snack.crawler.service.NaverUrlKey;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 조회한 기사 원문 HTML 보관소 (추가 전용 세그먼트 파일 + 메모리 매핑 색인)
+ * - 레코드: 헤더(매직, CRC, 키, 조회 시각, 길이) + URL + deflate 압축 HTML, 세그먼트가 차면 다음 파일로 넘어감
+ * - 색인은 URL 키(oid/aid)당 가장 최근 레코드 위치 → 선택자를 고친 뒤 네이버에 다시 요청하지 않고 재추출 가능
+ * - 보관 실패는 로그만 남김 (수집/저장 흐름에는 영향 없음)
+ */
+@Slf4j
+@Component
+public class RawHtmlArchive {
+
+    private static final int RECORD_MAGIC = 0x52415731; // "RAW1"
+    private static final int RECORD_HEADER_BYTES = 32;
+    private static final int MAX_URL_BYTES = 8 * 1024;
+    private static final int MAX_DATA_BYTES = 64 * 1024 * 1024;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d{6})\\.raw");
+
+    private final Path dir;
+    private final long segmentBytes;
+    private final boolean enabled;
+
+    private final Map<Integer, FileChannel> readers = new ConcurrentHashMap<>();
+
+    private ArchiveIndex index;
+    private FileChannel writer;
+    private int writeSegment;
+    private long writeOffset;
+
+    public RawHtmlArchive(@Value("${crawler.archive.dir:./data/raw-html}") String dir,
+                          @Value("${crawler.archive.segment-bytes:268435456}") long segmentBytes,
+                          @Value("${crawler.archive.enabled:true}") boolean enabled) {
+        this.dir = Paths.get(dir);
+        this.segmentBytes = segmentBytes;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public synchronized void open() {
+        if (!enabled) return;
+        try {
+            Files.createDirectories(dir);
+            index = ArchiveIndex.open(dir.resolve("index.idx"), 1 << 16);
+            int replayed = recover();
+            writer = FileChannel.open(segmentPath(writeSegment), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            writeOffset = writer.size();
+            log.info("원문 보관소 열기 완료 - {}개 (세그먼트 {}, 색인 복구 {}건)", index.size(), writeSegment, replayed);
+        } catch (IOException e) {
+            log.error("원문 보관소 열기 실패 - 보관 없이 동작합니다: {}", e.getMessage(), e);
+            closeQuietly();
+        }
+    }
+
+    /**
+     * 기사 원문 추가 (네이버 기사 URL만, 같은 키를 다시 추가하면 색인이 새 레코드를 가리킴)
+     */
+    public void append(String url, String html) {
+        if (!enabled || html == null) return;
+        Long key = NaverUrlKey.pack(url);
+        if (key == null || key == 0L) return;
+
+        // 압축/인코딩은 잠금 밖에서
+        ByteBuffer record = encode(key, url, html);
+        synchronized (this) {
+            if (writer == null) return;
+            try {
+                if (writeOffset > 0 && writeOffset + record.remaining() > segmentBytes) roll();
+                long offset = writeOffset;
+                while (record.hasRemaining()) {
+                    writeOffset += writer.write(record, writeOffset);
+                }
+                index.put(key, ArchiveIndex.location(writeSegment, offset));
+                index.markTail(writeSegment, writeOffset);
+            } catch (IOException e) {
+                log.warn("원문 보관 실패: {} - {}", url, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * URL 키의 가장 최근 원문
+     */
+    public Optional<ArchivedPage> read(long key) {
+        long location;
+        synchronized (this) {
+            if (index == null) return Optional.empty();
+            location = index.get(key);
+        }
+        if (location == ArchiveIndex.MISSING) return Optional.empty();
+        try {
+            Entry entry = readAt(ArchiveIndex.segmentOf(location), ArchiveIndex.offsetOf(location));
+            if (entry == null) return Optional.empty();
+            return Optional.of(new ArchivedPage(entry.url(), inflate(entry.data()), Instant.ofEpochMilli(entry.fetchedAt())));
+        } catch (IOException | DataFormatException e) {
+            log.warn("원문 읽기 실패 - key={}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 보관된 모든 URL 키 (호출 시점 스냅샷)
+     */
+    public synchronized long[] keys() {
+        return index == null ? new long[0] : index.keys();
+    }
+
+    public synchronized int size() {
+        return index == null ? 0 : index.size();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        closeQuietly();
+    }
+
+    /**
+     * 색인이 기록한 위치 이후의 레코드를 다시 색인하고, 마지막 세그먼트의 잘린 꼬리는 잘라냄
+     * - 색인 파일이 없거나 손상돼 새로 만들면 처음부터 다시 읽음
+     */
+    private int recover() throws IOException {
+        List<Integer> segments = listSegments();
+        int last = segments.isEmpty() ? 1 : segments.get(segments.size() - 1);
+
+        int segment = index.tailSegment();
+        long offset = index.tailOffset();
+        if (segment < 1 || segment > last) {
+            segment = 1;
+            offset = 0L;
+        }
+
+        int replayed = 0;
+        for (; segment <= last; segment++, offset = 0L) {
+            Path path = segmentPath(segment);
+            if (!Files.exists(path)) continue;
+            long size = Files.size(path);
+            while (offset < size) {
+                Entry entry = readQuietly(segment, offset);
+                if (entry == null) {
+                    if (segment == last) {
+                        log.warn("원문 보관소 세그먼트 {}의 손상된 꼬리 {}바이트 제거", segment, size - offset);
+                        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                            ch.truncate(offset);
+                        }
+                    }
+                    break;
+                }
+                index.put(entry.key(), ArchiveIndex.location(segment, offset));
+                offset = entry.nextOffset();
+                replayed++;
+            }
+            index.markTail(segment, offset);
+        }
+        writeSegment = last;
+        index.force();
+        return replayed;
+    }
+
+    private void roll() throws IOException {
+        writer.force(false);
+        writer.close();
+        writeSegment++;
+        writeOffset = 0L;
+        writer = FileChannel.open(segmentPath(writeSegment), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        index.markTail(writeSegment, 0L);
+        index.force();
+    }
+
+    private Entry readQuietly(int segment, long offset) {
+        try {
+            return readAt(segment, offset);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // 레코드 하나 읽기 (형식/CRC가 맞지 않으면 null)
+    private Entry readAt(int segment, long offset) throws IOException {
+        FileChannel channel = reader(segment);
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        if (!readFully(channel, header, offset)) return null;
+        header.flip();
+
+        if (header.getInt() != RECORD_MAGIC) return null;
+        int crc = header.getInt();
+        long key = header.getLong();
+        long fetchedAt = header.getLong();
+        int urlLength = header.getInt();
+        int dataLength = header.getInt();
+        if (urlLength <= 0 || urlLength > MAX_URL_BYTES || dataLength < 0 || dataLength > MAX_DATA_BYTES) return null;
+
+        ByteBuffer body = ByteBuffer.allocate(urlLength + dataLength);
+        if (!readFully(channel, body, offset + RECORD_HEADER_BYTES)) return null;
+        byte[] bytes = body.array();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes);
+        if ((int) checksum.getValue() != crc) return null;
+
+        byte[] data = new byte[dataLength];
+        System.arraycopy(bytes, urlLength, data, 0, dataLength);
+        return new Entry(key, new String(bytes, 0, urlLength, StandardCharsets.UTF_8), fetchedAt, data,
+                offset + RECORD_HEADER_BYTES + urlLength + dataLength);
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position + buffer.position());
+            if (n < 0) return false;
+        }
+        return true;
+    }
+
+    private FileChannel reader(int segment) throws IOException {
+        FileChannel channel = readers.get(segment);
+        if (channel != null) return channel;
+        synchronized (readers) {
+            channel = readers.get(segment);
+            if (channel == null) {
+                channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ);
+                readers.put(segment, channel);
+            }
+            return channel;
+        }
+    }
+
+    private static ByteBuffer encode(long key, String url, String html) {
+        byte[] urlBytes = url.getBytes(StandardCharsets.UTF_8);
+        byte[] data = deflate(html.getBytes(StandardCharsets.UTF_8));
+
+        CRC32 checksum = new CRC32();
+        checksum.update(urlBytes);
+        checksum.update(data);
+
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_BYTES + urlBytes.length + data.length);
+        buffer.putInt(RECORD_MAGIC)
+                .putInt((int) checksum.getValue())
+                .putLong(key)
+                .putLong(System.currentTimeMillis())
+                .putInt(urlBytes.length)
+                .putInt(data.length)
+                .put(urlBytes)
+                .put(data);
+        return buffer.flip();
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(byte[] data) throws DataFormatException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] chunk = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(chunk);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                out.write(chunk, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private List<Integer> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(p -> SEGMENT_NAME.matcher(p.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(m -> Integer.parseInt(m.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(int segment) {
+        return dir.resolve(String.format("segment-%06d.raw", segment));
+    }
+
+    private void closeQuietly() {
+        try {
+            if (writer != null) writer.force(false);
+        } catch (IOException ignored) {
+        }
+        for (FileChannel channel : readers.values()) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+        readers.clear();
+        try {
+            if (writer != null) writer.close();
+            if (index != null) index.close();
+        } catch (IOException e) {
+            log.warn("원문 보관소 닫기 실패: {}", e.getMessage());
+        }
+        writer = null;
+        index = null;
+    }
+
+    public record ArchivedPage(String url, String html, Instant fetchedAt) {}
+
+    private record Entry(long key, String url, long fetchedAt, byte[] data, long nextOffset) {}
+}
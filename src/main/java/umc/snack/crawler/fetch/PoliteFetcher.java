@@ -0,0 +1,168 @@
+package umc.snack.crawler.fetch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import umc.snack.common.metrics.PipelineMetrics;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * 크롤러 공용 HTTP 조회기
+ * - 작업은 가상 스레드에서 병렬 실행 (네트워크 대기 동안 플랫폼 스레드를 점유하지 않음)
+ * - 전체 동시 요청 수는 세마포어로, 사이트(등록 도메인)별 초당 요청 수는 토큰 버킷으로 제한
+ *   → news.naver.com, n.news.naver.com처럼 같은 사이트의 여러 호스트도 하나의 속도 제한을 공유
+ *   → 병렬로 돌려도 같은 사이트에는 순차 실행 때와 비슷한 속도로만 요청이 나감
+ * - 토큰을 먼저 받은 뒤 동시 요청 슬롯을 잡음 (속도 제한 대기 동안 다른 사이트 요청의 슬롯을 막지 않음)
+ * - 대기/네트워크/파싱 시간과 본문 크기를 호스트별로 따로 기록 (느린 구간 구분용)
+ */
+@Slf4j
+@Component
+public class PoliteFetcher {
+
+    // 국가 도메인 아래 2단계 도메인 (example.co.kr → 사이트는 세 단계까지)
+    private static final Set<String> SECOND_LEVEL_LABELS = Set.of("co", "or", "go", "ac", "ne", "re", "pe", "com", "net", "org", "gov", "edu");
+
+    private final Semaphore concurrency;
+    private final double perHostRate;
+    private final int perHostBurst;
+    private final int maxBodyBytes;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final PipelineMetrics pipelineMetrics;
+
+    public PoliteFetcher(PipelineMetrics pipelineMetrics,
+                         @Value("${crawler.fetch.max-concurrency:8}") int maxConcurrency,
+                         @Value("${crawler.fetch.per-host-rate:4}") double perHostRate,
+                         @Value("${crawler.fetch.per-host-burst:4}") int perHostBurst,
+                         @Value("${crawler.fetch.max-body-bytes:3145728}") int maxBodyBytes) {
+        this.concurrency = new Semaphore(maxConcurrency, true);
+        this.perHostRate = perHostRate;
+        this.perHostBurst = perHostBurst;
+        this.maxBodyBytes = maxBodyBytes;
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    /**
+     * 동시 요청 상한과 사이트별 속도 제한을 지켜 문서 하나를 조회
+     */
+    public Document fetch(String url, String userAgent, int timeoutMs) throws IOException {
+        String host = hostOf(url);
+        long queuedAt = System.nanoTime();
+        try {
+            long waitNanos = bucketFor(siteOf(host)).reserve();
+            if (waitNanos > 0) TimeUnit.NANOSECONDS.sleep(waitNanos);
+            concurrency.acquire();
+            try {
+                pipelineMetrics.fetchWait(host, System.nanoTime() - queuedAt);
+
+                long startedAt = System.nanoTime();
+                Connection.Response response;
+                try {
+                    response = Jsoup.connect(url)
+                            .userAgent(userAgent)
+                            .timeout(timeoutMs)
+                            // 비정상적으로 큰 페이지가 힙을 차지하지 않도록 본문 크기 상한 (초과분은 잘림)
+                            .maxBodySize(maxBodyBytes)
+                            .execute()
+                            .bufferUp();
+                } catch (IOException e) {
+                    pipelineMetrics.fetch(host, System.nanoTime() - startedAt, PipelineMetrics.ERROR);
+                    throw e;
+                }
+                pipelineMetrics.fetch(host, System.nanoTime() - startedAt, PipelineMetrics.OK);
+                pipelineMetrics.fetchedBytes(host, response.bodyAsBytes().length);
+
+                long parseStartedAt = System.nanoTime();
+                Document document = response.parse();
+                pipelineMetrics.parse(System.nanoTime() - parseStartedAt);
+                return document;
+            } finally {
+                concurrency.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("크롤링 요청 대기 중 중단: " + url);
+        }
+    }
+
+    /**
+     * URL 목록을 병렬로 조회 (입력 순서대로 결과 반환, 실패는 error에 담음)
+     */
+    public List<Fetched> fetchAll(List<String> urls, String userAgent, int timeoutMs) {
+        Fetched[] results = new Fetched[urls.size()];
+
+        List<Runnable> tasks = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            int index = i;
+            String url = urls.get(i);
+            tasks.add(() -> {
+                try {
+                    results[index] = new Fetched(url, fetch(url, userAgent, timeoutMs), null);
+                } catch (Exception e) {
+                    results[index] = new Fetched(url, null, e);
+                }
+            });
+        }
+        runConcurrently(tasks);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 작업마다 가상 스레드 하나씩 띄우고 모두 끝날 때까지 대기
+     */
+    public void runConcurrently(Collection<? extends Runnable> tasks) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Runnable task : tasks) {
+                executor.submit(() -> {
+                    try {
+                        task.run();
+                    } catch (Exception e) {
+                        log.warn("크롤링 작업 실패: {}", e.getMessage(), e);
+                    }
+                });
+            }
+        }
+    }
+
+    private TokenBucket bucketFor(String site) {
+        return buckets.computeIfAbsent(site, s -> new TokenBucket(perHostRate, perHostBurst));
+    }
+
+    /**
+     * 호스트의 등록 도메인 (n.news.naver.com → naver.com, news.example.co.kr → example.co.kr)
+     * - IP 주소나 한 단계 호스트는 그대로
+     */
+    static String siteOf(String host) {
+        if (host.isEmpty() || Character.isDigit(host.charAt(host.length() - 1)) || host.indexOf(':') >= 0) return host;
+        String[] labels = host.toLowerCase(Locale.ROOT).split("\\.");
+        if (labels.length <= 2) return String.join(".", labels);
+        String tld = labels[labels.length - 1];
+        String second = labels[labels.length - 2];
+        int keep = tld.length() == 2 && SECOND_LEVEL_LABELS.contains(second) ? 3 : 2;
+        return String.join(".", Arrays.copyOfRange(labels, labels.length - keep, labels.length));
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? "unknown" : host;
+        } catch (IllegalArgumentException e) {
+            return "unknown";
+        }
+    }
+
+    public record Fetched(String url, Document document, Exception error) {}
+}
@@ -0,0 +1,33 @@
+package umc.snack.crawler.fetch;
+
+/**
+ * 호스트 하나에 대한 토큰 버킷
+ * - 초당 rate개씩 채워지고 최대 burst개까지 쌓임
+ * - reserve()는 토큰을 먼저 차감하고 부족분만큼 기다려야 할 시간을 돌려줌 (음수 잔량 = 앞선 대기열)
+ *   → 여러 스레드가 동시에 요청해도 시작 시각이 1/rate 간격으로 벌어짐
+ */
+final class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double burst;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(double ratePerSecond, int burst) {
+        this.tokensPerNano = ratePerSecond / 1_000_000_000d;
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * @return 토큰을 쓸 수 있을 때까지 기다려야 하는 시간(ns), 바로 쓸 수 있으면 0
+     */
+    synchronized long reserve() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0L : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+}
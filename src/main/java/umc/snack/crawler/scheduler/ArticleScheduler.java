@@ -2,16 +2,19 @@ package umc.snack.crawler.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import umc.snack.common.metrics.PipelineMetrics;
 import umc.snack.crawler.service.ArticleCollectorService;
 import umc.snack.crawler.service.ArticleCrawlerService;
+import umc.snack.crawler.service.CrawlCandidate;
 import umc.snack.service.article.ArticleSummarizeService;
 
-import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -24,6 +27,13 @@ public class ArticleScheduler {
     private final ArticleCrawlerService articleCrawlerService;
     private final ArticleSummarizeService articleSummarizeService;
     private final TaskScheduler taskScheduler;
+    private final PipelineMetrics pipelineMetrics;
+
+    @Value("${crawler.ledger.resume-on-startup:true}")
+    private boolean resumeOnStartup;
+
+    @Value("${crawler.ledger.resume-delay-seconds:60}")
+    private long resumeDelaySeconds;
 
 
 //     //* 서버 시작 시 한 번 자동 크롤링을 트리거(개발할 때 사용)
@@ -38,17 +48,40 @@ public class ArticleScheduler {
 //    }
 
 
+    /**
+     * 배포/장애로 중단된 크롤링 실행을 기동 직후 이어서 처리 (색인 적재가 끝나도록 잠시 뒤에)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleResumeOnStartup() {
+        if (!resumeOnStartup) return;
+        taskScheduler.schedule(this::resumeInterruptedCrawls, Instant.now().plusSeconds(resumeDelaySeconds));
+    }
+
+    public synchronized void resumeInterruptedCrawls() {
+        try {
+            articleCrawlerService.resumeInterruptedRuns();
+        } catch (Exception e) {
+            log.error("❌ 중단된 크롤링 재개 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
     // 오전 기사와 오후 기사를 모두 크롤링하기 위해 하루에 10&18시 2번 크롤링
     // 초(*/30), 분(*), 시(*), 일(*), 월(*), 요일(*)
     @Scheduled(cron = "0 0 10,18 * * *", zone = "Asia/Seoul")
-    public void autoCrawl() {
+    public synchronized void autoCrawl() {
         log.info("✅ 스케쥴러 실행 확인 > {}", LocalDateTime.now());
+        long startedAt = System.nanoTime();
         try {
-            List<String> links = articleCollectorService.collectRandomArticleLinks(); // 링크 수집
-            String json = articleCollectorService.toJson(links);                         // JSON 변환
-            articleCrawlerService.crawlFromJson(json);                                   // 크롤링 실행
-        } catch (IOException e) {
-            System.err.println("❌ 자동 크롤링 중 오류 발생: " + e.getMessage());
+            // 이전 실행이 중단됐으면 남은 항목부터 (새 수집과 같은 기사를 두 번 받지 않도록 먼저)
+            resumeInterruptedCrawls();
+            // 수집 때 받은 기사 내용을 그대로 저장 (같은 페이지를 다시 요청하지 않음)
+            List<CrawlCandidate> candidates = articleCollectorService.collectRandomArticles(); // 기사 수집
+            articleCrawlerService.crawlCandidates(candidates);                                 // 저장
+        } catch (Exception e) {
+            log.error("❌ 자동 크롤링 중 오류 발생: {}", e.getMessage(), e);
+        } finally {
+            // 단계별 시간(collect/dedupe/persist…)은 각 서비스에서, 여기서는 한 번의 실행 전체
+            pipelineMetrics.crawlStage("run", System.nanoTime() - startedAt);
         }
     }
 
@@ -70,16 +103,6 @@ public class ArticleScheduler {
         }
     }
 
-    private void crawlArticles() {
-        try {
-            List<String> links = articleCollectorService.collectRandomArticleLinks(); // 링크 수집
-            String json = articleCollectorService.toJson(links);                           // JSON 변환
-            articleCrawlerService.crawlFromJson(json);                                     // 크롤링 실행
-        } catch (IOException e) {
-            System.err.println("❌ 자동 크롤링 중 오류 발생: " + e.getMessage());
-        }
-    }
-
 //    // 5분 뒤 요약 예약 메서드 추가
 //    private void scheduleSummarizeAfter5Min() {
 //        log.info("서버 시작 크롤링 완료! Gemini 요약 예약: 5분 뒤 실행 예정 ({})", LocalDateTime.now().plusMinutes(5));
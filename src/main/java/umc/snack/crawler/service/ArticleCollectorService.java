@@ -5,28 +5,30 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.springframework.stereotype.Service;
-import umc.snack.repository.article.CrawledArticleRepository;
+import umc.snack.common.metrics.PipelineMetrics;
+import umc.snack.crawler.archive.RawHtmlArchive;
+import umc.snack.crawler.fetch.PoliteFetcher;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleCollectorService {
 
-    private final CrawledArticleRepository crawledArticleRepository;
+    private final CrawledUrlIndex crawledUrlIndex;
+    private final PoliteFetcher politeFetcher;
+    private final ArticleExtractor articleExtractor;
+    private final RawHtmlArchive rawHtmlArchive;
+    private final NearDuplicateIndex nearDuplicateIndex;
+    private final PipelineMetrics pipelineMetrics;
 
     // 주요 언론사 OID 목록 (한겨레 포함 8개)
     private static final List<String> NEWS_OIDS = List.of("028", "025", "023", "020", "032", "469", "022", "081");
@@ -35,6 +37,7 @@ public class ArticleCollectorService {
     private static final List<String> SECTION_CODES = List.of("100", "101", "102", "103", "104", "105");
 
     private static final String NAVER_PREFIX = "https://n.news.naver.com";
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
 
     // ⬇︎ 수집 정책 기본값 (필요 시 여기만 조정)
     private static final int TOTAL_TARGET = 30;     // 배치당 총 수집 개수
@@ -48,13 +51,17 @@ public class ArticleCollectorService {
             "105", 2  // IT/과학
     );
 
-    // URL 정규화용: mnews/article or article 경로에서 (oid, aid) 추출
-    private static final Pattern OID_AID_PATTERN = Pattern.compile("/(?:mnews/)?article/(\\d{3})/(\\d+)");
-
     /**
-     * 외부에서 기본 정책으로 호출되는 엔트리 포인트
+     * 외부에서 기본 정책으로 호출되는 엔트리 포인트 (링크만 필요한 경우)
      */
     public List<String> collectRandomArticleLinks() {
+        return collectRandomArticles().stream().map(CrawlCandidate::url).toList();
+    }
+
+    /**
+     * 기본 정책으로 수집하고, 유효성 확인 때 받은 기사 내용을 그대로 담아 반환
+     */
+    public List<CrawlCandidate> collectRandomArticles() {
         int weightSum = WEIGHTS.values().stream().mapToInt(Integer::intValue).sum(); // 12
         // 카테고리별 목표 개수 = TOTAL_TARGET * (해당 가중치 / 가중치합)
         Map<String, Integer> targetPerCat = new HashMap<>();
@@ -73,166 +80,170 @@ public class ArticleCollectorService {
             remain--;
         }
 
-        return collectArticleLinksPerCategoryWeighted(targetPerCat, PER_PUBLISHER_LIMIT);
+        return collectArticlesPerCategoryWeighted(targetPerCat, PER_PUBLISHER_LIMIT);
     }
 
     /**
-     * 카테고리 가중치 타깃 + 언론사 상한 + 배치 중복 제거 + DB 1회 조회
+     * 카테고리 가중치 타깃 + 언론사 상한 + 배치 중복 제거 + 목록 페이지 단위 기수집 확인
      */
     public List<String> collectArticleLinksPerCategoryWeighted(Map<String, Integer> targetPerCat,
                                                                int perPublisherLimit) {
-        // DB에서 기존 수집 URL 1회 조회 후, 모두 정규화 키(oid:aid)로 변환
-        Set<String> alreadyCrawledUrlKeys = new HashSet<>();
-        for (String url : crawledArticleRepository.findAllArticleUrls()) {
-            String key = normalizeUrlKey(url);
-            if (key != null) alreadyCrawledUrlKeys.add(key);
-        }
-
-        // 배치(이번 실행) 중복 방지용 Set
-        Set<String> batchUrlKeys = new HashSet<>();
-        Set<String> batchTitleKeys = new HashSet<>();
+        return collectArticlesPerCategoryWeighted(targetPerCat, perPublisherLimit).stream()
+                .map(CrawlCandidate::url)
+                .toList();
+    }
 
-        Map<String, Integer> pickedPerCat = new HashMap<>();
-        Map<String, Integer> pickedPerPublisher = new HashMap<>();
-        SECTION_CODES.forEach(s -> pickedPerCat.put(s, 0));
+    public List<CrawlCandidate> collectArticlesPerCategoryWeighted(Map<String, Integer> targetPerCat,
+                                                                   int perPublisherLimit) {
+        // 할당량/배치 중복 상태는 병렬 작업들이 QuotaTracker 하나를 공유
+        long startedAt = System.nanoTime();
+        QuotaTracker quota = new QuotaTracker(targetPerCat, perPublisherLimit);
+        // 이번 배치에서 채택한 기사의 본문 지문 (다른 언론사의 같은 통신 기사를 한 번만 채택)
+        MinHashLsh batchFingerprints = new MinHashLsh();
 
         DateTimeFormatter dateFormatter = DateTimeFormatter.BASIC_ISO_DATE;
         String formattedDate = LocalDate.now().format(dateFormatter);
 
-        // 언론사-섹션 조합을 섞어서 순회
-        List<String[]> combos = new ArrayList<>();
+        // 언론사-섹션 조합을 섞어서 조합마다 가상 스레드 하나로 병렬 수집 (요청 속도는 PoliteFetcher가 제한)
+        List<Runnable> tasks = new ArrayList<>();
         for (String oid : NEWS_OIDS) {
             for (String sid1 : SECTION_CODES) {
-                combos.add(new String[]{oid, sid1});
+                tasks.add(() -> collectFromCombo(oid, sid1, formattedDate, quota, batchFingerprints));
             }
         }
-        Collections.shuffle(combos);
-
-        int grandTarget = targetPerCat.values().stream().mapToInt(Integer::intValue).sum(); // TOTAL_TARGET
-
-        List<String> resultLinks = new ArrayList<>();
-
-        outer:
-        for (String[] combo : combos) {
-            String oid = combo[0];
-            String sid1 = combo[1];
-
-            // 카테고리 목표 달성 시 건너뜀
-            if (pickedPerCat.get(sid1) >= targetPerCat.getOrDefault(sid1, 0)) continue;
-            // 언론사 상한 적용
-            if (perPublisherLimit > 0 && pickedPerPublisher.getOrDefault(oid, 0) >= perPublisherLimit) continue;
-
-            String listUrl = String.format(
-                    "https://news.naver.com/main/list.naver?mode=LSD&mid=sec&sid1=%s&oid=%s&date=%s",
-                    sid1, oid, formattedDate
-            );
-
-            try {
-                Document doc = Jsoup.connect(listUrl)
-                        .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                        .timeout(5000)
-                        .get();
+        Collections.shuffle(tasks);
+        politeFetcher.runConcurrently(tasks);
 
-                Elements articleLinks = doc.select("a[href*='/article/']");
-                log.info("🔍 [{}] 링크 개수: {}", listUrl, articleLinks.size());
-
-                for (Element link : articleLinks) {
-                    String href = link.attr("href");
-                    String articleUrl = href.startsWith("http") ? href : NAVER_PREFIX + href;
-
-                    // URL 정규화 키 생성 (oid:aid)
-                    String urlKey = normalizeUrlKey(articleUrl);
-                    if (urlKey == null) continue;
-
-                    // 1) DB에 이미 있는 기사면 스킵
-                    if (alreadyCrawledUrlKeys.contains(urlKey)) continue;
-                    // 2) 이번 배치에서 이미 뽑은 기사면 스킵
-                    if (batchUrlKeys.contains(urlKey)) continue;
-
-                    // 본문 유효성 확인 + 제목키 생성(정규화)
-                    TitleAndValidity tv = getNormalizedTitleIfValid(articleUrl);
-                    if (tv == null || !tv.valid) continue;
-
-                    // 3) 이번 배치에서 같은 제목(정규화) 이미 있으면 스킵
-                    if (tv.normalizedTitleKey != null && batchTitleKeys.contains(tv.normalizedTitleKey)) continue;
-
-                    // 통과 → 채택
-                    resultLinks.add(articleUrl);
-                    batchUrlKeys.add(urlKey);
-                    if (tv.normalizedTitleKey != null) batchTitleKeys.add(tv.normalizedTitleKey);
-
-                    pickedPerCat.put(sid1, pickedPerCat.get(sid1) + 1);
-                    pickedPerPublisher.put(oid, pickedPerPublisher.getOrDefault(oid, 0) + 1);
-
-                    // 전체 목표 도달 시 종료
-                    if (resultLinks.size() >= grandTarget) break outer;
-
-                    // 조합당 하나만
-                    break;
-                }
-
-            } catch (IOException e) {
-                log.warn("[수집 실패] URL: {}, 오류: {}", listUrl, e.getMessage());
-            }
-        }
+        List<CrawlCandidate> accepted = quota.accepted();
+        List<CrawlCandidate> nearDuplicates = quota.nearDuplicates();
+        pipelineMetrics.crawlStage("collect", System.nanoTime() - startedAt);
 
         // 요약 로그
         String catSummary = String.join(", ",
                 SECTION_CODES.stream()
                         .map(sid -> String.format("%s=%d/%d", sid,
-                                pickedPerCat.getOrDefault(sid, 0),
+                                quota.pickedInCategory(sid),
                                 targetPerCat.getOrDefault(sid, 0)))
                         .toList());
         String pubSummary = String.join(", ",
-                pickedPerPublisher.entrySet().stream()
-                        .sorted(Map.Entry.comparingByKey())
+                quota.pickedPerPublisher().entrySet().stream()
                         .map(e -> e.getKey() + "=" + e.getValue())
                         .toList());
 
-        log.info("✅ 카테고리별 수집: {} | 언론사별 수집: {} | 총 {}개", catSummary, pubSummary, resultLinks.size());
-        return resultLinks;
+        log.info("✅ 카테고리별 수집: {} | 언론사별 수집: {} | 총 {}개 (유사 기사 {}개)",
+                catSummary, pubSummary, accepted.size(), nearDuplicates.size());
+
+        // 채택한 기사 뒤에 유사 기사를 붙여 반환 (저장 단계가 기존 기사에 연결해 DUPLICATE로 기록)
+        List<CrawlCandidate> result = new ArrayList<>(accepted.size() + nearDuplicates.size());
+        result.addAll(accepted);
+        result.addAll(nearDuplicates);
+        return result;
     }
 
     /**
-     * 기사 본문 유효성(길이/한글비율) 확인 + 제목 정규화 키 생성
-     * - 유효하면 normalizedTitleKey 포함해서 반환, 아니면 null
+     * (언론사, 카테고리) 조합 하나의 목록 페이지에서 유효한 기사 하나를 찾아 채택
      */
-    private TitleAndValidity getNormalizedTitleIfValid(String url) {
+    private void collectFromCombo(String oid, String sid1, String formattedDate, QuotaTracker quota,
+                                  MinHashLsh batchFingerprints) {
+        // 카테고리 목표 달성 / 언론사 상한 / 전체 목표 도달 시 건너뜀
+        if (!quota.isOpen(sid1, oid)) return;
+
+        String listUrl = String.format(
+                "https://news.naver.com/main/list.naver?mode=LSD&mid=sec&sid1=%s&oid=%s&date=%s",
+                sid1, oid, formattedDate
+        );
+
         try {
-            Document doc = Jsoup.connect(url)
-                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                    .timeout(4000)
-                    .get();
+            Document doc = politeFetcher.fetch(listUrl, USER_AGENT, 5000);
+
+            Elements articleLinks = doc.select("a[href*='/article/']");
+            log.info("🔍 [{}] 링크 개수: {}", listUrl, articleLinks.size());
+
+            // URL 정규화 키(oid/aid) 생성 후, 이 페이지 링크들만 한 번에 기수집 여부 확인
+            Map<Long, String> urlsByKey = new LinkedHashMap<>();
+            for (Element link : articleLinks) {
+                String href = link.attr("href");
+                String articleUrl = href.startsWith("http") ? href : NAVER_PREFIX + href;
+                Long key = NaverUrlKey.pack(articleUrl);
+                if (key != null) urlsByKey.putIfAbsent(key, articleUrl);
+            }
+            // 1) DB에 이미 있는 기사는 제외
+            Set<Long> newKeys = crawledUrlIndex.filterNew(urlsByKey.keySet());
+            pipelineMetrics.rejected("already_crawled", urlsByKey.size() - newKeys.size());
+
+            for (Long key : newKeys) {
+                // 다른 조합이 그 사이 할당량을 채웠으면 중단
+                if (!quota.isOpen(sid1, oid)) return;
+
+                String articleUrl = urlsByKey.get(key);
+                String urlKey = String.valueOf(key);
+
+                // 2) 이번 배치에서 이미 뽑은 기사면 스킵
+                if (quota.isTaken(urlKey)) continue;
+
+                // 본문 유효성 확인 + 제목키 생성(정규화), 유효하면 추출한 내용을 그대로 저장 단계로 넘김
+                ValidArticle valid = fetchIfValid(articleUrl);
+                if (valid == null) continue;
+
+                // 3) 최근 수집한 기사와 본문이 거의 같으면 할당량을 쓰지 않음 (요약/벡터화 비용 절감)
+                //    → 저장 단계에서 원 기사에 연결된 행으로 남겨 다음 수집에서 같은 URL을 다시 받지 않음
+                int[] fingerprint = valid.fingerprint();
+                if (nearDuplicateIndex.findDuplicate(fingerprint).isPresent()) {
+                    log.debug("유사 기사 연결 대상: {}", articleUrl);
+                    if (quota.addNearDuplicate(urlKey, valid.candidate())) pipelineMetrics.rejected("near_duplicate");
+                    continue;
+                }
+
+                // 4) 할당량과 배치 중복(URL/정규화 제목/본문 지문)을 다시 확인하고 채택 → 조합당 하나만
+                QuotaTracker.Claim claim;
+                synchronized (batchFingerprints) {
+                    if (fingerprint != null
+                            && batchFingerprints.findMostSimilar(fingerprint, nearDuplicateIndex.minSimilarity()).isPresent()) {
+                        pipelineMetrics.rejected("batch_near_duplicate");
+                        continue;
+                    }
+                    claim = quota.tryClaim(sid1, oid, urlKey, valid.normalizedTitleKey(), valid.candidate());
+                    if (claim == QuotaTracker.Claim.ACCEPTED && fingerprint != null) batchFingerprints.put(fingerprint, key);
+                }
+                if (claim != QuotaTracker.Claim.DUPLICATE) return;
+                pipelineMetrics.rejected("batch_duplicate");
+            }
+
+        } catch (IOException e) {
+            log.warn("[수집 실패] URL: {}, 오류: {}", listUrl, e.getMessage());
+        }
+    }
+
+    /**
+     * 기사 본문 유효성(길이/한글비율) 확인 + 제목 정규화 키 + 본문(#dic_area) 지문 생성
+     * - 유효하면 저장에 필요한 필드와 normalizedTitleKey, 지문을 담아 반환, 아니면 null
+     */
+    private ValidArticle fetchIfValid(String url) {
+        try {
+            Document doc = politeFetcher.fetch(url, USER_AGENT, 4000);
 
             // 본문 추출
-            String text = doc.select("#dic_area").text();
-            if (text.isEmpty()) text = doc.select("#newsEndContents").text();
-            if (text.isEmpty()) text = doc.select("article").text();
-
-            if (text == null || text.length() < 50) return new TitleAndValidity(false, null);
-
-            long totalLength = text.length();
-            long koreanCharCount = text.chars()
-                    .filter(c -> (c >= 0xAC00 && c <= 0xD7A3)   // 완성형
-                            || (c >= 0x1100 && c <= 0x11FF)     // 자음
-                            || (c >= 0x3130 && c <= 0x318F)     // 호환 자모
-                            || (c >= 0xA960 && c <= 0xA97F))    // 확장 자모
-                    .count();
-            double ratio = (double) koreanCharCount / totalLength;
-            if (ratio < 0.6) return new TitleAndValidity(false, null);
+            String text = articleExtractor.articleText(doc);
+            if (!articleExtractor.isValidKoreanArticle(text)) {
+                pipelineMetrics.rejected("invalid_body");
+                return null;
+            }
+
+            // 원문 보관 (나중에 추출 규칙을 고치면 다시 받지 않고 재추출)
+            rawHtmlArchive.append(url, doc.outerHtml());
 
             // 제목 추출 및 정규화
-            String title = doc.title();
-            if (title == null || title.isBlank()) {
-                // Naver 모바일 기사 제목이 head<title> 외 위치할 가능성 대비
-                String t2 = doc.select("h2.media_end_head_headline, h2#title_area, #title_area").text();
-                if (!t2.isBlank()) title = t2;
-            }
-            String titleKey = normalizeTitleKey(title);
+            String titleKey = normalizeTitleKey(articleExtractor.title(doc));
 
-            return new TitleAndValidity(true, titleKey);
+            return new ValidArticle(articleExtractor.extract(url, doc), titleKey, ContentFingerprint.signature(text));
         } catch (IOException e) {
             log.debug("기사 유효성/제목 추출 실패: {}", url);
+            pipelineMetrics.rejected("fetch_error");
+            return null;
+        } catch (RuntimeException e) {
+            // 발행일 형식 등 파싱 실패 → 이 기사는 건너뜀
+            log.debug("기사 파싱 실패: {} - {}", url, e.getMessage());
+            pipelineMetrics.rejected("extract_error");
             return null;
         }
     }
@@ -262,23 +273,6 @@ public class ArticleCollectorService {
         return t.isBlank() ? null : t;
     }
 
-
-    // URL을 (oid:aid) 키로 정규화. 실패 시 null
-
-    private String normalizeUrlKey(String url) {
-        try {
-            URI u = new URI(url);
-            String path = u.getPath();
-            Matcher m = OID_AID_PATTERN.matcher(path);
-            if (!m.find()) return null;
-            String oid = m.group(1);
-            String aid = m.group(2);
-            return oid + ":" + aid;
-        } catch (URISyntaxException e) {
-            return null;
-        }
-    }
-
     // (옵션) JSON 변환 유틸
     public String toJson(List<String> links) {
         try {
@@ -301,5 +295,5 @@ public class ArticleCollectorService {
     }
 
     // 내부 반환용 DTO
-    private record TitleAndValidity(boolean valid, String normalizedTitleKey) {}
+    private record ValidArticle(CrawlCandidate candidate, String normalizedTitleKey, int[] fingerprint) {}
 }
\ No newline at end of file
@@ -5,186 +5,329 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Value;
-import umc.snack.domain.article.entity.Article;
-import umc.snack.domain.article.entity.CrawledArticle;
-import umc.snack.repository.article.ArticleRepository;
+import umc.snack.common.metrics.PipelineMetrics;
+import umc.snack.crawler.archive.RawHtmlArchive;
+import umc.snack.crawler.fetch.PoliteFetcher;
+import umc.snack.domain.feed.entity.Category;
+import umc.snack.repository.article.CrawlLedgerRepository;
 import umc.snack.repository.article.CrawledArticleRepository;
-import umc.snack.service.feed.CategoryService;
+import umc.snack.service.feed.CategoryRegistry;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
-import org.springframework.transaction.annotation.Transactional;
-
-@Transactional
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleCrawlerService {
 
     private final CrawledArticleRepository crawledArticleRepository;
-    private final ArticleRepository articleRepository;
-    private final CategoryService categoryService;
+    private final CategoryRegistry categoryRegistry;
+    private final CrawlPersister crawlPersister;
+    private final PoliteFetcher politeFetcher;
+    private final ArticleExtractor articleExtractor;
+    private final CrawledUrlIndex crawledUrlIndex;
+    private final RawHtmlArchive rawHtmlArchive;
+    private final NearDuplicateIndex nearDuplicateIndex;
+    private final PipelineMetrics pipelineMetrics;
+    private final CrawlRunLedger crawlRunLedger;
 
     private static final String NAVER_PREFIX = "https://n.news.naver.com";
+    private static final int FETCH_TIMEOUT_MS = 10000;
 
     private static final java.util.regex.Pattern SID_PATTERN =
             java.util.regex.Pattern.compile("(?:[?&])sid1?=(\\d{3})(?:[&#]|$)");
 
+    @Value("${crawler.persist.chunk-size:20}")
+    private int persistChunkSize;
+
+    @Value("${crawler.ledger.max-resumes:3}")
+    private int maxResumes;
+
     @Value("${AWS_S3_BUCKET}")
     private String s3Bucket;
 
     @Value("${AWS_REGION}")
     private String s3Region;
 
+    /**
+     * 수집기가 이미 조회·파싱한 기사 저장 (페이지를 다시 받지 않음)
+     * - 후보 목록을 실행 기록부에 먼저 남기고, 청크가 커밋될 때마다 항목 상태를 반영
+     */
+    public void crawlCandidates(List<CrawlCandidate> candidates) {
+        long runId = crawlRunLedger.start(candidates);
+        persist(runId, prepareAll(runId, candidates));
+        crawlRunLedger.finish(runId);
+    }
+
+    /**
+     * 중단된(RUNNING으로 남은) 실행을 PENDING 항목부터 이어서 처리
+     * - 수집 때 보관한 원문이 있으면 다시 요청하지 않고 재추출, 없을 때만 다시 조회
+     * - maxResumes번 이어서도 끝나지 않은 실행은 남은 항목을 PENDING으로 두고 종료 처리
+     */
+    public void resumeInterruptedRuns() {
+        for (CrawlLedgerRepository.RunRow run : crawlRunLedger.interruptedRuns()) {
+            if (run.resumeCount() >= maxResumes) {
+                log.warn("[크롤링 재개 포기] runId {} - {}회 재개 후에도 끝나지 않음", run.runId(), run.resumeCount());
+                crawlRunLedger.finish(run.runId());
+                continue;
+            }
+
+            Optional<List<CrawlLedgerRepository.RunItem>> claimed = crawlRunLedger.resume(run);
+            if (claimed.isEmpty()) {
+                log.info("[크롤링 재개 건너뜀] runId {} - 다른 인스턴스가 먼저 가져감", run.runId());
+                continue;
+            }
+            List<CrawlLedgerRepository.RunItem> pending = claimed.get();
+            log.info("🔄 중단된 크롤링 재개 - runId {}, 남은 항목 {}개", run.runId(), pending.size());
+
+            // 그 사이 다른 실행이 저장한 기사는 다시 받지 않음
+            Set<String> fresh = new HashSet<>(uncrawled(pending.stream().map(CrawlLedgerRepository.RunItem::articleUrl).toList()));
+            crawlRunLedger.markSkipped(run.runId(), pending.stream()
+                    .filter(item -> !fresh.contains(item.articleUrl()))
+                    .map(CrawlLedgerRepository.RunItem::urlKey)
+                    .toList());
+
+            List<CrawlCandidate> candidates = new ArrayList<>(pending.size());
+            List<String> refetch = new ArrayList<>();
+            for (CrawlLedgerRepository.RunItem item : pending) {
+                if (!fresh.contains(item.articleUrl())) continue;
+                Optional<CrawlCandidate> archived = rawHtmlArchive.read(item.urlKey())
+                        .flatMap(page -> extractQuietly(page.url(), page.html()));
+                if (archived.isPresent()) candidates.add(archived.get());
+                else refetch.add(item.articleUrl());
+            }
+
+            List<CrawlRecord> failed = new ArrayList<>();
+            for (PoliteFetcher.Fetched fetched : politeFetcher.fetchAll(refetch, "Mozilla/5.0", FETCH_TIMEOUT_MS)) {
+                if (fetched.error() != null) {
+                    pipelineMetrics.rejected("fetch_error");
+                    failed.add(CrawlRecord.failed(fetched.url()));
+                    continue;
+                }
+                rawHtmlArchive.append(fetched.url(), fetched.document().outerHtml());
+                try {
+                    candidates.add(articleExtractor.extract(fetched.url(), fetched.document()));
+                } catch (Exception e) {
+                    pipelineMetrics.rejected("extract_error");
+                    failed.add(CrawlRecord.failed(fetched.url()));
+                }
+            }
+
+            List<CrawlRecord> records = new ArrayList<>(prepareAll(run.runId(), candidates));
+            records.addAll(failed);
+            persist(run.runId(), records);
+            crawlRunLedger.finish(run.runId());
+        }
+    }
+
+    /**
+     * 아직 수집하지 않은 후보만 저장할 값으로 변환, 이미 수집된 후보는 실행 기록부에 SKIPPED로
+     */
+    private List<CrawlRecord> prepareAll(long runId, List<CrawlCandidate> candidates) {
+        Set<String> targets = new HashSet<>(uncrawled(candidates.stream().map(CrawlCandidate::url).toList()));
+        List<Long> skipped = new ArrayList<>();
+        for (CrawlCandidate candidate : candidates) {
+            Long key = NaverUrlKey.pack(candidate.url());
+            if (key != null && !targets.contains(candidate.url())) skipped.add(key);
+        }
+        crawlRunLedger.markSkipped(runId, skipped);
+
+        List<CrawlRecord> records = new ArrayList<>();
+        for (CrawlCandidate candidate : candidates) {
+            if (!targets.remove(candidate.url())) continue;
+            try {
+                records.add(prepare(candidate));
+            } catch (Exception e) {
+                log.warn("[크롤링 실패] {} : {}", candidate.url(), e.getMessage(), e);
+                pipelineMetrics.rejected("extract_error");
+                records.add(CrawlRecord.failed(candidate.url()));
+            }
+        }
+        return records;
+    }
+
+    private Optional<CrawlCandidate> extractQuietly(String url, String html) {
+        try {
+            return Optional.of(articleExtractor.extract(url, Jsoup.parse(html, url)));
+        } catch (Exception e) {
+            log.debug("보관 원문 재추출 실패: {} - {}", url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * JSON 링크 목록 크롤링 (수집 단계를 거치지 않은 링크용: 품질 테스트 등)
+     * - 조회 → 추출 → 저장 순서로 나눠, 조회/추출 동안에는 트랜잭션도 커넥션도 잡지 않음
+     */
     public void crawlFromJson(String json) throws IOException {
         ObjectMapper objectMapper = new ObjectMapper();
         JsonNode rootNode = objectMapper.readTree(json);
         JsonNode items = rootNode.path("items");
 
+        List<String> links = new ArrayList<>();
         for (JsonNode item : items) {
-            String link = item.path("link").asText();
+            links.add(item.path("link").asText());
+        }
+        links = uncrawled(links);
 
-            if (!link.startsWith(NAVER_PREFIX)) continue;
-            if (crawledArticleRepository.existsByArticleUrl(link)) continue;
+        // 1) 조회: 가상 스레드에서 병렬로 (요청마다 타임아웃, 호스트별 속도 제한 적용)
+        long fetchStartedAt = System.nanoTime();
+        List<PoliteFetcher.Fetched> fetchedPages = politeFetcher.fetchAll(links, "Mozilla/5.0", FETCH_TIMEOUT_MS);
+        pipelineMetrics.crawlStage("fetch", System.nanoTime() - fetchStartedAt);
 
+        // 2) 원문 보관 + 추출: 실패한 페이지는 FAILED 기록으로
+        List<CrawlRecord> records = new ArrayList<>(fetchedPages.size());
+        for (PoliteFetcher.Fetched fetched : fetchedPages) {
             try {
-                Document doc = Jsoup.connect(link)
-                        .userAgent("Mozilla/5.0")
-                        .get();
-
-                String content = doc.select("#dic_area").text();
-                if (content.isEmpty()) content = doc.select("div#newsEndContents").text();
-                if (content.isEmpty()) content = doc.select("article").text();
-                if (content.isEmpty()) content = doc.body().text();
-
-                log.info("[크롤링 결과] link: {}\ncontent: {}", link, content);
-
-                // 기자/특파원 이름 추출 (여러 명 지원)
-                List<String> authorList = new java.util.ArrayList<>();
-                // 화면에 보이는 기자명 요소 모두 수집
-                org.jsoup.select.Elements journalistElements = doc.select(".media_end_head_journalist_name");
-                for (Element el : journalistElements) {
-                    String text = el.text();
-                    // 이메일 주소 제거
-                    text = text.replaceAll("\\s*\\S+@\\S+", "");
-                    // "파리=유근형 특파원" 처럼 접두부 "=" 뒤만 취하도록
-                    int eqIndex = text.indexOf("=");
-                    if (eqIndex >= 0) {
-                        text = text.substring(eqIndex + 1);
-                    }
-                    // "기자", "특파원" 또는 "인턴" 단어 제거
-                    text = text.replaceAll("(기자|특파원|인턴)$", "").trim();
-                    if (!text.isEmpty()) {
-                        authorList.add(text);
-                    }
-                }
-                // 만약 기자명이 하나도 없다면 특파원 클래스도 검사
-                if (authorList.isEmpty()) {
-                    org.jsoup.select.Elements bylineElements = doc.select(".byline_s");
-                    for (Element el : bylineElements) {
-                        String text = el.text();
-                        text = text.replaceAll("\\s*\\S+@\\S+", "");
-                        int eqIndex = text.indexOf("=");
-                        if (eqIndex >= 0) {
-                            text = text.substring(eqIndex + 1);
-                        }
-                        text = text.replaceAll("(기자|특파원|인턴)$", "").trim();
-                        if (!text.isEmpty()) {
-                            authorList.add(text);
-                        }
-                    }
-                }
-                // 리스트로 모인 이름을 comma로 연결
-                String author = authorList.isEmpty() ? "" : String.join(", ", authorList);
-                log.info("👤 기자/특파원: {}", author);
+                if (fetched.error() != null) throw fetched.error();
+                rawHtmlArchive.append(fetched.url(), fetched.document().outerHtml());
+                records.add(prepare(articleExtractor.extract(fetched.url(), fetched.document())));
+            } catch (Exception e) {
+                log.warn("[크롤링 실패] {} : {}", fetched.url(), e.getMessage(), e);
+                pipelineMetrics.rejected(fetched.error() != null ? "fetch_error" : "extract_error");
+                records.add(CrawlRecord.failed(fetched.url()));
+            }
+        }
 
+        // 3) 저장: 청크 단위 짧은 트랜잭션 (실행 기록부 없이)
+        persist(null, records);
+    }
 
-                // 발행일 = 수정일로 취급, 수정일잉 없을 경우, 발행일로 대체
-                String publishedDateStr = doc.select("span._ARTICLE_MODIFY_DATE_TIME").attr("data-modify-date-time");
-                if (publishedDateStr.isEmpty()) {
-                    publishedDateStr = doc.select("span._ARTICLE_DATE_TIME").attr("data-date-time");
-                }
+    /**
+     * 네이버 링크 중 아직 수집하지 않은 것만 (입력 순서 유지, 같은 기사는 하나만)
+     * - 정규화 키가 있으면 색인 + 묶음 DB 확인, 기사 URL 형식이 아니면 URL 문자열로 확인
+     */
+    private List<String> uncrawled(List<String> links) {
+        Map<Long, String> linksByKey = new LinkedHashMap<>();
+        List<String> keyless = new ArrayList<>();
+        for (String link : links) {
+            if (link == null || !link.startsWith(NAVER_PREFIX)) continue;
+            Long key = NaverUrlKey.pack(link);
+            if (key != null) linksByKey.putIfAbsent(key, link);
+            else if (!keyless.contains(link)) keyless.add(link);
+        }
 
-                LocalDateTime publishedAt = null;
-                if (!publishedDateStr.isEmpty()) {
-                    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-                    publishedAt = LocalDateTime.parse(publishedDateStr, formatter);
-                }
+        Set<String> fresh = new HashSet<>();
+        for (Long key : crawledUrlIndex.filterNew(linksByKey.keySet())) {
+            fresh.add(linksByKey.get(key));
+        }
+        for (String link : keyless) {
+            if (!crawledArticleRepository.existsByArticleUrl(link)) fresh.add(link);
+        }
+        return links.stream().filter(fresh::remove).toList();
+    }
 
-                log.info("🗓️ 발행일(=수정일): {}", publishedAt);  // 2025-07-17T15:24:17
-
-                // 이 시점에서 둘 다 final 로 선언 (람다에서 사용 가능)
-                final String finalAuthor = author;
-                final LocalDateTime finalPublishedAt = publishedAt;
-
-                String originalTitle = doc.title();
-                String title = originalTitle.length() > 100 ? originalTitle.substring(0, 100) : originalTitle;
-
-                Article article = articleRepository.findByArticleUrl(link)
-                        .orElseGet(() -> articleRepository.save(
-                                Article.builder()
-                                        .title(title)
-                                        .articleUrl(link)
-                                        .publishedAt(finalPublishedAt)
-                                        .viewCount(0)
-                                        .build()
-                        ));
-
-                String html = doc.outerHtml();
-                String articleId = link.substring(link.lastIndexOf("/") + 1);
-
-                // 카테고리 할당 (sid1은 내부에서 추출됨)
-                categoryService.assignCategoryToArticle(article, link);
-
-                // 아이콘 URL 생성 및 저장 (연관 로딩 없이 URL sid로 파생)
-                String sidForIcon = extractSidFromUrl(link);
-                String categoryName = switch (sidForIcon) {
-                    case "100" -> "정치";
-                    case "101" -> "경제";
-                    case "102" -> "사회";
-                    case "103" -> "생활문화";
-                    case "104" -> "세계";
-                    case "105" -> "IT/과학";
-                    default -> "기타";
-                };
-                String iconUrl = resolveCategoryIconUrl(categoryName, link);
-                if (iconUrl != null && (article.getImageUrl() == null || !iconUrl.equals(article.getImageUrl()))) {
-                    article.updateImageUrl(iconUrl);
-                    articleRepository.save(article);
-                    log.info("🖼️ 아이콘 URL 저장: {} -> {}", categoryName, iconUrl);
-                }
+    /**
+     * 저장할 값 준비 (제목 길이 제한, 카테고리/아이콘은 URL sid로 파생 - DB 접근 없음)
+     */
+    private CrawlRecord prepare(CrawlCandidate candidate) {
+        String link = candidate.url();
+
+        String content = candidate.content();
+        log.info("[크롤링 결과] link: {}, 본문 {}자", link, content == null ? 0 : content.length());
+        log.debug("[크롤링 본문] {}", content);
+
+        String author = candidate.author();
+        log.info("👤 기자/특파원: {}", author);
+
+        // 발행일 = 수정일로 취급, 수정일이 없을 경우 발행일로 대체
+        LocalDateTime publishedAt = candidate.publishedAt();
+        log.info("🗓️ 발행일(=수정일): {}", publishedAt);  // 2025-07-17T15:24:17
 
-                CrawledArticle crawledArticle = CrawledArticle.builder()
-                        .articleUrl(link)
-                        .author(author.isEmpty() ? "unknown" : author)
-                        .publishedAt(finalPublishedAt)
-                        .content(content)
-                        .status(CrawledArticle.Status.PROCESSED)
-                        .crawledAt(LocalDateTime.now())
-                        .articleId(article.getArticleId())
-                        .build();
+        String originalTitle = candidate.title() == null ? "" : candidate.title();
+        String title = originalTitle.length() > 100 ? originalTitle.substring(0, 100) : originalTitle;
 
-                crawledArticleRepository.save(crawledArticle);
+        // 카테고리 할당 (sid1 → 카테고리, 레지스트리 조회)
+        String sid = extractSidFromUrl(link);
+        Category category = categoryRegistry.findBySid(sid)
+                .orElseThrow(() -> new IllegalArgumentException("해당 sid에 매핑된 카테고리가 존재하지 않습니다. (입력값: " + sid + ")"));
 
+        // 아이콘 URL 생성 (연관 로딩 없이 URL sid로 파생)
+        String iconUrl = resolveCategoryIconUrl(category.getCategoryName(), link);
+
+        return new CrawlRecord(link, NaverUrlKey.pack(link), false, title, content, author, publishedAt,
+                category.getCategoryId(), iconUrl, ContentFingerprint.signature(content), null, null);
+    }
+
+    /**
+     * 거의 같은 본문의 기사 연결 - 최근 저장된 기사, 또는 이번 실행에서 앞서 나온 기사
+     */
+    private List<CrawlRecord> linkNearDuplicates(List<CrawlRecord> records) {
+        MinHashLsh thisRun = new MinHashLsh();
+        List<CrawlRecord> linked = new ArrayList<>(records.size());
+        for (CrawlRecord record : records) {
+            int[] signature = record.fingerprint();
+            if (record.failed() || signature == null) {
+                linked.add(record);
+                continue;
+            }
+
+            OptionalLong existing = nearDuplicateIndex.findDuplicate(signature);
+            OptionalLong earlier = existing.isPresent() ? OptionalLong.empty()
+                    : thisRun.findMostSimilar(signature, nearDuplicateIndex.minSimilarity());
+            if (existing.isPresent()) {
+                log.info("🔁 유사 기사 연결: {} → articleId {}", record.url(), existing.getAsLong());
+                linked.add(record.linkedTo(existing.getAsLong(), null));
+            } else if (earlier.isPresent()) {
+                String canonicalUrl = linked.get((int) earlier.getAsLong()).url();
+                log.info("🔁 유사 기사 연결: {} → {}", record.url(), canonicalUrl);
+                linked.add(record.linkedTo(null, canonicalUrl));
+            } else {
+                thisRun.put(signature, linked.size());
+                linked.add(record);
+            }
+        }
+        return linked;
+    }
+
+    /**
+     * 청크 단위로 저장, 청크가 실패하면 한 건씩 다시 저장 (한 건의 오류가 청크 전체를 버리지 않도록)
+     * - 커밋된 키/지문만 색인에 등록
+     */
+    private void persist(Long runId, List<CrawlRecord> records) {
+        long startedAt = System.nanoTime();
+        records = linkNearDuplicates(records);
+        pipelineMetrics.crawlStage("dedupe", System.nanoTime() - startedAt);
+        startedAt = System.nanoTime();
+        for (int from = 0; from < records.size(); from += persistChunkSize) {
+            List<CrawlRecord> chunk = records.subList(from, Math.min(records.size(), from + persistChunkSize));
+            try {
+                Map<String, Long> owned = crawlPersister.persist(runId, chunk);
+                chunk.forEach(record -> registerCommitted(record, owned));
             } catch (Exception e) {
-                crawledArticleRepository.save(
-                        CrawledArticle.builder()
-                                .articleUrl(link)
-                                .status(CrawledArticle.Status.FAILED)
-                                .crawledAt(LocalDateTime.now())
-                                .build()
-                );
-
-                log.warn("[크롤링 실패] {} : {}", link, e.getMessage(), e);
+                log.warn("[크롤링 저장 실패] {}건 청크 - 한 건씩 다시 저장: {}", chunk.size(), e.getMessage());
+                chunk.forEach(record -> persistOne(runId, record));
             }
         }
+        pipelineMetrics.crawlStage("persist", System.nanoTime() - startedAt);
+    }
+
+    private void persistOne(Long runId, CrawlRecord record) {
+        try {
+            registerCommitted(record, crawlPersister.persist(runId, List.of(record)));
+        } catch (Exception e) {
+            log.warn("[크롤링 실패] {} : {}", record.url(), e.getMessage(), e);
+            // 기사 저장에 실패하면 FAILED로라도 남겨 다음 수집에서 같은 URL을 반복하지 않음
+            if (!record.failed()) persistOne(runId, CrawlRecord.failed(record.url()));
+        }
+    }
+
+    private void registerCommitted(CrawlRecord record, Map<String, Long> owned) {
+        crawledUrlIndex.add(record.urlKey());
+        Long articleId = owned.get(record.url());
+        if (articleId != null) nearDuplicateIndex.add(record.fingerprint(), articleId);
+        pipelineMetrics.persisted(record.failed() ? "failed" : articleId != null ? "processed" : "duplicate", 1);
     }
 
     // 카테고리명은 무시하고, URL의 sid/sid1 값으로 아이콘을 고정 매핑(ASCII 파일명 사용)
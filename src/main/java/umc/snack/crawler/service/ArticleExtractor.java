@@ -0,0 +1,109 @@
+package umc.snack.crawler.service;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 네이버 기사 페이지 파싱 (수집기의 유효성 검사와 크롤러 저장이 같은 규칙을 쓰도록 한 곳에 모음)
+ */
+@Component
+public class ArticleExtractor {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * 기사 본문 영역 텍스트 (없으면 빈 문자열)
+     */
+    public String articleText(Document doc) {
+        String text = doc.select("#dic_area").text();
+        if (text.isEmpty()) text = doc.select("div#newsEndContents").text();
+        if (text.isEmpty()) text = doc.select("article").text();
+        return text;
+    }
+
+    /**
+     * 본문 길이(50자 이상)와 한글 비율(60% 이상) 기준 유효성
+     */
+    public boolean isValidKoreanArticle(String text) {
+        if (text == null || text.length() < 50) return false;
+
+        long totalLength = text.length();
+        long koreanCharCount = text.chars()
+                .filter(c -> (c >= 0xAC00 && c <= 0xD7A3)   // 완성형
+                        || (c >= 0x1100 && c <= 0x11FF)     // 자음
+                        || (c >= 0x3130 && c <= 0x318F)     // 호환 자모
+                        || (c >= 0xA960 && c <= 0xA97F))    // 확장 자모
+                .count();
+        double ratio = (double) koreanCharCount / totalLength;
+        return ratio >= 0.6;
+    }
+
+    /**
+     * 제목 (head title이 비어 있으면 본문 헤드라인)
+     */
+    public String title(Document doc) {
+        String title = doc.title();
+        if (title == null || title.isBlank()) {
+            // Naver 모바일 기사 제목이 head<title> 외 위치할 가능성 대비
+            String t2 = doc.select("h2.media_end_head_headline, h2#title_area, #title_area").text();
+            if (!t2.isBlank()) title = t2;
+        }
+        return title;
+    }
+
+    /**
+     * 저장에 필요한 필드 추출 (본문 영역이 없으면 body 전체 텍스트)
+     */
+    public CrawlCandidate extract(String url, Document doc) {
+        String content = articleText(doc);
+        if (content.isEmpty() && doc.body() != null) content = doc.body().text();
+        return new CrawlCandidate(url, title(doc), content, author(doc), publishedAt(doc));
+    }
+
+    // 기자/특파원 이름 추출 (여러 명이면 comma로 연결, 없으면 빈 문자열)
+    private String author(Document doc) {
+        // 화면에 보이는 기자명 요소 모두 수집
+        List<String> authorList = authorNames(doc.select(".media_end_head_journalist_name"));
+        // 만약 기자명이 하나도 없다면 특파원 클래스도 검사
+        if (authorList.isEmpty()) {
+            authorList = authorNames(doc.select(".byline_s"));
+        }
+        return authorList.isEmpty() ? "" : String.join(", ", authorList);
+    }
+
+    private List<String> authorNames(Elements elements) {
+        List<String> names = new ArrayList<>();
+        for (Element el : elements) {
+            String text = el.text();
+            // 이메일 주소 제거
+            text = text.replaceAll("\\s*\\S+@\\S+", "");
+            // "파리=유근형 특파원" 처럼 접두부 "=" 뒤만 취하도록
+            int eqIndex = text.indexOf("=");
+            if (eqIndex >= 0) {
+                text = text.substring(eqIndex + 1);
+            }
+            // "기자", "특파원" 또는 "인턴" 단어 제거
+            text = text.replaceAll("(기자|특파원|인턴)$", "").trim();
+            if (!text.isEmpty()) {
+                names.add(text);
+            }
+        }
+        return names;
+    }
+
+    // 발행일 = 수정일로 취급, 수정일이 없을 경우 발행일로 대체
+    private LocalDateTime publishedAt(Document doc) {
+        String publishedDateStr = doc.select("span._ARTICLE_MODIFY_DATE_TIME").attr("data-modify-date-time");
+        if (publishedDateStr.isEmpty()) {
+            publishedDateStr = doc.select("span._ARTICLE_DATE_TIME").attr("data-date-time");
+        }
+        return publishedDateStr.isEmpty() ? null : LocalDateTime.parse(publishedDateStr, DATE_TIME_FORMATTER);
+    }
+}
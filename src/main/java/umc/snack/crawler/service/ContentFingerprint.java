@@ -0,0 +1,114 @@
+package umc.snack.crawler.service;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 기사 본문 MinHash 지문 (해시 64개)
+ * - 한글 음절/영문/숫자만 남겨 공백 없이 이은 뒤 3글자 shingle 집합의 MinHash
+ *   → 두 지문에서 같은 자리 값이 일치하는 비율 ≈ shingle 집합의 Jaccard 유사도
+ * - 언론사별 머리말("(서울=연합뉴스) ○○○ 기자 =")이나 저작권 문구만 다른 통신 기사는 0.8 이상으로 나옴
+ * - 본문이 너무 짧으면 지문을 만들지 않음 (짧은 글끼리 우연히 비슷해지는 것 방지)
+ */
+public final class ContentFingerprint {
+
+    public static final int SIZE = 64;
+
+    private static final int SHINGLE = 3;
+    private static final int MIN_SHINGLES = 30;
+    private static final long[] SEEDS = new long[SIZE];
+
+    static {
+        long seed = 0x2545F4914F6CDD1DL;
+        for (int i = 0; i < SIZE; i++) {
+            seed += 0x9E3779B97F4A7C15L;
+            SEEDS[i] = mix(seed);
+        }
+    }
+
+    private ContentFingerprint() {
+    }
+
+    /**
+     * 본문 지문, 본문이 짧으면 null
+     */
+    public static int[] signature(String text) {
+        if (text == null) return null;
+        char[] chars = normalize(text);
+        int shingles = chars.length - SHINGLE + 1;
+        if (shingles < MIN_SHINGLES) return null;
+
+        int[] signature = new int[SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int i = 0; i < shingles; i++) {
+            long h = hash(chars, i);
+            for (int k = 0; k < SIZE; k++) {
+                // 해시마다 다른 시드로 섞어 독립적인 순열처럼 사용 (부호 없는 31비트 값)
+                int v = (int) (mix(h ^ SEEDS[k]) >>> 33);
+                if (v < signature[k]) signature[k] = v;
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 두 지문의 추정 Jaccard 유사도 (0~1)
+     */
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int k = 0; k < SIZE; k++) {
+            if (a[k] == b[k]) same++;
+        }
+        return (double) same / SIZE;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE * Integer.BYTES);
+        for (int v : signature) buffer.putInt(v);
+        return buffer.array();
+    }
+
+    /**
+     * 저장된 바이트 → 지문 (길이가 맞지 않으면 null)
+     */
+    public static int[] fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != SIZE * Integer.BYTES) return null;
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int[] signature = new int[SIZE];
+        for (int k = 0; k < SIZE; k++) signature[k] = buffer.getInt();
+        return signature;
+    }
+
+    private static char[] normalize(String text) {
+        char[] out = new char[text.length()];
+        int n = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                out[n++] = c;
+            } else if (c < 0x80 && Character.isLetterOrDigit(c)) {
+                out[n++] = Character.toLowerCase(c);
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    // shingle 하나의 64비트 해시 (FNV-1a)
+    private static long hash(char[] chars, int from) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = from; i < from + SHINGLE; i++) {
+            h ^= chars[i];
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
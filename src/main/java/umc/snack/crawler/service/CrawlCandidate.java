@@ -0,0 +1,15 @@
+package umc.snack.crawler.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수집 단계에서 이미 조회·파싱한 기사 (저장 단계로 그대로 넘겨 같은 페이지를 다시 받지 않음)
+ * - DOM은 들고 있지 않고 저장에 필요한 필드만 추출해 보관
+ */
+public record CrawlCandidate(
+        String url,
+        String title,
+        String content,
+        String author,
+        LocalDateTime publishedAt
+) {}
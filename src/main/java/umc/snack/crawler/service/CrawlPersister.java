@@ -0,0 +1,150 @@
+package umc.snack.crawler.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import umc.snack.common.metrics.PipelineMetrics;
+import umc.snack.domain.article.entity.CrawlRunItem;
+import umc.snack.domain.article.entity.CrawledArticle;
+import umc.snack.domain.article.entity.CrawledArticleContent;
+import umc.snack.repository.article.CrawlBatchRepository;
+import umc.snack.repository.article.CrawlLedgerRepository;
+import umc.snack.repository.article.CrawledArticleRepository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 크롤링 결과 저장 단계 (청크 하나 = 짧은 트랜잭션 하나)
+ * - 네트워크 조회/파싱이 끝난 값만 받으므로 커넥션은 INSERT 동안만 점유
+ * - 기사와 카테고리 연결은 JDBC 배치, 본문 행은 같은 트랜잭션에서 함께 기록
+ * - 거의 같은 기사는 기사 행 없이 원 기사 ID만 남김 (요약/벡터화 대상에서 빠짐)
+ * - 기사/카테고리 연결/본문 기록 단계별 DB 시간은 snack.crawl.stage 로 기록
+ * - 실행 항목 상태/실행 카운터/누적 카운터도 같은 트랜잭션에서 반영 (커밋된 청크 = 체크포인트)
+ */
+@Component
+@RequiredArgsConstructor
+class CrawlPersister {
+
+    private final CrawlBatchRepository crawlBatchRepository;
+    private final CrawledArticleRepository crawledArticleRepository;
+    private final CrawlLedgerRepository crawlLedgerRepository;
+    private final PipelineMetrics pipelineMetrics;
+
+    /**
+     * 청크 저장 후, 기사 행을 가진 레코드의 URL → 기사 ID 반환
+     * - runId: 기록부 실행 ID (실행 없이 저장하면 null)
+     */
+    @Transactional
+    public Map<String, Long> persist(Long runId, List<CrawlRecord> records) {
+        List<CrawlRecord> processed = records.stream().filter(r -> !r.failed()).toList();
+
+        // 같은 실행의 앞선 기사에 연결된 중복은, 그 기사가 이미 저장됐거나 이 청크에서 저장될 때만 연결 유지
+        Set<String> lookupUrls = new HashSet<>();
+        Set<String> ownersInChunk = new HashSet<>();
+        for (CrawlRecord record : processed) {
+            if (record.duplicateOfUrl() != null) lookupUrls.add(record.duplicateOfUrl());
+            if (!record.isDuplicate()) {
+                lookupUrls.add(record.url());
+                ownersInChunk.add(record.url());
+            }
+        }
+        Map<String, Long> found = crawlBatchRepository.findArticleIdsByUrl(lookupUrls);
+
+        List<CrawlRecord> owners = new ArrayList<>();
+        for (CrawlRecord record : processed) {
+            boolean linked = record.duplicateOfArticleId() != null
+                    || (record.duplicateOfUrl() != null
+                        && (found.containsKey(record.duplicateOfUrl()) || ownersInChunk.contains(record.duplicateOfUrl())));
+            if (!linked) owners.add(record);
+        }
+
+        // 1) 기사: 같은 URL의 기존 행은 재사용(아이콘만 갱신), 없으면 한 번에 INSERT
+        long startedAt = System.nanoTime();
+        Map<String, Long> articleIds = new HashMap<>(found);
+        List<CrawlRecord> toInsert = new ArrayList<>();
+        List<CrawlBatchRepository.ImageUpdate> imageUpdates = new ArrayList<>();
+        for (CrawlRecord record : owners) {
+            Long articleId = found.get(record.url());
+            if (articleId == null) {
+                toInsert.add(record);
+            } else if (record.imageUrl() != null) {
+                imageUpdates.add(new CrawlBatchRepository.ImageUpdate(articleId, record.imageUrl()));
+            }
+        }
+
+        List<Long> newIds = crawlBatchRepository.insertArticles(toInsert.stream()
+                .map(r -> new CrawlBatchRepository.NewArticle(r.title(), r.url(), r.imageUrl(), r.publishedAt()))
+                .toList());
+        for (int i = 0; i < toInsert.size(); i++) {
+            articleIds.put(toInsert.get(i).url(), newIds.get(i));
+        }
+        if (!imageUpdates.isEmpty()) crawlBatchRepository.updateImageUrls(imageUpdates);
+        pipelineMetrics.crawlStage("persist.articles", System.nanoTime() - startedAt);
+
+        // 2) 기사-카테고리 연결
+        startedAt = System.nanoTime();
+        List<CrawlBatchRepository.CategoryLink> links = owners.stream()
+                .filter(r -> r.categoryId() != null)
+                .map(r -> new CrawlBatchRepository.CategoryLink(articleIds.get(r.url()), r.categoryId()))
+                .toList();
+        if (!links.isEmpty()) crawlBatchRepository.insertCategoryLinks(links);
+        pipelineMetrics.crawlStage("persist.categories", System.nanoTime() - startedAt);
+
+        // 3) 수집 본문/실패 기록
+        startedAt = System.nanoTime();
+        Map<String, Long> owned = new HashMap<>();
+        for (CrawlRecord record : owners) {
+            owned.put(record.url(), articleIds.get(record.url()));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (CrawlRecord record : records) {
+            CrawledArticle.CrawledArticleBuilder builder = CrawledArticle.builder()
+                    .articleUrl(record.url())
+                    .urlKey(record.urlKey())
+                    .crawledAt(now);
+            if (record.failed()) {
+                builder.status(CrawledArticle.Status.FAILED);
+            } else {
+                Long articleId = owned.get(record.url());
+                builder.status(CrawledArticle.Status.PROCESSED)
+                        .articleId(articleId)
+                        .duplicateOfArticleId(articleId != null ? null
+                                : record.duplicateOfArticleId() != null ? record.duplicateOfArticleId()
+                                : articleIds.get(record.duplicateOfUrl()))
+                        .author(record.author() == null || record.author().isEmpty() ? "unknown" : record.author())
+                        .publishedAt(record.publishedAt())
+                        .body(CrawledArticleContent.of(record.content()))
+                        .contentFingerprint(record.fingerprint() == null ? null : ContentFingerprint.toBytes(record.fingerprint()));
+            }
+            crawledArticleRepository.save(builder.build());
+        }
+        pipelineMetrics.crawlStage("persist.contents", System.nanoTime() - startedAt);
+
+        // 4) 실행 항목 상태 + 카운터
+        recordProgress(runId, records, owned);
+        return owned;
+    }
+
+    private void recordProgress(Long runId, List<CrawlRecord> records, Map<String, Long> owned) {
+        int processed = 0, duplicate = 0, failed = 0;
+        List<CrawlLedgerRepository.ItemState> states = new ArrayList<>(records.size());
+        for (CrawlRecord record : records) {
+            CrawlRunItem.State state = record.failed() ? CrawlRunItem.State.FAILED
+                    : owned.containsKey(record.url()) ? CrawlRunItem.State.PROCESSED
+                    : CrawlRunItem.State.DUPLICATE;
+            switch (state) {
+                case PROCESSED -> processed++;
+                case DUPLICATE -> duplicate++;
+                default -> failed++;
+            }
+            if (record.urlKey() != null) states.add(new CrawlLedgerRepository.ItemState(record.urlKey(), state));
+        }
+
+        // crawled_articles 기준: 중복 연결 행도 PROCESSED 상태
+        crawlLedgerRepository.addStats(records.size(), processed + duplicate, failed);
+        if (runId == null) return;
+        if (!states.isEmpty()) crawlLedgerRepository.updateItemStates(runId, states);
+        crawlLedgerRepository.addRunCounts(runId, processed, duplicate, failed, 0);
+    }
+}
@@ -0,0 +1,37 @@
+package umc.snack.crawler.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 단계 입력 한 건 (조회·추출이 끝나 DB 없이 만들 수 있는 값만 담음)
+ * - 성공: 기사/카테고리/아이콘/본문/지문, 실패: URL과 키만 (FAILED로 기록)
+ * - 거의 같은 기사: 기존 기사 ID, 또는 같은 실행에서 먼저 저장될 기사 URL에 연결 (기사 행은 만들지 않음)
+ */
+record CrawlRecord(
+        String url,
+        Long urlKey,
+        boolean failed,
+        String title,
+        String content,
+        String author,
+        LocalDateTime publishedAt,
+        Long categoryId,
+        String imageUrl,
+        int[] fingerprint,
+        Long duplicateOfArticleId,
+        String duplicateOfUrl
+) {
+
+    static CrawlRecord failed(String url) {
+        return new CrawlRecord(url, NaverUrlKey.pack(url), true, null, null, null, null, null, null, null, null, null);
+    }
+
+    CrawlRecord linkedTo(Long articleId, String url) {
+        return new CrawlRecord(this.url, urlKey, failed, title, content, author, publishedAt, categoryId, imageUrl,
+                fingerprint, articleId, url);
+    }
+
+    boolean isDuplicate() {
+        return duplicateOfArticleId != null || duplicateOfUrl != null;
+    }
+}
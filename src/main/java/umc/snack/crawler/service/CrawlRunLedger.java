@@ -0,0 +1,110 @@
+package umc.snack.crawler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import umc.snack.domain.article.entity.CrawlRunItem;
+import umc.snack.repository.article.CrawlLedgerRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 크롤링 실행 기록부
+ * - 실행 시작 때 후보 전체를 PENDING으로 기록, 저장 청크가 커밋될 때 같은 트랜잭션에서 항목 상태/카운터 반영 (CrawlPersister)
+ *   → 중단돼도 커밋된 청크까지가 체크포인트, 남은 PENDING 항목만 이어서 처리
+ * - 여러 인스턴스가 떠 있어도 체크포인트가 오래된 실행만, 조건부 UPDATE로 한 인스턴스만 가져가서 재개
+ * - crawled_articles 누적 카운터(crawl_stats)는 기동 시 한 번만 집계해 만들고 이후 증분으로 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlRunLedger {
+
+    private final CrawlLedgerRepository crawlLedgerRepository;
+
+    // 이 시간 동안 체크포인트가 없는 RUNNING 실행만 중단된 것으로 봄 (수집 단계가 가장 길게 걸리는 시간보다 길게)
+    @Value("${crawler.ledger.stale-minutes:30}")
+    private long staleMinutes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            if (crawlLedgerRepository.seedStatsIfAbsent()) {
+                log.info("크롤링 누적 카운터 생성 - {}", crawlLedgerRepository.findStats().orElse(null));
+            }
+        } catch (Exception e) {
+            log.error("크롤링 누적 카운터 생성 실패 - 상태 조회는 집계 쿼리로 대체됩니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 후보 목록으로 실행 시작, 실행 ID 반환 (같은 기사는 한 번만, 키가 없는 URL은 기록하지 않음)
+     */
+    @Transactional
+    public long start(Collection<CrawlCandidate> candidates) {
+        Map<Long, CrawlLedgerRepository.RunItem> items = new LinkedHashMap<>();
+        for (CrawlCandidate candidate : candidates) {
+            Long key = NaverUrlKey.pack(candidate.url());
+            if (key != null) items.putIfAbsent(key, new CrawlLedgerRepository.RunItem(key, candidate.url()));
+        }
+        long runId = crawlLedgerRepository.insertRun(items.size(), LocalDateTime.now());
+        if (!items.isEmpty()) crawlLedgerRepository.insertItems(runId, new ArrayList<>(items.values()));
+        return runId;
+    }
+
+    /**
+     * 저장 직전에 이미 수집된 것으로 확인된 항목
+     */
+    @Transactional
+    public void markSkipped(long runId, Collection<Long> urlKeys) {
+        if (urlKeys.isEmpty()) return;
+        crawlLedgerRepository.updateItemStates(runId, urlKeys.stream()
+                .map(key -> new CrawlLedgerRepository.ItemState(key, CrawlRunItem.State.SKIPPED))
+                .toList());
+        crawlLedgerRepository.addRunCounts(runId, 0, 0, 0, urlKeys.size());
+    }
+
+    public void finish(long runId) {
+        crawlLedgerRepository.finishRun(runId);
+    }
+
+    /**
+     * 중단된 실행 (오래된 순) - RUNNING이어도 최근 stale-minutes 안에 체크포인트가 있으면 다른 인스턴스가 실행 중인 것으로 봄
+     */
+    public List<CrawlLedgerRepository.RunRow> interruptedRuns() {
+        return crawlLedgerRepository.findStaleRunningRuns(staleBefore());
+    }
+
+    /**
+     * 실행을 가져와 이어서 처리할 항목 반환 - 다른 인스턴스가 먼저 가져갔으면 empty
+     * - 가져올 때마다 재개 횟수 증가 (계속 중단되는 실행을 끝없이 붙잡지 않도록)
+     */
+    public Optional<List<CrawlLedgerRepository.RunItem>> resume(CrawlLedgerRepository.RunRow run) {
+        if (!crawlLedgerRepository.claimRun(run.runId(), run.resumeCount(), staleBefore())) {
+            return Optional.empty();
+        }
+        return Optional.of(crawlLedgerRepository.findPendingItems(run.runId()));
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minusMinutes(staleMinutes);
+    }
+
+    public Optional<CrawlLedgerRepository.StatsRow> stats() {
+        return crawlLedgerRepository.findStats();
+    }
+
+    public int runningRuns() {
+        return crawlLedgerRepository.countRunningRuns();
+    }
+}
@@ -0,0 +1,61 @@
+package umc.snack.crawler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import umc.snack.repository.article.CrawlBatchRepository;
+
+import java.util.List;
+
+/**
+ * 예전 평문 본문(crawled_articles.content, TEXT) → 압축 본문 테이블(crawled_article_contents) 이전
+ * - 기동 후 백그라운드에서 한 번, crawled_article_id 순으로 배치 단위 이전 (배치마다 커밋이라 중간에 멈춰도 다음 기동 때 이어감)
+ * - 옮긴 행은 content를 비워서 다시 대상이 되지 않음 (빈 칸 자체는 ddl-auto가 지우지 않으므로 확인 후 수동 DROP)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawledContentMigration {
+
+    private final CrawlBatchRepository crawlBatchRepository;
+
+    @Value("${crawler.content.migrate-on-startup:true}")
+    private boolean migrateOnStartup;
+
+    @Value("${crawler.content.migrate-batch-size:500}")
+    private int batchSize;
+
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!migrateOnStartup) return;
+        try {
+            if (!crawlBatchRepository.hasLegacyContentColumn()) return;
+            migrate();
+        } catch (Exception e) {
+            log.error("기존 기사 본문 압축 이전 실패 - 다음 기동 때 이어서 진행합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 남은 예전 본문을 모두 옮기고 옮긴 행 수 반환
+     */
+    public int migrate() {
+        int moved = 0;
+        long lastId = 0;
+        while (true) {
+            List<CrawlBatchRepository.LegacyContent> rows = crawlBatchRepository.findLegacyContents(lastId, batchSize);
+            if (rows.isEmpty()) break;
+            crawlBatchRepository.moveLegacyContents(rows);
+            moved += rows.size();
+            lastId = rows.get(rows.size() - 1).crawledArticleId();
+            log.debug("기사 본문 압축 이전 중 - {}건 (마지막 ID {})", moved, lastId);
+        }
+        if (moved > 0) log.info("기존 기사 본문 압축 이전 완료 - {}건", moved);
+        return moved;
+    }
+}
@@ -0,0 +1,106 @@
+package umc.snack.crawler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import umc.snack.common.util.LongHashSet;
+import umc.snack.repository.article.CrawledUrlKeyRepository;
+
+import java.util.*;
+
+/**
+ * 이미 수집한 기사 키(oid/aid) 메모리 색인
+ * - 기동 시 url_key 전체를 long 집합으로 적재, 저장할 때마다 추가
+ * - 색인에 있는 키(양성)만 묶어서 DB로 한 번 더 확인 → 롤백/삭제된 행을 기사 누락으로 이어가지 않음
+ *   → 후보 수만큼만 일하고, 누적 수집량에 비례하는 전체 URL 조회는 하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawledUrlIndex {
+
+    private final CrawledUrlKeyRepository crawledUrlKeyRepository;
+
+    @Value("${crawler.url-index.load-batch-size:10000}")
+    private int loadBatchSize;
+
+    private final LongHashSet keys = new LongHashSet(1 << 16);
+    private volatile boolean warm = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            int backfilled = backfillMissingKeys();
+            if (backfilled > 0) {
+                log.info("크롤링 URL 키 백필 - {}건", backfilled);
+            }
+
+            long afterKey = -1L;
+            while (true) {
+                Long last;
+                synchronized (this) {
+                    last = crawledUrlKeyRepository.forEachKeyAfter(afterKey, loadBatchSize, keys::add);
+                }
+                if (last == null) break;
+                afterKey = last;
+            }
+            warm = true;
+            log.info("크롤링 URL 색인 적재 완료 - {}개", size());
+        } catch (Exception e) {
+            log.error("크롤링 URL 색인 적재 실패 - 후보 키를 매번 DB로 확인합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 저장한 기사 키 등록
+     */
+    public synchronized void add(Long key) {
+        if (key != null) keys.add(key);
+    }
+
+    /**
+     * 아직 수집하지 않은 키만 반환 (입력 순서 유지)
+     * - 색인에 없는 키는 DB 조회 없이 신규, 색인에 있는 키만 한 번의 IN 조회로 확인
+     * - 색인 적재 전이면 후보 전체를 DB로 확인
+     */
+    public Set<Long> filterNew(Collection<Long> candidates) {
+        Set<Long> result = new LinkedHashSet<>();
+        List<Long> positives = new ArrayList<>();
+        synchronized (this) {
+            for (Long key : candidates) {
+                if (key == null || !result.add(key)) continue;
+                if (!warm || keys.contains(key)) positives.add(key);
+            }
+        }
+        if (positives.isEmpty()) return result;
+
+        result.removeAll(crawledUrlKeyRepository.findExistingKeys(positives));
+        return result;
+    }
+
+    public synchronized int size() {
+        return keys.size();
+    }
+
+    // 컬럼 추가 이전 행의 url_key를 URL에서 계산해 채움
+    private int backfillMissingKeys() {
+        long afterId = 0L;
+        int total = 0;
+        while (true) {
+            List<CrawledUrlKeyRepository.UrlRow> rows = crawledUrlKeyRepository.findRowsWithoutKey(afterId, loadBatchSize);
+            List<CrawledUrlKeyRepository.UrlKeyUpdate> updates = new ArrayList<>();
+            for (CrawledUrlKeyRepository.UrlRow row : rows) {
+                Long key = NaverUrlKey.pack(row.articleUrl());
+                if (key != null) updates.add(new CrawledUrlKeyRepository.UrlKeyUpdate(row.crawledArticleId(), key));
+            }
+            if (!updates.isEmpty()) crawledUrlKeyRepository.updateKeys(updates);
+            total += updates.size();
+            if (rows.size() < loadBatchSize) break;
+            afterId = rows.get(rows.size() - 1).crawledArticleId();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,64 @@
+package umc.snack.crawler.service;
+
+import java.util.*;
+
+/**
+ * MinHash 지문 근접 탐색용 밴드 LSH 테이블
+ * - 지문 64개 값을 4개씩 16개 밴드로 나눠, 밴드 전체가 같은 지문끼리만 후보로 모음
+ *   → 유사도 0.7인 쌍이 후보에 오를 확률 ≈ 1 - (1 - 0.7^4)^16 ≈ 0.99, 0.3 이하는 거의 오르지 않음
+ * - 후보만 전체 지문으로 유사도를 다시 계산하므로 조회 비용은 저장 개수가 아니라 버킷 크기에 비례
+ */
+final class MinHashLsh {
+
+    private static final int ROWS = 4;
+    private static final int BANDS = ContentFingerprint.SIZE / ROWS;
+
+    private final List<Map<Long, List<Entry>>> bands = new ArrayList<>(BANDS);
+    private int size;
+
+    MinHashLsh() {
+        for (int i = 0; i < BANDS; i++) bands.add(new HashMap<>());
+    }
+
+    synchronized void put(int[] signature, long value) {
+        Entry entry = new Entry(signature, value);
+        for (int band = 0; band < BANDS; band++) {
+            bands.get(band).computeIfAbsent(bandKey(signature, band), k -> new ArrayList<>(2)).add(entry);
+        }
+        size++;
+    }
+
+    /**
+     * 유사도 minSimilarity 이상 중 가장 비슷한 지문의 값
+     */
+    synchronized OptionalLong findMostSimilar(int[] signature, double minSimilarity) {
+        double best = minSimilarity;
+        Entry found = null;
+        for (int band = 0; band < BANDS; band++) {
+            List<Entry> bucket = bands.get(band).get(bandKey(signature, band));
+            if (bucket == null) continue;
+            for (Entry entry : bucket) {
+                double similarity = ContentFingerprint.similarity(signature, entry.signature());
+                if (similarity >= best) {
+                    best = similarity;
+                    found = entry;
+                }
+            }
+        }
+        return found == null ? OptionalLong.empty() : OptionalLong.of(found.value());
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = key * 0x100000001b3L + signature[row];
+        }
+        return key;
+    }
+
+    private record Entry(int[] signature, long value) {}
+}
@@ -0,0 +1,37 @@
+package umc.snack.crawler.service;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 네이버 기사 URL → (oid, aid) 정규화 키
+ * - oid(3자리)와 aid를 long 하나로 묶음: oid * 10^13 + aid
+ *   → 모바일/PC, 쿼리스트링(sid 등)이 달라도 같은 기사면 같은 키
+ */
+public final class NaverUrlKey {
+
+    // mnews/article or article 경로에서 (oid, aid) 추출
+    private static final Pattern OID_AID_PATTERN = Pattern.compile("/(?:mnews/)?article/(\\d{3})/(\\d{1,13})(?!\\d)");
+    private static final long AID_RANGE = 10_000_000_000_000L;
+
+    private NaverUrlKey() {
+    }
+
+    /**
+     * URL을 정규화 키로 변환. 기사 URL 형식이 아니면 null
+     */
+    public static Long pack(String url) {
+        if (url == null) return null;
+        try {
+            String path = new URI(url).getPath();
+            if (path == null) return null;
+            Matcher m = OID_AID_PATTERN.matcher(path);
+            if (!m.find()) return null;
+            return Long.parseLong(m.group(1)) * AID_RANGE + Long.parseLong(m.group(2));
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+}
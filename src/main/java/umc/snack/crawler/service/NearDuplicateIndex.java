@@ -0,0 +1,71 @@
+package umc.snack.crawler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import umc.snack.repository.article.CrawlBatchRepository;
+
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+
+/**
+ * 최근 수집 기사 본문 지문 색인 (거의 같은 기사 판별용)
+ * - 기동 시와 매일 한 번 최근 windowDays일 기사의 지문을 MinHashLsh로 다시 적재 (창 밖 기사는 자연히 빠짐)
+ * - 새 기사는 저장이 커밋된 뒤 추가
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearDuplicateIndex {
+
+    private final CrawlBatchRepository crawlBatchRepository;
+
+    @Value("${crawler.dedupe.window-days:7}")
+    private int windowDays;
+
+    @Value("${crawler.dedupe.min-similarity:0.8}")
+    private double minSimilarity;
+
+    private MinHashLsh table = new MinHashLsh();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${crawler.dedupe.rebuild-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public synchronized void rebuild() {
+        try {
+            MinHashLsh fresh = new MinHashLsh();
+            for (CrawlBatchRepository.FingerprintRow row
+                    : crawlBatchRepository.findFingerprintsSince(LocalDateTime.now().minusDays(windowDays))) {
+                int[] signature = ContentFingerprint.fromBytes(row.fingerprint());
+                if (signature != null) fresh.put(signature, row.articleId());
+            }
+            table = fresh;
+            log.info("기사 본문 지문 색인 적재 완료 - 최근 {}일 {}개", windowDays, fresh.size());
+        } catch (Exception e) {
+            log.error("기사 본문 지문 색인 적재 실패 - 이전 색인을 유지합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 거의 같은 본문의 기존 기사 ID
+     */
+    public synchronized OptionalLong findDuplicate(int[] signature) {
+        if (signature == null) return OptionalLong.empty();
+        return table.findMostSimilar(signature, minSimilarity);
+    }
+
+    public synchronized void add(int[] signature, long articleId) {
+        if (signature != null) table.put(signature, articleId);
+    }
+
+    public double minSimilarity() {
+        return minSimilarity;
+    }
+}
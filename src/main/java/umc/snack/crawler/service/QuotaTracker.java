@@ -0,0 +1,85 @@
+package umc.snack.crawler.service;
+
+import java.util.*;
+
+/**
+ * 링크 수집 한 번의 할당량/중복 상태 (병렬 수집 작업들이 공유)
+ * - 카테고리별 목표, 언론사별 상한, 전체 목표, 배치 내 URL/제목 중복 확인과 채택을 한 번의 잠금 안에서 처리
+ *   → 동시에 여러 조합이 후보를 찾아도 상한을 넘겨 채택하지 않음
+ * - 최근 기사와 거의 같은 후보는 할당량을 쓰지 않고 따로 모음 (저장 단계에서 원 기사에 연결된 행으로 기록)
+ */
+final class QuotaTracker {
+
+    enum Claim { ACCEPTED, DUPLICATE, FULL }
+
+    private final Map<String, Integer> targetPerCat;
+    private final int perPublisherLimit;
+    private final int grandTarget;
+
+    private final Map<String, Integer> pickedPerCat = new HashMap<>();
+    private final Map<String, Integer> pickedPerPublisher = new HashMap<>();
+    private final Set<String> batchUrlKeys = new HashSet<>();
+    private final Set<String> batchTitleKeys = new HashSet<>();
+    private final List<CrawlCandidate> accepted = new ArrayList<>();
+    private final List<CrawlCandidate> nearDuplicates = new ArrayList<>();
+
+    QuotaTracker(Map<String, Integer> targetPerCat, int perPublisherLimit) {
+        this.targetPerCat = targetPerCat;
+        this.perPublisherLimit = perPublisherLimit;
+        this.grandTarget = targetPerCat.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * 이 (언론사, 카테고리) 조합에서 아직 채택할 여지가 있는지 (조회 전 빠른 확인용)
+     */
+    synchronized boolean isOpen(String sid1, String oid) {
+        return accepted.size() < grandTarget
+                && pickedPerCat.getOrDefault(sid1, 0) < targetPerCat.getOrDefault(sid1, 0)
+                && (perPublisherLimit <= 0 || pickedPerPublisher.getOrDefault(oid, 0) < perPublisherLimit);
+    }
+
+    synchronized boolean isTaken(String urlKey) {
+        return batchUrlKeys.contains(urlKey);
+    }
+
+    /**
+     * 할당량과 배치 중복을 다시 확인한 뒤 채택
+     */
+    synchronized Claim tryClaim(String sid1, String oid, String urlKey, String titleKey, CrawlCandidate candidate) {
+        if (!isOpen(sid1, oid)) return Claim.FULL;
+        if (batchUrlKeys.contains(urlKey)) return Claim.DUPLICATE;
+        if (titleKey != null && batchTitleKeys.contains(titleKey)) return Claim.DUPLICATE;
+
+        accepted.add(candidate);
+        batchUrlKeys.add(urlKey);
+        if (titleKey != null) batchTitleKeys.add(titleKey);
+        pickedPerCat.merge(sid1, 1, Integer::sum);
+        pickedPerPublisher.merge(oid, 1, Integer::sum);
+        return Claim.ACCEPTED;
+    }
+
+    /**
+     * 최근 기사와 거의 같은 후보 보관 (이번 배치에서 같은 URL은 한 번만)
+     */
+    synchronized boolean addNearDuplicate(String urlKey, CrawlCandidate candidate) {
+        if (!batchUrlKeys.add(urlKey)) return false;
+        nearDuplicates.add(candidate);
+        return true;
+    }
+
+    synchronized List<CrawlCandidate> nearDuplicates() {
+        return new ArrayList<>(nearDuplicates);
+    }
+
+    synchronized List<CrawlCandidate> accepted() {
+        return new ArrayList<>(accepted);
+    }
+
+    synchronized int pickedInCategory(String sid1) {
+        return pickedPerCat.getOrDefault(sid1, 0);
+    }
+
+    synchronized Map<String, Integer> pickedPerPublisher() {
+        return new TreeMap<>(pickedPerPublisher);
+    }
+}
@@ -0,0 +1,111 @@
+package umc.snack.crawler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import umc.snack.common.cache.ContentVersions;
+import umc.snack.crawler.archive.RawHtmlArchive;
+import umc.snack.repository.article.CrawlBatchRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 보관된 원문을 현재 ArticleExtractor로 다시 파싱해 본문/기자/발행일/제목을 일괄 갱신
+ * - 선택자를 고친 뒤 네이버에 다시 요청하지 않고 과거 기사를 보정하는 용도 (기본 비활성, cron으로 켬)
+ * - 파싱은 CPU 작업이므로 코어 수만큼의 고정 스레드에서 병렬로, DB 반영은 배치 단위로 한 번씩
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RawHtmlReextractJob {
+
+    private final RawHtmlArchive rawHtmlArchive;
+    private final ArticleExtractor articleExtractor;
+    private final CrawlBatchRepository crawlBatchRepository;
+    private final ContentVersions contentVersions;
+
+    @Value("${crawler.archive.reextract-batch-size:500}")
+    private int batchSize;
+
+    @Value("${crawler.archive.reextract-parallelism:0}")
+    private int parallelism;
+
+    @Scheduled(cron = "${crawler.archive.reextract-cron:-}", zone = "Asia/Seoul")
+    public void scheduledRun() {
+        try {
+            run();
+        } catch (Exception e) {
+            log.error("원문 재추출 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 보관소 전체 재추출, 갱신한 기사 수 반환
+     */
+    public synchronized int run() throws InterruptedException {
+        long[] keys = rawHtmlArchive.keys();
+        if (keys.length == 0) return 0;
+        Arrays.sort(keys); // 같은 언론사 기사끼리 모아 갱신 (url_key 인덱스 접근 지역성)
+
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        int updated = 0;
+        int skipped = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int from = 0; from < keys.length; from += batchSize) {
+                long[] batch = Arrays.copyOfRange(keys, from, Math.min(keys.length, from + batchSize));
+
+                List<Future<CrawlBatchRepository.ExtractedUpdate>> futures = new ArrayList<>(batch.length);
+                for (long key : batch) {
+                    futures.add(executor.submit(() -> reextract(key)));
+                }
+
+                List<CrawlBatchRepository.ExtractedUpdate> updates = new ArrayList<>(batch.length);
+                for (Future<CrawlBatchRepository.ExtractedUpdate> future : futures) {
+                    try {
+                        CrawlBatchRepository.ExtractedUpdate update = future.get();
+                        if (update != null) updates.add(update);
+                        else skipped++;
+                    } catch (ExecutionException e) {
+                        skipped++;
+                    }
+                }
+                if (!updates.isEmpty()) crawlBatchRepository.updateExtracted(updates);
+                updated += updates.size();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (updated > 0) contentVersions.touchAllArticles();
+        log.info("원문 재추출 완료 - 갱신 {}건, 건너뜀 {}건 (보관 {}건)", updated, skipped, keys.length);
+        return updated;
+    }
+
+    // 원문 하나 재파싱 (원문이 없거나 본문이 유효하지 않으면 null → 기존 값 유지)
+    private CrawlBatchRepository.ExtractedUpdate reextract(long key) {
+        return rawHtmlArchive.read(key)
+                .map(page -> {
+                    CrawlCandidate candidate = articleExtractor.extract(page.url(), Jsoup.parse(page.html(), page.url()));
+                    if (!articleExtractor.isValidKoreanArticle(candidate.content())) return null;
+
+                    // 못 찾은 항목은 null로 넘겨 저장된 값을 유지 (선택자 하나가 깨져도 기존 제목/기자/발행일을 지우지 않음)
+                    String title = candidate.title() == null || candidate.title().isBlank() ? null : candidate.title();
+                    if (title != null && title.length() > 100) title = title.substring(0, 100);
+                    String author = candidate.author() == null || candidate.author().isEmpty() ? null : candidate.author();
+                    int[] signature = ContentFingerprint.signature(candidate.content());
+                    return new CrawlBatchRepository.ExtractedUpdate(key, title, candidate.content(), author, candidate.publishedAt(),
+                            signature == null ? null : ContentFingerprint.toBytes(signature));
+                })
+                .orElse(null);
+    }
+}
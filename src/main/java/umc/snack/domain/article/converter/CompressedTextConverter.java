@@ -0,0 +1,22 @@
+package umc.snack.domain.article.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import umc.snack.common.util.TextCompressor;
+
+/**
+ * 문자열 ↔ 압축 바이트 (TextCompressor 형식) - 엔티티를 읽을 때만 풀림
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return TextCompressor.compress(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return TextCompressor.decompress(dbData);
+    }
+}
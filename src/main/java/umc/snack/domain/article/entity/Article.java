@@ -8,7 +8,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "articles")
+@Table(
+        name = "articles",
+        indexes = @Index(name = "idx_articles_published_at_id", columnList = "published_at, article_id")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -34,6 +37,14 @@ public class Article extends BaseEntity {
 
     private Integer viewCount;
 
+    // 스크랩/공유 수 (ArticleCounterService가 증분 UPDATE로만 갱신)
+    @Column(name = "scrap_count")
+    private Integer scrapCount;
+
+    @Column(name = "share_count")
+    private Integer shareCount;
+
+    @Column(name = "published_at")
     private java.time.LocalDateTime publishedAt;
 
     @OneToMany(mappedBy = "article", fetch = FetchType.LAZY)
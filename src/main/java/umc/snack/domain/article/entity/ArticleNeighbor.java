@@ -0,0 +1,83 @@
+package umc.snack.domain.article.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import umc.snack.global.BaseEntity;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기사별 의미 유사 기사 목록 (대표 벡터 코사인 유사도 kNN, 배치로 미리 계산)
+ * - 이웃은 (기사 ID 8바이트, 점수 4바이트) 쌍을 점수 내림차순으로 이어 붙인 바이너리 한 컬럼에 보관
+ * - vectorUpdatedAt: 계산에 쓴 대표 벡터의 updatedAt (배치 재개 워터마크)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "article_neighbors",
+        indexes = @Index(name = "idx_article_neighbors_vector_updated_at", columnList = "vector_updated_at"))
+public class ArticleNeighbor extends BaseEntity {
+
+    public static final int ENTRY_BYTES = Long.BYTES + Float.BYTES;
+    public static final int MAX_NEIGHBORS = 20;
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Column(name = "neighbors", columnDefinition = "VARBINARY(" + ENTRY_BYTES * MAX_NEIGHBORS + ")", nullable = false)
+    private byte[] neighbors;
+
+    @Column(name = "vector_updated_at")
+    private LocalDateTime vectorUpdatedAt;
+
+    public static ArticleNeighbor of(Long articleId, List<Entry> entries, LocalDateTime vectorUpdatedAt) {
+        ArticleNeighbor neighbor = new ArticleNeighbor();
+        neighbor.articleId = articleId;
+        neighbor.neighbors = pack(entries);
+        neighbor.vectorUpdatedAt = vectorUpdatedAt;
+        return neighbor;
+    }
+
+    public List<Entry> getEntries() {
+        ByteBuffer buffer = ByteBuffer.wrap(neighbors);
+        List<Entry> entries = new ArrayList<>(neighbors.length / ENTRY_BYTES);
+        while (buffer.remaining() >= ENTRY_BYTES) {
+            entries.add(new Entry(buffer.getLong(), buffer.getFloat()));
+        }
+        return entries;
+    }
+
+    public List<Long> getNeighborIds() {
+        return getEntries().stream().map(Entry::articleId).toList();
+    }
+
+    public void recompute(List<Entry> entries, LocalDateTime vectorUpdatedAt) {
+        this.neighbors = pack(entries);
+        this.vectorUpdatedAt = vectorUpdatedAt;
+    }
+
+    /**
+     * 다른 기사의 배치 결과로 이 기사의 이웃이 바뀐 경우 (vectorUpdatedAt은 유지)
+     */
+    public void replaceEntries(List<Entry> entries) {
+        this.neighbors = pack(entries);
+    }
+
+    private static byte[] pack(List<Entry> entries) {
+        int count = Math.min(entries.size(), MAX_NEIGHBORS);
+        ByteBuffer buffer = ByteBuffer.allocate(count * ENTRY_BYTES);
+        for (int i = 0; i < count; i++) {
+            buffer.putLong(entries.get(i).articleId());
+            buffer.putFloat(entries.get(i).score());
+        }
+        return buffer.array();
+    }
+
+    public record Entry(long articleId, float score) {}
+}
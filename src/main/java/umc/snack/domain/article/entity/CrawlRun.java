@@ -0,0 +1,64 @@
+package umc.snack.domain.article.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크롤링 실행 한 번 (수집 후보 목록과 누적 결과)
+ * - 후보별 상태는 CrawlRunItem, 카운터는 저장 청크가 커밋될 때마다 같은 트랜잭션에서 증가
+ * - 배포/장애로 RUNNING 상태로 남은 실행은 다음 기동/스케줄 때 PENDING 항목부터 이어서 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "crawl_runs",
+        indexes = @Index(name = "idx_crawl_runs_status", columnList = "status"))
+public class CrawlRun {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "run_id")
+    private Long runId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Status status;
+
+    @Column(name = "candidate_count", nullable = false)
+    private int candidateCount;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    @Column(name = "duplicate_count", nullable = false)
+    private int duplicateCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    @Column(name = "skipped_count", nullable = false)
+    private int skippedCount;
+
+    // 중단 후 이어서 처리한 횟수
+    @Column(name = "resume_count", nullable = false)
+    private int resumeCount;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    // 마지막으로 항목 상태가 반영된 시각
+    @Column(name = "checkpoint_at")
+    private LocalDateTime checkpointAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
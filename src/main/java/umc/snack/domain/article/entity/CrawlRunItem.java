@@ -0,0 +1,49 @@
+package umc.snack.domain.article.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크롤링 실행의 후보 기사 하나와 처리 상태 (JDBC 배치로 기록, 엔티티는 스키마 정의용)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "crawl_run_items",
+        indexes = @Index(name = "idx_crawl_run_items_run_state", columnList = "run_id, state"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_crawl_run_items_run_url_key", columnNames = {"run_id", "url_key"}))
+public class CrawlRunItem {
+
+    public enum State {
+        PENDING,    // 아직 저장 전 (중단되면 여기서부터 이어서)
+        PROCESSED,  // 기사 행까지 저장
+        DUPLICATE,  // 거의 같은 기존 기사에 연결
+        FAILED,     // 추출/저장 실패 (FAILED 행 기록)
+        SKIPPED     // 저장 직전에 이미 수집된 기사로 확인
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "url_key", nullable = false)
+    private Long urlKey;
+
+    @Column(name = "article_url", columnDefinition = "TEXT", nullable = false)
+    private String articleUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", length = 20, nullable = false)
+    private State state;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
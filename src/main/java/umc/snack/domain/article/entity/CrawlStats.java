@@ -0,0 +1,38 @@
+package umc.snack.domain.article.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * crawled_articles 상태별 누적 개수 (단일 행, 크롤링 상태 조회는 이 행 하나만 읽음)
+ * - 저장 청크와 같은 트랜잭션에서 증가 → 롤백되면 카운터도 함께 롤백
+ * - 행이 없으면 기동 시 crawled_articles 집계 한 번으로 채움
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "crawl_stats")
+public class CrawlStats {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    @Column(name = "stats_id")
+    private Long statsId;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
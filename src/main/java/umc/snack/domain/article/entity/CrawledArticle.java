@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
 @Builder
 @Table(
         name = "crawled_articles",
-        indexes = @Index(name = "idx_crawled_articles_article_id", columnList = "article_id")
+        indexes = {
+                @Index(name = "idx_crawled_articles_article_id", columnList = "article_id"),
+                @Index(name = "idx_crawled_articles_crawled_at", columnList = "crawled_at")
+        },
+        uniqueConstraints = @UniqueConstraint(name = "uk_crawled_articles_url_key", columnNames = "url_key")
 )
 public class CrawledArticle extends BaseEntity {
 
@@ -38,6 +42,10 @@ public class CrawledArticle extends BaseEntity {
     @Column(name = "article_url", columnDefinition = "TEXT")
     private String articleUrl;
 
+    // 네이버 (oid, aid) 정규화 키 (기사 URL 형식이 아니면 null)
+    @Column(name = "url_key")
+    private Long urlKey;
+
     @Column(name = "published_at")
     private LocalDateTime publishedAt;
 
@@ -47,10 +55,24 @@ public class CrawledArticle extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private Status status;
 
-    @Lob
-    @Column(columnDefinition = "TEXT")
-    private String content;
+    // 본문은 압축해 별도 테이블에 (기본 조회에서 제외, 요약할 때만 함께 조회)
+    // 예전 행의 crawled_articles.content(TEXT)는 CrawledContentMigration이 옮긴 뒤 비움
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
+    @JoinColumn(name = "content_id")
+    private CrawledArticleContent body;
 
     @Column(name = "crawled_at")
     private LocalDateTime crawledAt;
+
+    // 본문 MinHash 지문 (ContentFingerprint, 본문이 짧으면 null)
+    @Column(name = "content_fingerprint", columnDefinition = "VARBINARY(256)")
+    private byte[] contentFingerprint;
+
+    // 거의 같은 본문의 기사가 이미 있으면 그 기사 ID (article_id 없이 저장되어 요약/벡터화 대상이 아님)
+    @Column(name = "duplicate_of_article_id")
+    private Long duplicateOfArticleId;
+
+    public String getContent() {
+        return body == null ? null : body.getText();
+    }
 }
@@ -0,0 +1,34 @@
+package umc.snack.domain.article.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import umc.snack.domain.article.converter.CompressedTextConverter;
+
+/**
+ * 수집 기사 본문 (압축 저장, crawled_articles.content_id로 연결)
+ * - crawled_articles를 읽을 때는 함께 읽지 않음 → 본문이 필요한 요약 단계에서만 조회/해제
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "crawled_article_contents")
+public class CrawledArticleContent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "content_id")
+    private Long contentId;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "body", columnDefinition = "MEDIUMBLOB", nullable = false)
+    private String text;
+
+    public static CrawledArticleContent of(String text) {
+        if (text == null) return null;
+        CrawledArticleContent content = new CrawledArticleContent();
+        content.text = text;
+        return content;
+    }
+}
@@ -0,0 +1,8 @@
+package umc.snack.domain.article.event;
+
+/**
+ * 기사 요약이 저장되어 노출 가능(READY) 상태가 되었음을 알리는 이벤트
+ * - GeminiParsingService에서 발행, 트랜잭션 커밋 이후 구독
+ */
+public record ArticleReadyEvent(Long articleId) {
+}
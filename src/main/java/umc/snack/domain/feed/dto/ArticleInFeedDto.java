@@ -16,4 +16,5 @@ public class ArticleInFeedDto {
     private final List<IndividualArticleDto> articles;
     private final List<String> categories;
     private final Long nextCursorId;
+    private final String nextCursor; // 다음 페이지 요청용 불투명 커서 토큰
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package umc.snack.domain.feed.dto;
+
+import umc.snack.common.exception.CustomException;
+import umc.snack.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 메인 피드 커서 - (publishedAt, articleId) 복합 키
+ * - 정렬 순서(publishedAt DESC, articleId DESC)와 동일한 키로 다음 페이지 위치를 표현
+ * - 클라이언트에는 불투명(opaque) 토큰으로만 전달
+ */
+public record FeedCursor(LocalDateTime publishedAt, Long articleId) {
+
+    private static final String VERSION = "v1";
+    private static final String NULL_TOKEN = "-";
+
+    // 피드 정렬 순서: publishedAt DESC (null은 맨 뒤), articleId DESC
+    public static final Comparator<FeedCursor> NEWEST_FIRST = Comparator
+            .comparing(FeedCursor::publishedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(FeedCursor::articleId)
+            .reversed();
+
+    public String encode() {
+        String raw = VERSION + "|" + (publishedAt == null ? NULL_TOKEN : publishedAt.toString()) + "|" + articleId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FeedCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new CustomException(ErrorCode.FEED_9603);
+            }
+            LocalDateTime publishedAt = NULL_TOKEN.equals(parts[1]) ? null : LocalDateTime.parse(parts[1]);
+            long articleId = Long.parseLong(parts[2]);
+            if (articleId <= 0) {
+                throw new CustomException(ErrorCode.FEED_9603);
+            }
+            return new FeedCursor(publishedAt, articleId);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 디코딩 실패, 숫자 파싱 실패 등은 모두 잘못된 커서로 취급
+            throw new CustomException(ErrorCode.FEED_9603);
+        }
+    }
+
+    /**
+     * 피드 정렬상 other보다 앞(= 더 최신)에 위치하는지 여부
+     */
+    public boolean isBefore(FeedCursor other) {
+        return NEWEST_FIRST.compare(this, other) < 0;
+    }
+}
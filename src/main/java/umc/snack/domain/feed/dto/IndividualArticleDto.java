@@ -7,11 +7,14 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class IndividualArticleDto {
     private final Long articleId;
     private final String title;
     private final LocalDateTime publishedAt;
     private final String imageUrl;
     private final List<String> categories;
+    private final long viewCount;
+    private final long scrapCount;
+    private final long shareCount;
 }
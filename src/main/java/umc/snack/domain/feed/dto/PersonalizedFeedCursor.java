@@ -0,0 +1,40 @@
+package umc.snack.domain.feed.dto;
+
+import umc.snack.common.exception.CustomException;
+import umc.snack.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 맞춤 피드 커서 - (snapshotId, offset)
+ * - 첫 페이지에서 만든 랭킹 스냅샷의 ID와, 스냅샷 안에서 다음에 읽을 위치
+ * - 클라이언트에는 불투명(opaque) 토큰으로만 전달
+ */
+public record PersonalizedFeedCursor(String snapshotId, int offset) {
+
+    private static final String VERSION = "p1";
+
+    public String encode() {
+        String raw = VERSION + "|" + snapshotId + "|" + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PersonalizedFeedCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !VERSION.equals(parts[0]) || parts[1].isBlank()) {
+                throw new CustomException(ErrorCode.FEED_9603);
+            }
+            int offset = Integer.parseInt(parts[2]);
+            if (offset <= 0) {
+                throw new CustomException(ErrorCode.FEED_9603);
+            }
+            return new PersonalizedFeedCursor(parts[1], offset);
+        } catch (IllegalArgumentException e) {
+            // Base64 디코딩 실패, 숫자 파싱 실패 등은 모두 잘못된 커서로 취급
+            throw new CustomException(ErrorCode.FEED_9603);
+        }
+    }
+}
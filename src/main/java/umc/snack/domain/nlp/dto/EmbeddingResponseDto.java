@@ -0,0 +1,15 @@
+package umc.snack.domain.nlp.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter @AllArgsConstructor @NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EmbeddingResponseDto {
+    private String modelVersion;
+    private List<float[]> vectors;
+}
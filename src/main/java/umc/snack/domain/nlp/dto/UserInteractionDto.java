@@ -12,6 +12,8 @@ public class UserInteractionDto {
     private Long articleId;
     private String action;
     private String keyword;
+    // 검색어 임베딩이 캐시에 있으면 함께 전달 (FastAPI 재임베딩 생략)
+    private float[] vector;
 
     // 클릭, 스크랩용 생성자
     public UserInteractionDto(Long articleId, String action) {
@@ -0,0 +1,12 @@
+package umc.snack.domain.nlp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter @AllArgsConstructor @NoArgsConstructor
+public class UserProfileBatchRequestDto {
+    private List<UserProfileRequestDto> profiles;
+}
@@ -0,0 +1,14 @@
+package umc.snack.domain.nlp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter @AllArgsConstructor @NoArgsConstructor
+public class VectorSearchRequestDto {
+    private String query;
+    private float[] vector;
+    private int page;
+    private int size;
+    private double threshold;
+}
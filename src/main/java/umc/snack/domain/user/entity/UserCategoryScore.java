@@ -7,7 +7,12 @@ import umc.snack.global.BaseEntity;
 import umc.snack.domain.user.UserCategoryScoreId;
 
 @Entity
-@Table(name = "user_category_score")
+@Table(
+        name = "user_category_score",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"user_id", "category_id"}) // 사용자-카테고리당 한 행 (증분 upsert 기준)
+        }
+)
 @IdClass(UserCategoryScoreId.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -5,8 +5,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import umc.snack.common.metrics.PipelineMetrics;
 import umc.snack.domain.article.entity.Article;
+import umc.snack.domain.article.event.ArticleReadyEvent;
 import umc.snack.domain.quiz.entity.ArticleQuiz;
 import umc.snack.domain.quiz.entity.Quiz;
 import umc.snack.domain.term.entity.ArticleTerm;
@@ -30,6 +33,8 @@ public class GeminiParsingService {
     private final TermRepository termRepository;
     private final ArticleQuizRepository articleQuizRepository;
     private final ArticleTermRepository articleTermRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PipelineMetrics pipelineMetrics;
 
     // GeminiService에서 받은 JSON String을 Article의 summary에 반영
     @Transactional
@@ -102,6 +107,13 @@ public class GeminiParsingService {
             }
 
             // JPA 변경 감지로 자동 저장 (별도 save 불필요)
+
+            // 요약이 채워졌으면 READY 기사로 알림 (커밋 이후 피드 타임라인 등 갱신)
+            if (article.getSummary() != null && !article.getSummary().isBlank()) {
+                eventPublisher.publishEvent(new ArticleReadyEvent(article.getArticleId()));
+                // 발행 → READY, 수집 → READY 지연 (SLO 기준)
+                pipelineMetrics.articleReady(article.getPublishedAt(), article.getCreatedAt());
+            }
         } catch (JsonProcessingException e) {
             log.error("Gemini JSON 파싱 실패 - articleId: {}, json: {}", articleId, cleanJson, e);
             throw new IllegalArgumentException("유효하지 않은 Gemini JSON 형식", e);
@@ -10,6 +10,7 @@ import java.util.List;
 @Getter
 public class GeminiResponseDto {
     private List<Candidate> candidates = Collections.emptyList();
+    private UsageMetadata usageMetadata;
 
     @Getter
     @NoArgsConstructor
@@ -39,4 +40,12 @@ public class GeminiResponseDto {
         private String category = "";;
         private String probability = "";;
     }
+
+    @Getter
+    @NoArgsConstructor
+    public static class UsageMetadata {
+        private Integer promptTokenCount;
+        private Integer candidatesTokenCount;
+        private Integer totalTokenCount;
+    }
 }
@@ -2,6 +2,7 @@ package umc.snack.global.gemini;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import umc.snack.common.metrics.PipelineMetrics;
 
 import java.util.Optional;
 
@@ -9,15 +10,32 @@ import java.util.Optional;
 public class GeminiService {
 
     private final GeminiInterface geminiInterface;
+    private final PipelineMetrics pipelineMetrics;
 
     @Autowired
-    public GeminiService(GeminiInterface geminiInterface) {
+    public GeminiService(GeminiInterface geminiInterface, PipelineMetrics pipelineMetrics) {
         this.geminiInterface = geminiInterface;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
     public String getCompletion(String text, String model) {
         GeminiRequestDto geminiRequest = new GeminiRequestDto(text);
-        GeminiResponseDto response = geminiInterface.getCompletion(model, geminiRequest);
+        GeminiResponseDto response;
+        long startedAt = System.nanoTime();
+        try {
+            response = geminiInterface.getCompletion(model, geminiRequest);
+        } catch (RuntimeException e) {
+            pipelineMetrics.geminiCall(model, System.nanoTime() - startedAt, PipelineMetrics.ERROR);
+            throw e;
+        }
+        pipelineMetrics.geminiCall(model, System.nanoTime() - startedAt, PipelineMetrics.OK);
+
+        if (response != null && response.getUsageMetadata() != null) {
+            GeminiResponseDto.UsageMetadata usage = response.getUsageMetadata();
+            pipelineMetrics.geminiTokens(model, "prompt", usage.getPromptTokenCount());
+            pipelineMetrics.geminiTokens(model, "completion", usage.getCandidatesTokenCount());
+            pipelineMetrics.geminiTokens(model, "total", usage.getTotalTokenCount());
+        }
 
         if (response == null || response.getCandidates() == null || response.getCandidates().isEmpty()) {
             throw new IllegalStateException("Gemini 응답이 비어있음(candidates null/empty)");
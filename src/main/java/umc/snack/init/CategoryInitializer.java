@@ -6,6 +6,7 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 import umc.snack.domain.feed.entity.Category;
 import umc.snack.repository.feed.CategoryRepository;
+import umc.snack.service.feed.CategoryRegistry;
 
 import java.util.List;
 
@@ -15,6 +16,7 @@ import java.util.List;
 public class CategoryInitializer implements CommandLineRunner {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
 
     @Override
     public void run(String... args) {
@@ -32,5 +34,8 @@ public class CategoryInitializer implements CommandLineRunner {
                 log.error("카테고리 '{}' 초기화 중 오류 발생: {}", name, e.getMessage());
             }
         }
+
+        // 시드 완료 후 레지스트리 적재
+        categoryRegistry.refresh();
     }
 }
@@ -4,8 +4,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import umc.snack.domain.article.entity.ArticleCategory;
 import umc.snack.domain.article.ArticleCategoryId;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ArticleCategoryRepository extends JpaRepository<ArticleCategory, ArticleCategoryId> {
     List<ArticleCategory> findByArticleId(Long articleId);
+    List<ArticleCategory> findByArticleIdIn(Collection<Long> articleIds);
 }
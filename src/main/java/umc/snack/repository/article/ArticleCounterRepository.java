@@ -0,0 +1,75 @@
+package umc.snack.repository.article;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * articles의 조회/스크랩/공유 카운터 컬럼 전용 JDBC 접근
+ * - 카운터 반영은 엔티티 로딩 없이 증분 UPDATE를 배치로 전송 (rewriteBatchedStatements로 한 번에 묶임)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleCounterRepository {
+
+    private static final String APPLY_DELTAS_SQL =
+            "UPDATE articles SET view_count = COALESCE(view_count, 0) + ?, " +
+            "scrap_count = COALESCE(scrap_count, 0) + ?, " +
+            "share_count = COALESCE(share_count, 0) + ? " +
+            "WHERE article_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 증분별 갱신된 행 수 (deltas 순서, 0이면 없는 기사)
+     */
+    public int[] applyDeltas(List<CounterDelta> deltas) {
+        int[][] counts = jdbcTemplate.batchUpdate(APPLY_DELTAS_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.views());
+            ps.setLong(2, delta.scraps());
+            ps.setLong(3, delta.shares());
+            ps.setLong(4, delta.articleId());
+        });
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).toArray();
+    }
+
+    /**
+     * 컬럼 추가 이전 기사의 스크랩/공유 수를 기존 테이블 COUNT로 한 번 채움 (이미 채워진 행은 건너뜀)
+     */
+    public int backfillMissingCounts() {
+        int scraps = jdbcTemplate.update(
+                "UPDATE articles a SET a.scrap_count = " +
+                "(SELECT COUNT(*) FROM user_scraps s WHERE s.article_id = a.article_id) " +
+                "WHERE a.scrap_count IS NULL");
+        int shares = jdbcTemplate.update(
+                "UPDATE articles a SET a.share_count = " +
+                "(SELECT COUNT(*) FROM article_shares s WHERE s.article_id = a.article_id) " +
+                "WHERE a.share_count IS NULL");
+        return Math.max(scraps, shares);
+    }
+
+    public List<CounterRow> findCountsAfter(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT article_id, COALESCE(view_count, 0), COALESCE(scrap_count, 0), COALESCE(share_count, 0) " +
+                "FROM articles WHERE article_id > ? ORDER BY article_id LIMIT ?",
+                (rs, i) -> new CounterRow(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)),
+                afterId, limit);
+    }
+
+    public Optional<CounterRow> findCounts(long articleId) {
+        List<CounterRow> rows = jdbcTemplate.query(
+                "SELECT article_id, COALESCE(view_count, 0), COALESCE(scrap_count, 0), COALESCE(share_count, 0) " +
+                "FROM articles WHERE article_id = ?",
+                (rs, i) -> new CounterRow(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)),
+                articleId);
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+
+    public record CounterDelta(long articleId, long views, long scraps, long shares) {}
+
+    public record CounterRow(long articleId, long views, long scraps, long shares) {}
+}
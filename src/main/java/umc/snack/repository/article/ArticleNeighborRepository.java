@@ -0,0 +1,15 @@
+package umc.snack.repository.article;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import umc.snack.domain.article.entity.ArticleNeighbor;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface ArticleNeighborRepository extends JpaRepository<ArticleNeighbor, Long> {
+
+    // 이웃 계산 배치 재개 지점: 마지막으로 반영한 대표 벡터 변경 시각
+    @Query("SELECT MAX(n.vectorUpdatedAt) FROM ArticleNeighbor n")
+    Optional<LocalDateTime> findMaxVectorUpdatedAt();
+}
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Repository;
 import umc.snack.domain.article.entity.Article;
 import umc.snack.domain.feed.entity.Category;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,13 +49,55 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
                                    @Param("articleId") Long articleId,
                                    Pageable pageable);
 
+    // 관련 기사 카드용: ID 목록 중 READY인 기사만 (연관관계 fetch 없이)
+    @Query("SELECT a FROM Article a " +
+            "WHERE a.articleId IN :ids " +
+            "AND a.summary IS NOT NULL AND a.summary <> ''")
+    List<Article> findReadyByArticleIdIn(@Param("ids") List<Long> ids);
+
+    // 관련 기사 대체 조회: 카테고리 ID 기준 (연관관계 로딩 없이)
+    @Query("""
+           SELECT a
+           FROM Article a
+           WHERE a.articleId NOT IN :excludeIds
+             AND a.summary IS NOT NULL
+             AND a.summary <> ''
+             AND EXISTS (SELECT 1 FROM ArticleCategory ac
+                         WHERE ac.articleId = a.articleId AND ac.categoryId = :categoryId)
+           """)
+    List<Article> findReadyRelatedByCategoryId(@Param("categoryId") Long categoryId,
+                                               @Param("excludeIds") List<Long> excludeIds,
+                                               Pageable pageable);
+
     // (레거시 유지: 필요 시 다른 경로에서 사용)
     List<Article> findDistinctByArticleCategories_CategoryAndArticleIdNot(
             Category category, Long articleId, Pageable pageable
     );
 
-    @Query("SELECT a FROM Article a " +
+    @Query("SELECT DISTINCT a FROM Article a " +
+            "LEFT JOIN FETCH a.articleCategories " +
             "WHERE a.articleId IN :ids " +
             "AND a.summary IS NOT NULL AND a.summary <> ''")
     List<Article> findAllReadyByIdIn(@Param("ids") List<Long> ids);
+
+    // 어휘 검색 인덱스 적재용: 엔티티 로딩 없이 검색 필드만 ID 키셋으로 조회
+    @Query("SELECT a.articleId AS articleId, a.title AS title, a.summary AS summary, a.publishedAt AS publishedAt " +
+            "FROM Article a " +
+            "WHERE a.articleId > :afterId " +
+            "AND a.summary IS NOT NULL AND a.summary <> '' " +
+            "ORDER BY a.articleId ASC")
+    List<SearchDocRow> findReadySearchDocsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT a.articleId AS articleId, a.title AS title, a.summary AS summary, a.publishedAt AS publishedAt " +
+            "FROM Article a " +
+            "WHERE a.articleId IN :ids " +
+            "AND a.summary IS NOT NULL AND a.summary <> ''")
+    List<SearchDocRow> findReadySearchDocsByIdIn(@Param("ids") List<Long> ids);
+
+    interface SearchDocRow {
+        Long getArticleId();
+        String getTitle();
+        String getSummary();
+        LocalDateTime getPublishedAt();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,230 @@
+package umc.snack.repository.article;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import umc.snack.common.util.TextCompressor;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 크롤링 결과 저장용 JDBC 배치 (기사 / 기사-카테고리 연결 / 재추출 반영 / 예전 본문 이전)
+ * - 청크 하나를 문장 종류별로 한 번씩 전송 (rewriteBatchedStatements로 다중 행 INSERT로 묶임)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CrawlBatchRepository {
+
+    private static final String INSERT_ARTICLE_SQL =
+            "INSERT INTO articles (title, article_url, image_url, published_at, view_count, scrap_count, share_count, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, 0, 0, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * URL → 기존 기사 ID (재수집 시 같은 기사 행을 재사용)
+     */
+    public Map<String, Long> findArticleIdsByUrl(Collection<String> urls) {
+        if (urls.isEmpty()) return Collections.emptyMap();
+        String placeholders = String.join(",", Collections.nCopies(urls.size(), "?"));
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT article_id, article_url FROM articles WHERE article_url IN (" + placeholders + ")",
+                rs -> {
+                    ids.putIfAbsent(rs.getString(2), rs.getLong(1));
+                },
+                urls.toArray());
+        return ids;
+    }
+
+    /**
+     * 기사 일괄 INSERT 후 생성된 ID를 입력 순서대로 반환
+     */
+    public List<Long> insertArticles(List<NewArticle> articles) {
+        if (articles.isEmpty()) return List.of();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_ARTICLE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (NewArticle article : articles) {
+                    ps.setString(1, article.title());
+                    ps.setString(2, article.articleUrl());
+                    ps.setString(3, article.imageUrl());
+                    ps.setTimestamp(4, article.publishedAt() == null ? null : Timestamp.valueOf(article.publishedAt()));
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(articles.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) ids.add(keys.getLong(1));
+                }
+                if (ids.size() != articles.size()) {
+                    throw new IllegalStateException("생성된 기사 ID 수 불일치: " + ids.size() + "/" + articles.size());
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * 기존 기사의 아이콘 URL 갱신 (값이 같으면 그대로)
+     */
+    public void updateImageUrls(List<ImageUpdate> updates) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE articles SET image_url = ?, updated_at = ? WHERE article_id = ? " +
+                "AND (image_url IS NULL OR image_url <> ?)",
+                updates, updates.size(), (ps, update) -> {
+                    ps.setString(1, update.imageUrl());
+                    ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+                    ps.setLong(3, update.articleId());
+                    ps.setString(4, update.imageUrl());
+                });
+    }
+
+    /**
+     * 기사-카테고리 연결 (이미 연결돼 있으면 건너뜀)
+     */
+    public void insertCategoryLinks(List<CategoryLink> links) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO article_category (article_id, category_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                links, links.size(), (ps, link) -> {
+                    ps.setLong(1, link.articleId());
+                    ps.setLong(2, link.categoryId());
+                    ps.setTimestamp(3, now);
+                    ps.setTimestamp(4, now);
+                });
+    }
+
+    /**
+     * 원문 재추출 결과 반영 - 수집 성공(PROCESSED) 행의 기자/발행일/지문, 압축 본문, 연결된 기사의 제목/발행일
+     * - 제목/기자/발행일이 null이면(재파싱에서 못 찾음) 저장된 값을 그대로 둠
+     */
+    @Transactional
+    public void updateExtracted(List<ExtractedUpdate> updates) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "UPDATE crawled_articles SET author = COALESCE(?, author), published_at = COALESCE(?, published_at), " +
+                "content_fingerprint = ?, updated_at = ? " +
+                "WHERE url_key = ? AND status = 'PROCESSED'",
+                updates, updates.size(), (ps, update) -> {
+                    ps.setString(1, update.author());
+                    ps.setTimestamp(2, update.publishedAt() == null ? null : Timestamp.valueOf(update.publishedAt()));
+                    ps.setBytes(3, update.fingerprint());
+                    ps.setTimestamp(4, now);
+                    ps.setLong(5, update.urlKey());
+                });
+        jdbcTemplate.batchUpdate(
+                "UPDATE crawled_article_contents cc JOIN crawled_articles c ON c.content_id = cc.content_id " +
+                "SET cc.body = ? WHERE c.url_key = ? AND c.status = 'PROCESSED'",
+                updates, updates.size(), (ps, update) -> {
+                    ps.setBytes(1, TextCompressor.compress(update.content()));
+                    ps.setLong(2, update.urlKey());
+                });
+        jdbcTemplate.batchUpdate(
+                "UPDATE articles a JOIN crawled_articles c ON c.article_id = a.article_id " +
+                "SET a.title = COALESCE(?, a.title), a.published_at = COALESCE(?, a.published_at), a.updated_at = ? " +
+                "WHERE c.url_key = ? AND c.status = 'PROCESSED'",
+                updates, updates.size(), (ps, update) -> {
+                    ps.setString(1, update.title());
+                    ps.setTimestamp(2, update.publishedAt() == null ? null : Timestamp.valueOf(update.publishedAt()));
+                    ps.setTimestamp(3, now);
+                    ps.setLong(4, update.urlKey());
+                });
+    }
+
+    /**
+     * 기사를 가진(중복 연결이 아닌) 수집 행의 본문 지문 - since 이후 수집분
+     */
+    public List<FingerprintRow> findFingerprintsSince(LocalDateTime since) {
+        return jdbcTemplate.query(
+                "SELECT article_id, content_fingerprint FROM crawled_articles " +
+                "WHERE crawled_at >= ? AND article_id IS NOT NULL AND content_fingerprint IS NOT NULL",
+                (rs, i) -> new FingerprintRow(rs.getLong(1), rs.getBytes(2)),
+                Timestamp.valueOf(since));
+    }
+
+    /**
+     * 예전 평문 본문 칸(crawled_articles.content)이 남아 있는지 (새로 만든 스키마에는 없음)
+     */
+    public boolean hasLegacyContentColumn() {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            var meta = connection.getMetaData();
+            for (String[] names : new String[][]{{"crawled_articles", "content"}, {"CRAWLED_ARTICLES", "CONTENT"}}) {
+                try (ResultSet rs = meta.getColumns(connection.getCatalog(), null, names[0], names[1])) {
+                    if (rs.next()) return true;
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * 본문 테이블로 아직 옮기지 않은 예전 행 (crawled_articles.content에 평문 본문이 남아 있는 행)
+     */
+    public List<LegacyContent> findLegacyContents(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT crawled_article_id, content FROM crawled_articles " +
+                "WHERE crawled_article_id > ? AND content_id IS NULL AND content IS NOT NULL " +
+                "ORDER BY crawled_article_id LIMIT ?",
+                (rs, i) -> new LegacyContent(rs.getLong(1), rs.getString(2)),
+                afterId, limit);
+    }
+
+    /**
+     * 예전 본문을 압축해 본문 테이블로 옮기고 원래 칸은 비움 (행마다 INSERT 후 연결, 한 트랜잭션)
+     */
+    @Transactional
+    public void moveLegacyContents(List<LegacyContent> rows) {
+        if (rows.isEmpty()) return;
+        List<Long> contentIds = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO crawled_article_contents (body) VALUES (?)", Statement.RETURN_GENERATED_KEYS)) {
+                for (LegacyContent row : rows) {
+                    ps.setBytes(1, TextCompressor.compress(row.content()));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(rows.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) ids.add(keys.getLong(1));
+                }
+                if (ids.size() != rows.size()) {
+                    throw new IllegalStateException("생성된 본문 ID 수 불일치: " + ids.size() + "/" + rows.size());
+                }
+                return ids;
+            }
+        });
+
+        List<Object[]> links = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            links.add(new Object[]{contentIds.get(i), rows.get(i).crawledArticleId()});
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE crawled_articles SET content_id = ?, content = NULL WHERE crawled_article_id = ?", links);
+    }
+
+    public record NewArticle(String title, String articleUrl, String imageUrl, LocalDateTime publishedAt) {}
+
+    public record ImageUpdate(long articleId, String imageUrl) {}
+
+    public record CategoryLink(long articleId, long categoryId) {}
+
+    public record ExtractedUpdate(long urlKey, String title, String content, String author, LocalDateTime publishedAt,
+                                  byte[] fingerprint) {}
+
+    public record FingerprintRow(long articleId, byte[] fingerprint) {}
+
+    public record LegacyContent(long crawledArticleId, String content) {}
+}
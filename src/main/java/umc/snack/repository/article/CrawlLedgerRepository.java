@@ -0,0 +1,159 @@
+package umc.snack.repository.article;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import umc.snack.domain.article.entity.CrawlRunItem;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 크롤링 실행 기록(crawl_runs / crawl_run_items)과 누적 카운터(crawl_stats) JDBC 접근
+ * - 카운터는 "col = col + ?" 증분 UPDATE로만 바꿈 (저장 청크 트랜잭션 안에서 호출)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CrawlLedgerRepository {
+
+    private static final long STATS_ID = 1L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * RUNNING 실행 생성 후 ID 반환
+     */
+    public long insertRun(int candidateCount, LocalDateTime startedAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO crawl_runs (status, candidate_count, processed_count, duplicate_count, failed_count, " +
+                    "skipped_count, resume_count, started_at, checkpoint_at) VALUES ('RUNNING', ?, 0, 0, 0, 0, 0, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setInt(1, candidateCount);
+            ps.setTimestamp(2, Timestamp.valueOf(startedAt));
+            ps.setTimestamp(3, Timestamp.valueOf(startedAt));
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    public void insertItems(long runId, List<RunItem> items) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO crawl_run_items (run_id, url_key, article_url, state, updated_at) VALUES (?, ?, ?, 'PENDING', ?)",
+                items, items.size(), (ps, item) -> {
+                    ps.setLong(1, runId);
+                    ps.setLong(2, item.urlKey());
+                    ps.setString(3, item.articleUrl());
+                    ps.setTimestamp(4, now);
+                });
+    }
+
+    /**
+     * RUNNING으로 남아 있고 staleBefore 이후로 체크포인트가 없는 실행, 오래된 순
+     */
+    public List<RunRow> findStaleRunningRuns(LocalDateTime staleBefore) {
+        return jdbcTemplate.query(
+                "SELECT run_id, resume_count FROM crawl_runs WHERE status = 'RUNNING' AND checkpoint_at < ? ORDER BY run_id",
+                (rs, i) -> new RunRow(rs.getLong(1), rs.getInt(2)),
+                Timestamp.valueOf(staleBefore));
+    }
+
+    public int countRunningRuns() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM crawl_runs WHERE status = 'RUNNING'", Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    public List<RunItem> findPendingItems(long runId) {
+        return jdbcTemplate.query(
+                "SELECT url_key, article_url FROM crawl_run_items WHERE run_id = ? AND state = 'PENDING' ORDER BY item_id",
+                (rs, i) -> new RunItem(rs.getLong(1), rs.getString(2)),
+                runId);
+    }
+
+    /**
+     * 항목 상태 반영 (PENDING인 항목만 - 같은 항목을 두 번 세지 않음)
+     */
+    public void updateItemStates(long runId, List<ItemState> states) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "UPDATE crawl_run_items SET state = ?, updated_at = ? WHERE run_id = ? AND url_key = ? AND state = 'PENDING'",
+                states, states.size(), (ps, state) -> {
+                    ps.setString(1, state.state().name());
+                    ps.setTimestamp(2, now);
+                    ps.setLong(3, runId);
+                    ps.setLong(4, state.urlKey());
+                });
+    }
+
+    public void addRunCounts(long runId, int processed, int duplicate, int failed, int skipped) {
+        jdbcTemplate.update(
+                "UPDATE crawl_runs SET processed_count = processed_count + ?, duplicate_count = duplicate_count + ?, " +
+                "failed_count = failed_count + ?, skipped_count = skipped_count + ?, checkpoint_at = ? WHERE run_id = ?",
+                processed, duplicate, failed, skipped, Timestamp.valueOf(LocalDateTime.now()), runId);
+    }
+
+    /**
+     * 조회한 뒤로 아무도 손대지 않은 경우에만 실행을 가져옴 (재개 횟수 증가 + 체크포인트 갱신), 가져왔으면 true
+     * - 다른 인스턴스가 먼저 가져갔거나 그 사이 체크포인트가 찍혔으면 0행 갱신
+     */
+    public boolean claimRun(long runId, int expectedResumeCount, LocalDateTime staleBefore) {
+        return jdbcTemplate.update(
+                "UPDATE crawl_runs SET resume_count = resume_count + 1, checkpoint_at = ? " +
+                "WHERE run_id = ? AND status = 'RUNNING' AND resume_count = ? AND checkpoint_at < ?",
+                Timestamp.valueOf(LocalDateTime.now()), runId, expectedResumeCount, Timestamp.valueOf(staleBefore)) > 0;
+    }
+
+    public void finishRun(long runId) {
+        jdbcTemplate.update(
+                "UPDATE crawl_runs SET status = 'COMPLETED', finished_at = ? WHERE run_id = ?",
+                Timestamp.valueOf(LocalDateTime.now()), runId);
+    }
+
+    /**
+     * crawled_articles 누적 카운터 증가
+     */
+    public void addStats(int total, int processed, int failed) {
+        jdbcTemplate.update(
+                "UPDATE crawl_stats SET total_count = total_count + ?, processed_count = processed_count + ?, " +
+                "failed_count = failed_count + ?, updated_at = ? WHERE stats_id = ?",
+                total, processed, failed, Timestamp.valueOf(LocalDateTime.now()), STATS_ID);
+    }
+
+    /**
+     * 카운터 행이 없을 때만 crawled_articles 전체 집계로 생성 (집계와 INSERT가 한 문장), 생성했으면 true
+     */
+    public boolean seedStatsIfAbsent() {
+        return jdbcTemplate.update(
+                "INSERT INTO crawl_stats (stats_id, total_count, processed_count, failed_count, updated_at) " +
+                "SELECT ?, c.total, c.processed, c.failed, ? FROM (" +
+                "SELECT COUNT(*) AS total, " +
+                "COALESCE(SUM(CASE WHEN status = 'PROCESSED' THEN 1 ELSE 0 END), 0) AS processed, " +
+                "COALESCE(SUM(CASE WHEN status = 'FAILED' THEN 1 ELSE 0 END), 0) AS failed " +
+                "FROM crawled_articles) c " +
+                "WHERE NOT EXISTS (SELECT 1 FROM crawl_stats s WHERE s.stats_id = ?)",
+                STATS_ID, Timestamp.valueOf(LocalDateTime.now()), STATS_ID) > 0;
+    }
+
+    public Optional<StatsRow> findStats() {
+        return jdbcTemplate.query(
+                "SELECT total_count, processed_count, failed_count FROM crawl_stats WHERE stats_id = ?",
+                (rs, i) -> new StatsRow(rs.getLong(1), rs.getLong(2), rs.getLong(3)),
+                STATS_ID).stream().findFirst();
+    }
+
+    public record RunRow(long runId, int resumeCount) {}
+
+    public record RunItem(long urlKey, String articleUrl) {}
+
+    public record ItemState(long urlKey, CrawlRunItem.State state) {}
+
+    public record StatsRow(long total, long processed, long failed) {}
+}
@@ -1,6 +1,7 @@
 package umc.snack.repository.article;
 
 import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,7 +9,6 @@ import umc.snack.domain.article.entity.CrawledArticle;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 public interface CrawledArticleRepository extends JpaRepository<CrawledArticle, Long> {
 
@@ -16,13 +16,25 @@ public interface CrawledArticleRepository extends JpaRepository<CrawledArticle,
 
     long countByStatus(CrawledArticle.Status status); // 상태별 개수 세기용 (PROCESSED, FAILED 등)
 
+    // 크롤링 상태 조회용: 상태별 개수를 한 번의 집계로
+    @Query("SELECT c.status AS status, COUNT(c) AS count FROM CrawledArticle c GROUP BY c.status")
+    List<StatusCount> countGroupByStatus();
+
     List<CrawledArticle> findByStatus(CrawledArticle.Status status);
 
-    @Query("SELECT c.articleUrl FROM CrawledArticle c") // 이미 크롤링한 URL을 모두 Set으로 가져오는 쿼리
-    Set<String> findAllArticleUrls();
+    @EntityGraph(attributePaths = "body")
     Optional<CrawledArticle> findByArticleId(Long articleId);
 
     Optional<CrawledArticle> findByArticleIdAndStatus(Long articleId, CrawledArticle.Status status);
 
+    // 요약용: 압축 본문까지 한 번에 (기본 조회에는 본문이 포함되지 않음)
+    @EntityGraph(attributePaths = "body")
+    Optional<CrawledArticle> findWithBodyByArticleIdAndStatus(Long articleId, CrawledArticle.Status status);
+
     List<CrawledArticle> findTop60ByOrderByCrawledAtDesc();
+
+    interface StatusCount {
+        CrawledArticle.Status getStatus();
+        Long getCount();
+    }
 }
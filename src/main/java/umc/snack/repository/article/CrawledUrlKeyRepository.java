@@ -0,0 +1,74 @@
+package umc.snack.repository.article;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+/**
+ * crawled_articles.url_key(네이버 oid/aid 정규화 키) 전용 JDBC 접근
+ * - 이미 수집한 기사 확인은 URL 문자열 전체가 아니라 후보 키만 IN 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class CrawledUrlKeyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 키가 비어 있는 행 (컬럼 추가 이전 데이터 백필용)
+     */
+    public List<UrlRow> findRowsWithoutKey(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT crawled_article_id, article_url FROM crawled_articles " +
+                "WHERE crawled_article_id > ? AND url_key IS NULL ORDER BY crawled_article_id LIMIT ?",
+                (rs, i) -> new UrlRow(rs.getLong(1), rs.getString(2)),
+                afterId, limit);
+    }
+
+    /**
+     * 키 채우기 - 같은 기사가 이미 키를 갖고 있으면 유니크 인덱스에 걸려 건너뜀 (중복 행은 NULL로 남음)
+     */
+    public void updateKeys(List<UrlKeyUpdate> updates) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE IGNORE crawled_articles SET url_key = ? WHERE crawled_article_id = ? AND url_key IS NULL",
+                updates, updates.size(), (ps, update) -> {
+                    ps.setLong(1, update.urlKey());
+                    ps.setLong(2, update.crawledArticleId());
+                });
+    }
+
+    /**
+     * 키를 오름차순으로 limit개씩 읽어 전달하고, 마지막 키를 반환 (더 없으면 null)
+     */
+    public Long forEachKeyAfter(long afterKey, int limit, LongConsumer consumer) {
+        Long[] last = {null};
+        jdbcTemplate.query(
+                "SELECT url_key FROM crawled_articles WHERE url_key > ? ORDER BY url_key LIMIT ?",
+                rs -> {
+                    long key = rs.getLong(1);
+                    consumer.accept(key);
+                    last[0] = key;
+                },
+                afterKey, limit);
+        return last[0];
+    }
+
+    public Set<Long> findExistingKeys(Collection<Long> keys) {
+        if (keys.isEmpty()) return Collections.emptySet();
+        String placeholders = String.join(",", Collections.nCopies(keys.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT url_key FROM crawled_articles WHERE url_key IN (" + placeholders + ")",
+                Long.class, keys.toArray()));
+    }
+
+    public record UrlRow(long crawledArticleId, String articleUrl) {}
+
+    public record UrlKeyUpdate(long crawledArticleId, long urlKey) {}
+}
@@ -1,30 +1,59 @@
 package umc.snack.repository.feed;
 
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.security.core.parameters.P;
 import umc.snack.domain.article.entity.Article;
-import umc.snack.domain.article.entity.ArticleCategory;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface FeedRepository extends JpaRepository<Article, Long> {
 
-    // 카테고리별 첫 페이지 조회
-    @Query("SELECT DISTINCT a FROM Article a " +
-            "LEFT JOIN FETCH a.articleCategories ac " +
-            "LEFT JOIN FETCH ac.category " +
-            "WHERE ac.category.categoryName IN :categoryNames AND a.summary IS NOT NULL AND a.summary <> ''")
-    Slice<Article> findByCategoryName(@Param("categoryNames") List<String> categoryNames, Pageable pageable);
+    // 1단계: 카테고리별 첫 페이지 키 조회 (엔티티/연관관계 없이 정렬 키만)
+    @Query("SELECT a.articleId AS articleId, a.publishedAt AS publishedAt FROM Article a " +
+            "WHERE a.summary IS NOT NULL AND a.summary <> '' " +
+            "AND EXISTS (SELECT 1 FROM ArticleCategory ac " +
+            "            WHERE ac.articleId = a.articleId AND ac.categoryId IN :categoryIds) " +
+            "ORDER BY a.publishedAt DESC, a.articleId DESC")
+    List<FeedKey> findFeedKeys(@Param("categoryIds") List<Long> categoryIds, Pageable pageable);
+
+    // 1단계: 카테고리별 다음 페이지 키 조회 (커서의 publishedAt이 있는 경우)
+    // publishedAt이 null인 기사는 DESC 정렬에서 맨 뒤이므로 항상 커서 이후에 위치
+    @Query("SELECT a.articleId AS articleId, a.publishedAt AS publishedAt FROM Article a " +
+            "WHERE a.summary IS NOT NULL AND a.summary <> '' " +
+            "AND EXISTS (SELECT 1 FROM ArticleCategory ac " +
+            "            WHERE ac.articleId = a.articleId AND ac.categoryId IN :categoryIds) " +
+            "AND (a.publishedAt < :publishedAt " +
+            "     OR (a.publishedAt = :publishedAt AND a.articleId < :articleId) " +
+            "     OR a.publishedAt IS NULL) " +
+            "ORDER BY a.publishedAt DESC, a.articleId DESC")
+    List<FeedKey> findFeedKeysAfter(@Param("categoryIds") List<Long> categoryIds,
+                                    @Param("publishedAt") LocalDateTime publishedAt,
+                                    @Param("articleId") Long articleId,
+                                    Pageable pageable);
 
-    // 카테고리별 다음 페이지 조회 (커서 기반)
+    // 1단계: 카테고리별 다음 페이지 키 조회 (커서의 publishedAt이 null인 구간)
+    @Query("SELECT a.articleId AS articleId, a.publishedAt AS publishedAt FROM Article a " +
+            "WHERE a.summary IS NOT NULL AND a.summary <> '' " +
+            "AND EXISTS (SELECT 1 FROM ArticleCategory ac " +
+            "            WHERE ac.articleId = a.articleId AND ac.categoryId IN :categoryIds) " +
+            "AND a.publishedAt IS NULL AND a.articleId < :articleId " +
+            "ORDER BY a.articleId DESC")
+    List<FeedKey> findUndatedFeedKeysAfter(@Param("categoryIds") List<Long> categoryIds,
+                                           @Param("articleId") Long articleId,
+                                           Pageable pageable);
+
+    // 2단계: 한 페이지 분량의 기사 + 기사-카테고리 매핑을 한 번에 조회 (카테고리명은 CategoryRegistry에서)
     @Query("SELECT DISTINCT a FROM Article a " +
-            "LEFT JOIN FETCH a.articleCategories ac " +
-            "LEFT JOIN FETCH ac.category " +
-            "WHERE ac.category.categoryName IN :categoryNames AND a.articleId < :lastArticleId AND a.summary IS NOT NULL AND a.summary <> ''")
-    Slice<Article> findByCategoryNameWithCursor(
-            @Param("categoryNames") List<String> categoryNames, @Param("lastArticleId") Long lastArticleId, Pageable pageable);
+            "LEFT JOIN FETCH a.articleCategories " +
+            "WHERE a.articleId IN :ids")
+    List<Article> findAllWithCategoriesByIdIn(@Param("ids") List<Long> ids);
+
+    // 피드 정렬 키 projection
+    interface FeedKey {
+        Long getArticleId();
+        LocalDateTime getPublishedAt();
+    }
 }
@@ -1,12 +1,33 @@
 package umc.snack.repository.nlp;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import umc.snack.domain.article.entity.ArticleSemanticVector;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ArticleSemanticVectorRepository extends JpaRepository<ArticleSemanticVector, Long> {
     Optional<ArticleSemanticVector> findByArticle_ArticleId(Long articleId);
+
+    // 벡터 인덱스 적재용: (updatedAt, articleId) 키셋으로 변경분만 순서대로 조회 (엔티티 로딩 없이)
+    // 벡터가 NULL로 바뀐 행도 포함 - 인덱스에서 지워야 하므로
+    @Query("SELECT v.articleId AS articleId, v.representativeVector AS representativeVector, v.updatedAt AS updatedAt " +
+            "FROM ArticleSemanticVector v " +
+            "WHERE (v.updatedAt > :updatedAt OR (v.updatedAt = :updatedAt AND v.articleId > :articleId)) " +
+            "ORDER BY v.updatedAt ASC, v.articleId ASC")
+    List<VectorRow> findVectorRowsAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                        @Param("articleId") Long articleId,
+                                        Pageable pageable);
+
+    interface VectorRow {
+        Long getArticleId();
+        String getRepresentativeVector();
+        LocalDateTime getUpdatedAt();
+    }
 }
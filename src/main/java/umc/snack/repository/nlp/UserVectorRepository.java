@@ -0,0 +1,24 @@
+package umc.snack.repository.nlp;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * user_vectors 조회 (테이블은 FastAPI가 관리하므로 엔티티 없이 JDBC로 읽기만 함)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserVectorRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<String> findVectorJson(Long userId) {
+        List<String> rows = jdbcTemplate.queryForList(
+                "SELECT vector FROM user_vectors WHERE user_id = ?", String.class, userId);
+        return rows.isEmpty() ? Optional.empty() : Optional.ofNullable(rows.get(0));
+    }
+}
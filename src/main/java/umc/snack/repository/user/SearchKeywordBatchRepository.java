@@ -0,0 +1,51 @@
+package umc.snack.repository.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * search_keywords 일괄 반영 (최근 검색어 write-behind 전용, 엔티티 없이 JDBC 배치)
+ * - (user_id, keyword) 유니크 제약을 이용해 INSERT ... ON DUPLICATE KEY UPDATE로 저장/갱신을 한 문장에 처리
+ * - 사용자별로 최신 limit개만 남기고 나머지는 한 번의 DELETE로 정리
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchKeywordBatchRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO search_keywords (user_id, keyword, created_at, updated_at) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE created_at = VALUES(created_at), updated_at = VALUES(updated_at)";
+
+    // MySQL은 같은 테이블을 서브쿼리 LIMIT으로 직접 참조할 수 없어 파생 테이블로 한 번 감쌈
+    private static final String TRIM_SQL =
+            "DELETE FROM search_keywords WHERE user_id = ? AND search_id NOT IN (" +
+            "SELECT search_id FROM (SELECT search_id FROM search_keywords WHERE user_id = ? " +
+            "ORDER BY created_at DESC, search_id DESC LIMIT ?) recent)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsert(List<KeywordRow> rows) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            Timestamp at = Timestamp.valueOf(row.searchedAt());
+            ps.setLong(1, row.userId());
+            ps.setString(2, row.keyword());
+            ps.setTimestamp(3, at);
+            ps.setTimestamp(4, at);
+        });
+    }
+
+    public void trim(List<Long> userIds, int keep) {
+        jdbcTemplate.batchUpdate(TRIM_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, userId);
+            ps.setInt(3, keep);
+        });
+    }
+
+    public record KeywordRow(long userId, String keyword, LocalDateTime searchedAt) {}
+}
@@ -11,6 +11,4 @@ public interface SearchKeywordRepository extends JpaRepository<SearchKeyword, Lo
     Optional<SearchKeyword> findByUserIdAndKeyword(Long userId, String keyword);
 
     List<SearchKeyword> findTop10ByUserIdOrderByCreatedAtDesc(Long userId); // BaseEntity 상속 가정
-
-    List<SearchKeyword> findAllByUserIdOrderByCreatedAtDesc(Long userId);
 }
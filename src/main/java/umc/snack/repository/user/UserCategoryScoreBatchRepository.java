@@ -0,0 +1,126 @@
+package umc.snack.repository.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.LongSupplier;
+
+/**
+ * user_category_score 증분 반영 (엔티티 없이 JDBC 배치)
+ * - (user_id, category_id) 유니크 제약을 이용해 INSERT ... ON DUPLICATE KEY UPDATE로 행동 점수에 변화량을 더함
+ * - behavior_score는 정렬용 가중합(0.5·스크랩 + 0.3·클릭 + 0.2·검색)으로 같은 문장에서 다시 계산
+ * - 감쇠/재계산은 사용자 ID 구간 단위로 나눠 한 문장이 테이블 전체를 오래 잡지 않게 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCategoryScoreBatchRepository {
+
+    private static final String BEHAVIOR_EXPR =
+            "0.5 * scrap_score + 0.3 * click_score + 0.2 * search_score";
+
+    // ON DUPLICATE KEY UPDATE의 대입은 왼쪽부터 적용되므로 behavior_score는 갱신된 세 점수로 계산됨
+    private static final String APPLY_DELTAS_SQL =
+            "INSERT INTO user_category_score (score_id, user_id, category_id, scrap_score, click_score, search_score, " +
+            "behavior_score, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "scrap_score = GREATEST(0, COALESCE(scrap_score, 0) + ?), " +
+            "click_score = GREATEST(0, COALESCE(click_score, 0) + ?), " +
+            "search_score = GREATEST(0, COALESCE(search_score, 0) + ?), " +
+            "behavior_score = " + BEHAVIOR_EXPR + ", " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String DECAY_SQL =
+            "UPDATE user_category_score SET scrap_score = scrap_score * ?, click_score = click_score * ?, " +
+            "search_score = search_score * ?, behavior_score = behavior_score * ? WHERE user_id BETWEEN ? AND ?";
+
+    private static final String PRUNE_SQL =
+            "DELETE FROM user_category_score WHERE user_id BETWEEN ? AND ? AND behavior_score < ?";
+
+    // 검색 점수는 원본 로그(검색 결과 기사)가 남지 않으므로 재계산 대상에서 제외하고 유지
+    private static final String RESET_SQL =
+            "UPDATE user_category_score SET scrap_score = 0, click_score = 0, " +
+            "behavior_score = 0.2 * search_score WHERE user_id BETWEEN ? AND ?";
+
+    // 행동 시점부터 지난 시간만큼 반감기로 감쇠한 가중치 합 (증분 + 일 단위 감쇠 결과와 같은 기준)
+    private static final String AGGREGATE_SQL =
+            "SELECT t.user_id, ac.category_id, " +
+            "SUM(POW(0.5, TIMESTAMPDIFF(MINUTE, t.created_at, ?) / ?)) " +
+            "FROM %s t JOIN article_category ac ON ac.article_id = t.article_id " +
+            "WHERE t.user_id BETWEEN ? AND ? AND t.created_at >= ? " +
+            "GROUP BY t.user_id, ac.category_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param idSupplier 새 행에 쓸 score_id 생성기 (이미 있는 행이면 쓰이지 않음)
+     */
+    public void applyDeltas(List<ScoreDelta> deltas, LongSupplier idSupplier) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(APPLY_DELTAS_SQL, deltas, deltas.size(), (ps, delta) -> {
+            float scrap = Math.max(0, delta.scrap());
+            float click = Math.max(0, delta.click());
+            float search = Math.max(0, delta.search());
+            ps.setLong(1, idSupplier.getAsLong());
+            ps.setLong(2, delta.userId());
+            ps.setLong(3, delta.categoryId());
+            ps.setFloat(4, scrap);
+            ps.setFloat(5, click);
+            ps.setFloat(6, search);
+            ps.setFloat(7, 0.5f * scrap + 0.3f * click + 0.2f * search);
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+            ps.setFloat(10, delta.scrap());
+            ps.setFloat(11, delta.click());
+            ps.setFloat(12, delta.search());
+        });
+    }
+
+    public long findMaxUserId() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(user_id) FROM users", Long.class);
+        return max == null ? 0L : max;
+    }
+
+    /**
+     * 구간 내 모든 점수에 factor를 곱하고 minScore 미만이 된 행은 삭제
+     */
+    public int decayRange(long fromUserId, long toUserId, double factor, double minScore) {
+        jdbcTemplate.update(DECAY_SQL, factor, factor, factor, factor, fromUserId, toUserId);
+        return jdbcTemplate.update(PRUNE_SQL, fromUserId, toUserId, minScore);
+    }
+
+    /**
+     * 구간 내 스크랩/클릭 점수를 원본 로그에서 다시 계산 (증분 누락·스크랩 취소로 생긴 오차 보정)
+     * 초기화와 재적재를 한 트랜잭션으로 묶어 조회 중인 사용자가 0점 상태를 보지 않게 함
+     */
+    @Transactional
+    public void rebuildRange(long fromUserId, long toUserId, double halfLifeMinutes,
+                             LocalDateTime since, LongSupplier idSupplier) {
+        jdbcTemplate.update(RESET_SQL, fromUserId, toUserId);
+
+        Map<List<Long>, float[]> merged = new TreeMap<>(Comparator
+                .<List<Long>>comparingLong(k -> k.get(0))
+                .thenComparingLong(k -> k.get(1)));
+        aggregate("user_scraps", 0, fromUserId, toUserId, halfLifeMinutes, since, merged);
+        aggregate("user_clicks", 1, fromUserId, toUserId, halfLifeMinutes, since, merged);
+        if (merged.isEmpty()) return;
+
+        List<ScoreDelta> deltas = new ArrayList<>(merged.size());
+        merged.forEach((key, scores) -> deltas.add(new ScoreDelta(key.get(0), key.get(1), scores[0], scores[1], 0f)));
+        applyDeltas(deltas, idSupplier);
+    }
+
+    private void aggregate(String table, int slot, long fromUserId, long toUserId, double halfLifeMinutes,
+                           LocalDateTime since, Map<List<Long>, float[]> merged) {
+        jdbcTemplate.query(String.format(AGGREGATE_SQL, table), rs -> {
+                    merged.computeIfAbsent(List.of(rs.getLong(1), rs.getLong(2)), k -> new float[2])[slot] = rs.getFloat(3);
+                },
+                Timestamp.valueOf(LocalDateTime.now()), halfLifeMinutes, fromUserId, toUserId, Timestamp.valueOf(since));
+    }
+
+    public record ScoreDelta(long userId, long categoryId, float scrap, float click, float search) {}
+}
@@ -0,0 +1,12 @@
+package umc.snack.repository.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import umc.snack.domain.user.UserCategoryScoreId;
+import umc.snack.domain.user.entity.UserCategoryScore;
+
+import java.util.List;
+
+public interface UserCategoryScoreRepository extends JpaRepository<UserCategoryScore, UserCategoryScoreId> {
+
+    List<UserCategoryScore> findByUserId(Long userId); // (user_id, category_id) 유니크 인덱스 사용
+}
@@ -0,0 +1,45 @@
+package umc.snack.repository.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * user_clicks 일괄 저장 (클릭 수집 파이프라인 전용, 엔티티 없이 JDBC 배치)
+ * - 이미 있는 (user, article) 클릭과 존재하지 않는 기사는 INSERT ... SELECT 조건으로 건너뜀 (FK 오류로 배치 전체가 실패하지 않게)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserClickBatchRepository {
+
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO user_clicks (click_id, user_id, article_id, created_at, updated_at) " +
+            "SELECT ?, ?, ?, ?, ? FROM DUAL " +
+            "WHERE EXISTS (SELECT 1 FROM articles a WHERE a.article_id = ?) " +
+            "AND NOT EXISTS (SELECT 1 FROM user_clicks c WHERE c.user_id = ? AND c.article_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 항목별 반영 건수 (0 = 중복/없는 기사로 건너뜀, 드라이버가 건수를 모르면 음수)
+     */
+    public int[] insertIfAbsent(List<ClickRow> rows) {
+        return jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, rows, rows.size(), (ps, row) -> {
+            Timestamp at = Timestamp.valueOf(row.clickedAt());
+            ps.setLong(1, row.clickId());
+            ps.setLong(2, row.userId());
+            ps.setLong(3, row.articleId());
+            ps.setTimestamp(4, at);
+            ps.setTimestamp(5, at);
+            ps.setLong(6, row.articleId());
+            ps.setLong(7, row.userId());
+            ps.setLong(8, row.articleId());
+        })[0];
+    }
+
+    public record ClickRow(long clickId, long userId, long articleId, LocalDateTime clickedAt) {}
+}
@@ -7,25 +7,24 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import umc.snack.domain.article.entity.Article;
 import umc.snack.domain.article.entity.ArticleCategory;
-import umc.snack.domain.feed.entity.Category;
 import umc.snack.repository.article.ArticleCategoryRepository;
-import umc.snack.repository.feed.CategoryRepository;
+import umc.snack.service.feed.CategoryRegistry;
 
 @Service
 @RequiredArgsConstructor
 public class ArticleCategoryService {
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
     private final ArticleCategoryRepository articleCategoryRepository;
 
     public void assignCategoryToArticle(Article article, String categoryName) {
         // 유효하지 않은 카테고리 이름인 경우 예외 발생
-        Category category = categoryRepository.findByCategoryName(categoryName)
+        Long categoryId = categoryRegistry.findIdByName(categoryName)
                 .orElseThrow(() -> new CustomException(ErrorCode.FEED_9601));
 
         ArticleCategory articleCategory = ArticleCategory.builder()
                 .articleId(article.getArticleId())
-                .categoryId(category.getCategoryId())
+                .categoryId(categoryId)
                 .build();
 
         articleCategoryRepository.save(articleCategory);
@@ -0,0 +1,256 @@
+package umc.snack.service.article;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import umc.snack.common.cache.ContentVersions;
+import umc.snack.common.config.SchedulerConfig;
+import umc.snack.domain.article.event.ArticleReadyEvent;
+import umc.snack.repository.article.ArticleCounterRepository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기사 조회/스크랩/공유 카운터 (write-behind)
+ * - 요청 경로에서는 기사별·종류별 LongAdder만 증가 (DB 접근 없음)
+ * - flush 주기마다 쌓인 증분을 UPDATE ... SET view_count = view_count + ? 배치로 반영
+ * - 기동 시 DB 값을 base로 적재해 두고, 피드 카드에는 base + 미반영 증분을 그대로 노출
+ * - 비정상 종료 시 잃는 값은 최대 flush 한 주기 분량 (정상 종료 시에는 @PreDestroy에서 마지막 flush)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleCounterService {
+
+    public enum Counter { VIEW, SCRAP, SHARE }
+
+    /**
+     * 카운터 증감 구독 (트렌딩 집계 등), 요청 스레드에서 호출되므로 가볍게 처리해야 함
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onCount(Long articleId, Counter counter, long delta);
+    }
+
+    private static final int COUNTERS = Counter.values().length;
+
+    private final ArticleCounterRepository articleCounterRepository;
+    private final ContentVersions contentVersions;
+
+    @Value("${article.counter.load-batch-size:5000}")
+    private int loadBatchSize;
+
+    // 캐시된 피드 응답(ETag)의 카운트를 갱신하는 최소 간격
+    @Value("${article.counter.display-refresh-ms:60000}")
+    private long displayRefreshMs;
+
+    // 적재 전에는 기사 존재 여부를 알 수 없으므로, 모르는 기사의 조회수는 이 개수까지만 보관
+    @Value("${article.counter.max-pending-unknown:10000}")
+    private int maxPendingUnknown;
+
+    // DB에 반영된 값 (기동 시 적재 + flush 때마다 증가)
+    private final Map<Long, AtomicLongArray> base = new ConcurrentHashMap<>();
+    // 아직 DB에 반영되지 않은 증분
+    private final Map<Long, LongAdder[]> pending = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean warm = false;
+    private long lastDisplayTouch = 0L;
+    private boolean displayDirty = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            int backfilled = articleCounterRepository.backfillMissingCounts();
+            if (backfilled > 0) {
+                log.info("기사 스크랩/공유 카운트 백필 - {}건", backfilled);
+            }
+
+            long afterId = 0L;
+            int total = 0;
+            while (true) {
+                List<ArticleCounterRepository.CounterRow> rows = articleCounterRepository.findCountsAfter(afterId, loadBatchSize);
+                rows.forEach(this::putBase);
+                total += rows.size();
+                if (rows.size() < loadBatchSize) break;
+                afterId = rows.get(rows.size() - 1).articleId();
+            }
+            warm = true;
+            log.info("기사 카운터 적재 완료 - {}개", total);
+        } catch (Exception e) {
+            log.error("기사 카운터 적재 실패 - 카드에는 엔티티 값 + 미반영 증분만 노출합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 새로 READY가 된 기사는 DB 값을 base로 등록 (커밋 이후)
+     */
+    @TransactionalEventListener
+    public synchronized void onArticleReady(ArticleReadyEvent event) {
+        if (!warm) return;
+        try {
+            articleCounterRepository.findCounts(event.articleId()).ifPresent(this::putBase);
+        } catch (Exception e) {
+            log.warn("기사 카운터 등록 실패 - articleId: {}, 오류: {}", event.articleId(), e.getMessage());
+        }
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void increment(Long articleId, Counter counter) {
+        add(articleId, counter, 1L);
+    }
+
+    public void decrement(Long articleId, Counter counter) {
+        add(articleId, counter, -1L);
+    }
+
+    /**
+     * 카운터 증감, 트랜잭션 안에서 호출되면 커밋 이후에만 반영
+     */
+    public void add(Long articleId, Counter counter, long delta) {
+        if (articleId == null || delta == 0) return;
+        // 조회수는 존재하지 않는 ID로도 호출될 수 있으므로 알려진 기사만 집계
+        // 적재 전에는 pending 크기로 제한하고, flush에서 갱신된 행이 없는 ID는 버림
+        if (counter == Counter.VIEW && !base.containsKey(articleId)
+                && (warm || (pending.size() >= maxPendingUnknown && !pending.containsKey(articleId)))) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(articleId, counter, delta);
+                }
+            });
+        } else {
+            addNow(articleId, counter, delta);
+        }
+    }
+
+    private void addNow(Long articleId, Counter counter, long delta) {
+        // 증분을 먼저 더한 뒤 dirty 표시 → flush가 dirty에서 꺼낸 뒤 더해진 값은 다음 flush에서 반영
+        pending.computeIfAbsent(articleId, id -> newAdders())[counter.ordinal()].add(delta);
+        dirty.add(articleId);
+        for (Listener listener : listeners) {
+            listener.onCount(articleId, counter, delta);
+        }
+    }
+
+    /**
+     * 현재 카운트 (DB 반영분 + 미반영 증분)
+     * @param fallback base가 없는 기사(적재 실패 등)에 쓸 카드/엔티티 값
+     */
+    public long get(Long articleId, Counter counter, long fallback) {
+        AtomicLongArray stored = base.get(articleId);
+        long value = stored != null ? stored.get(counter.ordinal()) : fallback;
+        LongAdder[] adders = pending.get(articleId);
+        return adders == null ? value : value + adders[counter.ordinal()].sum();
+    }
+
+    @Scheduled(fixedDelayString = "${article.counter.flush-interval-ms:5000}", scheduler = SchedulerConfig.FLUSH_SCHEDULER)
+    public synchronized void flush() {
+        // 적재 전에는 base와 DB 사이에 증분이 이중 반영될 수 있으므로 대기 (증분은 pending에 계속 누적)
+        if (!warm) return;
+
+        if (flushPending()) {
+            displayDirty = true;
+        }
+
+        // 직렬화 캐시된 피드 응답의 카운트가 너무 오래 머물지 않도록 피드 버전을 주기적으로 올림
+        long now = System.currentTimeMillis();
+        if (displayDirty && now - lastDisplayTouch >= displayRefreshMs) {
+            contentVersions.touchFeed();
+            lastDisplayTouch = now;
+            displayDirty = false;
+        }
+    }
+
+    // 쌓인 증분을 배치 UPDATE로 반영, 반영한 것이 있으면 true
+    private boolean flushPending() {
+        if (dirty.isEmpty()) return false;
+
+        List<Long> ids = new ArrayList<>(dirty.size());
+        for (Iterator<Long> it = dirty.iterator(); it.hasNext(); ) {
+            ids.add(it.next());
+            it.remove();
+        }
+        Collections.sort(ids); // 같은 순서로 잠가 동시 flush 간 교착 방지
+
+        List<ArticleCounterRepository.CounterDelta> deltas = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            LongAdder[] adders = pending.get(id);
+            if (adders == null) continue;
+            long views = adders[Counter.VIEW.ordinal()].sum();
+            long scraps = adders[Counter.SCRAP.ordinal()].sum();
+            long shares = adders[Counter.SHARE.ordinal()].sum();
+            if (views == 0 && scraps == 0 && shares == 0) continue;
+            deltas.add(new ArticleCounterRepository.CounterDelta(id, views, scraps, shares));
+        }
+        if (deltas.isEmpty()) return false;
+
+        int[] affected;
+        try {
+            affected = articleCounterRepository.applyDeltas(deltas);
+        } catch (Exception e) {
+            // 반영 실패 시 증분은 pending에 그대로 두고 다음 주기에 다시 시도
+            deltas.forEach(d -> dirty.add(d.articleId()));
+            log.warn("기사 카운터 반영 실패 - {}건, 다음 주기에 재시도: {}", deltas.size(), e.getMessage());
+            return false;
+        }
+
+        // base에 먼저 더하고 pending에서 빼서, 노출 값이 잠깐이라도 줄어들지 않게 함
+        for (int i = 0; i < deltas.size(); i++) {
+            ArticleCounterRepository.CounterDelta d = deltas.get(i);
+            LongAdder[] adders = pending.get(d.articleId());
+            if (affected != null && affected.length == deltas.size() && affected[i] == 0) {
+                // 없는 기사 (적재 전에 받은 잘못된 ID, 삭제된 기사) → 증분과 항목을 함께 버림
+                pending.remove(d.articleId(), adders);
+                base.remove(d.articleId());
+                continue;
+            }
+            AtomicLongArray stored = base.get(d.articleId());
+            if (stored != null) {
+                stored.addAndGet(Counter.VIEW.ordinal(), d.views());
+                stored.addAndGet(Counter.SCRAP.ordinal(), d.scraps());
+                stored.addAndGet(Counter.SHARE.ordinal(), d.shares());
+            }
+            adders[Counter.VIEW.ordinal()].add(-d.views());
+            adders[Counter.SCRAP.ordinal()].add(-d.scraps());
+            adders[Counter.SHARE.ordinal()].add(-d.shares());
+        }
+        log.debug("기사 카운터 반영 - {}건", deltas.size());
+        return true;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void putBase(ArticleCounterRepository.CounterRow row) {
+        base.put(row.articleId(), new AtomicLongArray(new long[]{row.views(), row.scraps(), row.shares()}));
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[COUNTERS];
+        for (int i = 0; i < COUNTERS; i++) adders[i] = new LongAdder();
+        return adders;
+    }
+}
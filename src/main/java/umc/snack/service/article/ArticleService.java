@@ -7,20 +7,27 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import umc.snack.common.config.CacheConfig;
 import umc.snack.common.exception.CustomException;
 import umc.snack.common.exception.ErrorCode;
 import umc.snack.domain.article.dto.ArticleDto;
 import umc.snack.domain.article.dto.RelatedArticleDto;
 import umc.snack.domain.article.entity.Article;
-import umc.snack.domain.feed.entity.Category;
+import umc.snack.domain.article.entity.ArticleCategory;
+import umc.snack.domain.article.entity.ArticleNeighbor;
 import umc.snack.domain.term.dto.TermResponseDto;
 import umc.snack.domain.term.entity.ArticleTerm;
 import umc.snack.domain.term.entity.Term;
+import umc.snack.repository.article.ArticleCategoryRepository;
+import umc.snack.repository.article.ArticleNeighborRepository;
 import umc.snack.repository.article.ArticleRepository;
 import umc.snack.repository.article.ArticleTermRepository;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +35,8 @@ import java.util.stream.Collectors;
 public class ArticleService {
     private final ArticleRepository articleRepository;
     private final ArticleTermRepository articleTermRepository;
+    private final ArticleCategoryRepository articleCategoryRepository;
+    private final ArticleNeighborRepository articleNeighborRepository;
 
     @Transactional(readOnly = true)
     public ArticleDto getArticleById(Long articleId) {
@@ -80,34 +89,61 @@ public class ArticleService {
 
     private static final int RELATED_ARTICLE_COUNT = 3;
 
-    @Cacheable(value = "related-articles", key = "#articleId")
+    /**
+     * 관련 기사: 배치로 미리 계산한 의미 유사 기사 목록(article_neighbors)을 키로 조회
+     * - 이웃 중 READY인 기사만 유사도 순으로 사용
+     * - 아직 이웃이 계산되지 않았거나 부족하면 같은 카테고리 최신 기사로 채움
+     */
+    @Cacheable(value = CacheConfig.RELATED_ARTICLES, key = "#articleId")
     @Transactional(readOnly = true)
     public List<RelatedArticleDto> findRelatedArticles(Long articleId) {
         if (articleId == null) {
             throw new CustomException(ErrorCode.REQ_3102);
         }
 
-        Article sourceArticle = articleRepository.findById(articleId)
-                .orElseThrow(() -> new CustomException(ErrorCode.ARTICLE_9105_RELATED));
+        Optional<ArticleNeighbor> neighbor = articleNeighborRepository.findById(articleId);
+        if (neighbor.isEmpty() && !articleRepository.existsById(articleId)) {
+            throw new CustomException(ErrorCode.ARTICLE_9105_RELATED);
+        }
+
+        List<Article> related = new ArrayList<>(RELATED_ARTICLE_COUNT);
+        List<Long> neighborIds = neighbor.map(ArticleNeighbor::getNeighborIds).orElse(List.of());
+        if (!neighborIds.isEmpty()) {
+            Map<Long, Article> ready = articleRepository.findReadyByArticleIdIn(neighborIds).stream()
+                    .collect(Collectors.toMap(Article::getArticleId, a -> a));
+            for (Long id : neighborIds) {
+                Article article = ready.get(id);
+                if (article != null) related.add(article);
+                if (related.size() == RELATED_ARTICLE_COUNT) break;
+            }
+        }
+
+        if (related.size() < RELATED_ARTICLE_COUNT) {
+            related.addAll(findSameCategoryArticles(articleId, related, RELATED_ARTICLE_COUNT - related.size()));
+        }
+
+        return related.stream()
+                .map(RelatedArticleDto::fromEntity)
+                .collect(Collectors.toList());
+    }
 
-        if (sourceArticle.getArticleCategories().isEmpty()) {
+    // 같은 카테고리 최신 기사 (이미 고른 기사 제외)
+    private List<Article> findSameCategoryArticles(Long articleId, List<Article> picked, int count) {
+        List<ArticleCategory> categories = articleCategoryRepository.findByArticleId(articleId);
+        if (categories.isEmpty()) {
             return Collections.emptyList();
         }
 
-        Category targetCategory = sourceArticle.getArticleCategories().get(0).getCategory();
+        List<Long> excludeIds = new ArrayList<>(picked.size() + 1);
+        excludeIds.add(articleId);
+        picked.forEach(a -> excludeIds.add(a.getArticleId()));
 
         Pageable pageable = PageRequest.of(
-                0, RELATED_ARTICLE_COUNT,
+                0, count,
                 Sort.by("publishedAt").descending().and(Sort.by("articleId").descending())
         );
 
         // 관련 기사도 요약(ready)만
-        List<Article> relatedArticles = articleRepository.findReadyRelated(
-                targetCategory, articleId, pageable
-        );
-
-        return relatedArticles.stream()
-                .map(RelatedArticleDto::fromEntity)
-                .collect(Collectors.toList());
+        return articleRepository.findReadyRelatedByCategoryId(categories.get(0).getCategoryId(), excludeIds, pageable);
     }
-}
\ No newline at end of file
+}
@@ -7,6 +7,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpServerErrorException;
+import umc.snack.common.metrics.PipelineMetrics;
 import umc.snack.domain.article.entity.Article;
 import umc.snack.domain.article.entity.CrawledArticle;
 import umc.snack.global.gemini.GeminiParsingService;
@@ -26,17 +27,20 @@ public class ArticleSummarizeService {
     private final ArticleRepository articleRepository;
     private final CrawledArticleRepository crawledArticleRepository;
     private final GeminiParsingService geminiParsingService;
+    private final PipelineMetrics pipelineMetrics;
 
     public ArticleSummarizeService(
             GeminiService geminiService,
             ArticleRepository articleRepository,
             CrawledArticleRepository crawledArticleRepository,
-            GeminiParsingService geminiParsingService
+            GeminiParsingService geminiParsingService,
+            PipelineMetrics pipelineMetrics
     ) {
         this.geminiService = geminiService;
         this.articleRepository = articleRepository;
         this.crawledArticleRepository = crawledArticleRepository;
         this.geminiParsingService = geminiParsingService;
+        this.pipelineMetrics = pipelineMetrics;
     }
     String promptTemplate = """
             다음 지시를 정확히 따르세요.
@@ -115,6 +119,7 @@ public class ArticleSummarizeService {
                     long sleep = Math.min((long) Math.pow(2, i) * baseMillis, 120_000); // ≤120s
                     long jitter = ThreadLocalRandom.current().nextLong(0, 1000);
                     log.warn("{} 에러. {}번째 재시도 전 {}ms 대기", code, i + 1, sleep + jitter);
+                    pipelineMetrics.geminiRetry(model, String.valueOf(code));
                     try { Thread.sleep(sleep + jitter); }
                     catch (InterruptedException ie) { Thread.currentThread().interrupt(); throw new RuntimeException(ie); }
                     continue;
@@ -123,6 +128,7 @@ public class ArticleSummarizeService {
             } catch (Exception e) {
                 // 네트워크/타임아웃 등도 1회 재시도는 유효
                 if (i < maxRetry - 1) {
+                    pipelineMetrics.geminiRetry(model, "exception");
                     try { Thread.sleep(1500); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
                     continue;
                 }
@@ -145,7 +151,7 @@ public class ArticleSummarizeService {
 
         for (Article article : articles) {
             CrawledArticle crawled = crawledArticleRepository
-                    .findByArticleIdAndStatus(article.getArticleId(), CrawledArticle.Status.PROCESSED)
+                    .findWithBodyByArticleIdAndStatus(article.getArticleId(), CrawledArticle.Status.PROCESSED)
                     .orElse(null);
 
                 log.info("CrawledArticle 조회 결과: {}", crawled); // 디버깅용 추가
@@ -161,6 +167,7 @@ public class ArticleSummarizeService {
                     log.warn("기사 본문이 없음 - {}", article.getArticleId());
                     continue;
                 }
+            long startedAt = System.nanoTime();
             try {
                 // Gemini API 호출
                 String prompt = promptTemplate + crawled.getContent();
@@ -171,8 +178,9 @@ public class ArticleSummarizeService {
                 log.info("=========================================================");
 
                 geminiParsingService.updateArticleSummary(article.getArticleId(), result);
+                pipelineMetrics.summarize(System.nanoTime() - startedAt, PipelineMetrics.OK);
             } catch (Exception e) {
-
+                pipelineMetrics.summarize(System.nanoTime() - startedAt, PipelineMetrics.ERROR);
                 log.error("요약 실패 - articleId: {}", article.getArticleId(), e);
             }
             // 10초 대기
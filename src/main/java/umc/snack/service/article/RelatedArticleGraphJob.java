@@ -0,0 +1,169 @@
+package umc.snack.service.article;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import umc.snack.common.cache.ContentVersions;
+import umc.snack.common.config.CacheConfig;
+import umc.snack.domain.article.entity.ArticleNeighbor;
+import umc.snack.repository.article.ArticleNeighborRepository;
+import umc.snack.repository.nlp.ArticleSemanticVectorRepository;
+import umc.snack.service.nlp.index.SemanticVectorIndex;
+import umc.snack.service.nlp.index.VectorMatrix;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 관련 기사 그래프 배치
+ * - 대표 벡터가 새로 생기거나 바뀐 기사마다 SemanticVectorIndex에서 kNN을 구해 article_neighbors에 저장
+ * - 새 기사가 기존 기사의 이웃 목록보다 가까우면 기존 기사 목록에도 끼워 넣음 (역방향 반영)
+ * - 조회 API는 이 테이블을 키로 한 번 읽기만 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedArticleGraphJob {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SemanticVectorIndex semanticVectorIndex;
+    private final ArticleSemanticVectorRepository articleSemanticVectorRepository;
+    private final ArticleNeighborRepository articleNeighborRepository;
+    private final ContentVersions contentVersions;
+    private final CacheManager cacheManager;
+
+    @Value("${article.related.neighbors:10}")
+    private int neighborCount;
+
+    @Value("${article.related.batch-size:500}")
+    private int batchSize;
+
+    // 같은 초에 늦게 커밋된 벡터를 놓치지 않도록 워터마크보다 조금 앞에서부터 다시 계산
+    @Value("${article.related.overlap-seconds:120}")
+    private long overlapSeconds;
+
+    private LocalDateTime watermark;
+
+    @Scheduled(initialDelayString = "${article.related.initial-delay-ms:120000}",
+            fixedDelayString = "${article.related.interval-ms:300000}")
+    public synchronized void run() {
+        if (!semanticVectorIndex.isReady()) return;
+        try {
+            // 방금 저장된 벡터까지 인덱스에 들어간 상태에서 계산
+            semanticVectorIndex.refresh();
+
+            if (watermark == null) {
+                watermark = articleNeighborRepository.findMaxVectorUpdatedAt().orElse(EPOCH);
+            }
+            int computed = computeSince(watermark.isAfter(EPOCH) ? watermark.minusSeconds(overlapSeconds) : EPOCH);
+            if (computed > 0) {
+                // saveAll이 배치마다 커밋된 뒤이므로 여기서 비우면 이전 이웃 목록이 다시 캐시되지 않음
+                Cache related = cacheManager.getCache(CacheConfig.RELATED_ARTICLES);
+                if (related != null) related.clear();
+                contentVersions.touchRelated();
+                log.info("관련 기사 그래프 갱신 - {}개 기사", computed);
+            }
+        } catch (Exception e) {
+            log.warn("관련 기사 그래프 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private int computeSince(LocalDateTime since) {
+        int k = Math.min(neighborCount, ArticleNeighbor.MAX_NEIGHBORS);
+        LocalDateTime cursorTime = since;
+        Long cursorId = 0L;
+        int total = 0;
+
+        while (true) {
+            List<ArticleSemanticVectorRepository.VectorRow> rows = articleSemanticVectorRepository
+                    .findVectorRowsAfter(cursorTime, cursorId, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) break;
+
+            Map<Long, ArticleNeighbor> existing = new HashMap<>();
+            articleNeighborRepository.findAllById(rows.stream().map(ArticleSemanticVectorRepository.VectorRow::getArticleId).toList())
+                    .forEach(n -> existing.put(n.getArticleId(), n));
+
+            Map<Long, ArticleNeighbor> computed = new LinkedHashMap<>();
+            for (ArticleSemanticVectorRepository.VectorRow row : rows) {
+                Long articleId = row.getArticleId();
+                semanticVectorIndex.neighbors(articleId, k).ifPresent(scored -> {
+                    ArticleNeighbor neighbor = existing.get(articleId);
+                    if (neighbor == null) {
+                        neighbor = ArticleNeighbor.of(articleId, toEntries(scored), row.getUpdatedAt());
+                    } else {
+                        neighbor.recompute(toEntries(scored), row.getUpdatedAt());
+                    }
+                    computed.put(articleId, neighbor);
+                });
+            }
+            articleNeighborRepository.saveAll(computed.values());
+            mergeReverse(computed.values(), k);
+
+            ArticleSemanticVectorRepository.VectorRow last = rows.get(rows.size() - 1);
+            cursorTime = last.getUpdatedAt();
+            cursorId = last.getArticleId();
+            if (cursorTime != null && cursorTime.isAfter(watermark)) {
+                watermark = cursorTime;
+            }
+            total += computed.size();
+            if (rows.size() < batchSize) break;
+        }
+        return total;
+    }
+
+    /**
+     * 새로 계산한 기사 B의 이웃 A마다, B가 A의 현재 목록에 들 만큼 가까우면 A의 목록에 삽입
+     * - A의 전체 재계산 없이 그래프를 대칭에 가깝게 유지
+     */
+    private void mergeReverse(Collection<ArticleNeighbor> computed, int k) {
+        Map<Long, List<ArticleNeighbor.Entry>> incoming = new HashMap<>();
+        for (ArticleNeighbor source : computed) {
+            for (ArticleNeighbor.Entry entry : source.getEntries()) {
+                incoming.computeIfAbsent(entry.articleId(), id -> new ArrayList<>())
+                        .add(new ArticleNeighbor.Entry(source.getArticleId(), entry.score()));
+            }
+        }
+        incoming.keySet().removeAll(collectIds(computed));
+        if (incoming.isEmpty()) return;
+
+        List<ArticleNeighbor> changed = new ArrayList<>();
+        for (ArticleNeighbor target : articleNeighborRepository.findAllById(incoming.keySet())) {
+            List<ArticleNeighbor.Entry> merged = new ArrayList<>(target.getEntries());
+            Set<Long> present = new HashSet<>();
+            merged.forEach(e -> present.add(e.articleId()));
+
+            boolean modified = false;
+            for (ArticleNeighbor.Entry candidate : incoming.get(target.getArticleId())) {
+                if (present.contains(candidate.articleId())) continue;
+                if (merged.size() < k || candidate.score() > merged.get(merged.size() - 1).score()) {
+                    merged.add(candidate);
+                    merged.sort(Comparator.comparingDouble(ArticleNeighbor.Entry::score).reversed());
+                    if (merged.size() > k) merged.remove(merged.size() - 1);
+                    present.add(candidate.articleId());
+                    modified = true;
+                }
+            }
+            if (modified) {
+                target.replaceEntries(merged);
+                changed.add(target);
+            }
+        }
+        articleNeighborRepository.saveAll(changed);
+    }
+
+    private static Set<Long> collectIds(Collection<ArticleNeighbor> neighbors) {
+        Set<Long> ids = new HashSet<>();
+        neighbors.forEach(n -> ids.add(n.getArticleId()));
+        return ids;
+    }
+
+    private static List<ArticleNeighbor.Entry> toEntries(List<VectorMatrix.Scored> scored) {
+        return scored.stream().map(s -> new ArticleNeighbor.Entry(s.id(), s.score())).toList();
+    }
+}
@@ -0,0 +1,86 @@
+package umc.snack.service.feed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import umc.snack.domain.feed.entity.Category;
+import umc.snack.domain.feed.entity.CategoryType;
+import umc.snack.repository.feed.CategoryRepository;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 카테고리 레지스트리 (인메모리, 불변 스냅샷)
+ * - 카테고리는 CategoryInitializer가 시드하는 고정 집합이므로 기동 시 한 번 읽어 둠
+ * - 이름 → ID, sid → 카테고리, ID → 이름 조회를 쿼리 없이 처리
+ * - 카테고리가 바뀌면 refresh()로 스냅샷 전체를 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryRegistry {
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * DB에서 카테고리를 다시 읽어 스냅샷 교체
+     */
+    public synchronized void refresh() {
+        Map<String, Category> byName = new HashMap<>();
+        Map<Long, String> nameById = new HashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            byName.put(category.getCategoryName().trim(), category);
+            nameById.put(category.getCategoryId(), category.getCategoryName());
+        }
+
+        Map<CategoryType, Category> byType = new EnumMap<>(CategoryType.class);
+        for (CategoryType type : CategoryType.values()) {
+            Category category = byName.get(type.getCategoryName());
+            if (category != null) {
+                byType.put(type, category);
+            }
+        }
+
+        snapshot = new Snapshot(Map.copyOf(byName), Map.copyOf(nameById), byType);
+        log.info("카테고리 레지스트리 갱신 완료 - {}개", byName.size());
+    }
+
+    public boolean exists(String categoryName) {
+        return categoryName != null && current().byName().containsKey(categoryName.trim());
+    }
+
+    public Optional<Long> findIdByName(String categoryName) {
+        if (categoryName == null) return Optional.empty();
+        return Optional.ofNullable(current().byName().get(categoryName.trim())).map(Category::getCategoryId);
+    }
+
+    /**
+     * sid(예: "101") → 카테고리, 매핑되지 않는 sid는 '기타'
+     */
+    public Optional<Category> findBySid(String sid) {
+        return Optional.ofNullable(current().byType().get(CategoryType.fromSid(sid)));
+    }
+
+    public String getName(Long categoryId) {
+        return current().nameById().get(categoryId);
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            // 초기화 순서상 아직 적재 전이면 최초 접근 시 적재
+            refresh();
+            s = snapshot;
+        }
+        return s;
+    }
+
+    private record Snapshot(Map<String, Category> byName,
+                            Map<Long, String> nameById,
+                            Map<CategoryType, Category> byType) {}
+}
@@ -7,9 +7,7 @@ import org.springframework.transaction.annotation.Transactional;
 import umc.snack.domain.article.entity.Article;
 import umc.snack.domain.article.entity.ArticleCategory;
 import umc.snack.domain.feed.entity.Category;
-import umc.snack.domain.feed.entity.CategoryType;
 import umc.snack.repository.article.ArticleCategoryRepository;
-import umc.snack.repository.feed.CategoryRepository;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -20,7 +18,7 @@ import java.util.regex.Pattern;
 @Transactional
 public class CategoryService {
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
     private final ArticleCategoryRepository articleCategoryRepository;
 
     /**
@@ -31,20 +29,13 @@ public class CategoryService {
         String sid1 = extractSidFromUrl(articleUrl);
         log.info("articleUrl={}, sid1={}", articleUrl, sid1);
 
-        // 2. sid1 → categoryName 매핑
-        String categoryName = CategoryType.fromSid(sid1).getCategoryName();
-        log.info("sid1 = {}, categoryName = {}", sid1, categoryName);
-
-        // 3. 트림 처리 및 로그
-        String trimmedName = categoryName.trim();
-        log.info("🔍 categoryName 요청값 = '{}', 길이 = {}", trimmedName, trimmedName.length());
-
-        // 4. DB에서 카테고리 조회
-        Category category = categoryRepository.findByCategoryName(trimmedName)
+        // 2. sid1 → 카테고리 매핑 (레지스트리 조회, 쿼리 없음)
+        Category category = categoryRegistry.findBySid(sid1)
                 .orElseThrow(() ->
-                        new IllegalArgumentException("해당 카테고리 이름이 존재하지 않습니다. (입력값: " + trimmedName + ")"));
+                        new IllegalArgumentException("해당 sid에 매핑된 카테고리가 존재하지 않습니다. (입력값: " + sid1 + ")"));
+        log.info("sid1 = {}, categoryName = {}", sid1, category.getCategoryName());
 
-        // 5. 연관 테이블에 저장
+        // 3. 연관 테이블에 저장
         articleCategoryRepository.save(
                 ArticleCategory.builder()
                         .articleId(article.getArticleId())
@@ -10,7 +10,10 @@ import java.util.List;
 
 public interface FeedService {
 
-    ArticleInFeedDto getMainFeedByCategories(List<String> categoryNames, Long lastArticleId, Long userId);
+    ArticleInFeedDto getMainFeedByCategories(List<String> categoryNames, String cursor, Long userId);
+    void validateMainFeedRequest(List<String> categoryNames, String cursor);
     SearchResponseDto searchArticlesByQuery(String query, int page, int size, double threshold);
-    ArticleInFeedDto getPersonalizedFeed(Long userId, Long lastArticleId);
+    ArticleInFeedDto getPersonalizedFeed(Long userId, String cursor);
+    ArticleInFeedDto getTrending(String categoryName, int size);
+    void validateTrendingRequest(String categoryName);
 }
@@ -14,17 +14,20 @@ import umc.snack.common.exception.ErrorCode;
 import umc.snack.converter.feed.FeedConverter;
 import umc.snack.domain.article.entity.Article;
 import umc.snack.domain.feed.dto.ArticleInFeedDto;
+import umc.snack.domain.feed.dto.FeedCursor;
+import umc.snack.domain.feed.dto.PersonalizedFeedCursor;
 import umc.snack.domain.nlp.dto.*;
-import umc.snack.domain.user.entity.SearchKeyword;
-import umc.snack.domain.user.entity.UserClicks;
-import umc.snack.domain.user.entity.UserScrap;
 import umc.snack.repository.article.ArticleRepository;
-import umc.snack.repository.feed.CategoryRepository;
 import umc.snack.repository.feed.FeedRepository;
-import umc.snack.repository.user.UserClickRepository;
-import umc.snack.repository.scrap.UserScrapRepository;
-import umc.snack.repository.user.SearchKeywordRepository;
+import umc.snack.repository.nlp.UserVectorRepository;
+import umc.snack.service.feed.trending.TrendingService;
+import umc.snack.service.nlp.NlpCooldown;
 import umc.snack.service.nlp.NlpService;
+import umc.snack.service.nlp.QueryEmbeddingService;
+import umc.snack.service.nlp.index.SemanticVectorIndex;
+import umc.snack.service.nlp.index.VectorMatrix;
+import umc.snack.service.search.LexicalArticleIndex;
+import umc.snack.service.search.SearchRankFusion;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
@@ -32,6 +35,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,140 +44,221 @@ import java.util.stream.Collectors;
 @Slf4j
 class FeedServiceImpl implements FeedService {
     private final FeedRepository feedRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
     private final FeedConverter feedConverter;
+    private final FeedTimelineCache feedTimelineCache;
+    private final PersonalizedFeedSnapshotStore personalizedFeedSnapshotStore;
+    private final UserProfileUpdateCoalescer userProfileUpdateCoalescer;
     private final NlpService nlpService;
+    private final SearchResultCache searchResultCache;
+    private final QueryEmbeddingService queryEmbeddingService;
+    private final NlpCooldown nlpCooldown;
+    private final LexicalArticleIndex lexicalArticleIndex;
+    private final SemanticVectorIndex semanticVectorIndex;
+    private final UserVectorRepository userVectorRepository;
+    private final TrendingService trendingService;
 
-    private final UserScrapRepository userScrapRepository;
-    private final UserClickRepository userClickRepository;
-    private final SearchKeywordRepository searchKeywordRepository;
     private final ArticleRepository articleRepository;
 
     private static final int PAGE_SIZE = 16;
+    // 맞춤 피드 스냅샷에 담을 랭킹 기사 수 (16개 × 25페이지)
+    private static final int SNAPSHOT_SIZE = 400;
+    // 검색어별로 캐시할 상위 검색 결과 수
+    private static final int SEARCH_CACHE_SIZE = 300;
+    // 검색 결과를 넘겨볼 수 있는 최대 깊이 (이보다 뒤 페이지는 결과 없음)
+    private static final int MAX_SEARCH_DEPTH = 1000;
 
     // 메인피드
     @Override
-    public ArticleInFeedDto getMainFeedByCategories(List<String> categoryNames, Long lastArticleId, Long userId) {
-        // 카테고리 누락
-        if (categoryNames == null || categoryNames.isEmpty()) {
-            throw new CustomException(ErrorCode.FEED_9602);
-        }
+    public ArticleInFeedDto getMainFeedByCategories(List<String> categoryNames, String cursor, Long userId) {
+        validateMainFeedRequest(categoryNames, cursor);
+        FeedCursor feedCursor = StringUtils.hasText(cursor) ? FeedCursor.decode(cursor) : null;
+        List<Long> categoryIds = categoryIds(categoryNames);
 
-        // 유효하지 않은 커서 값에 대한 예외처리
-        if (lastArticleId != null && lastArticleId <= 0) {
-            throw new CustomException(ErrorCode.FEED_9603);
-        }
+        String responseCategoryName = String.join(",", categoryNames);
 
-        // 유효하지 않은 카테고리에 대한 예외처리
-        for (String categoryName : categoryNames) {
-            if (!categoryRepository.existsByCategoryName(categoryName)) {
-                throw new CustomException(ErrorCode.FEED_9601);
+        // 인메모리 타임라인으로 응답 가능하면 DB를 거치지 않음
+        Optional<FeedTimelineCache.TimelinePage> cached = feedTimelineCache.read(categoryNames, feedCursor, PAGE_SIZE);
+        if (cached.isPresent()) {
+            FeedTimelineCache.TimelinePage page = cached.get();
+            if (page.cards().isEmpty()) {
+                throw new CustomException(ErrorCode.FEED_9502);
             }
+            Long nextCursorId = page.hasNext() ? page.lastKey().articleId() : null;
+            String nextCursor = page.hasNext() ? page.lastKey().encode() : null;
+            return feedConverter.toArticleInFeedDtoFromCards(responseCategoryName, page.hasNext(), nextCursorId, nextCursor, page.cards());
         }
 
-        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("publishedAt").descending()
-                .and(Sort.by("articleId").descending()));
+        // 1단계: 정렬 키(articleId, publishedAt)만 PAGE_SIZE + 1개 조회 (다음 페이지 존재 여부 판단용 1개 추가)
+        List<FeedRepository.FeedKey> keys = findFeedKeys(categoryIds, feedCursor, PAGE_SIZE + 1);
 
-        Slice<Article> articleSlice;
+        // 메인피드 - 해당 카테고리의 기사가 없는 경우
+        if (keys.isEmpty()) {
+            throw new CustomException(ErrorCode.FEED_9502);
+        }
 
-        if (lastArticleId == null) {
-            articleSlice = feedRepository.findByCategoryName(categoryNames, pageable);
-        } else {
-            articleSlice = feedRepository.findByCategoryNameWithCursor(categoryNames, lastArticleId, pageable);
+        boolean hasNext = keys.size() > PAGE_SIZE;
+        List<FeedRepository.FeedKey> pageKeys = hasNext ? keys.subList(0, PAGE_SIZE) : keys;
+        List<Long> pageIds = pageKeys.stream()
+                .map(FeedRepository.FeedKey::getArticleId)
+                .collect(Collectors.toList());
+
+        // 2단계: 해당 페이지 기사와 카테고리를 한 번에 조회한 뒤 1단계 순서대로 정렬
+        Map<Long, Article> articlesMap = feedRepository.findAllWithCategoriesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Article::getArticleId, article -> article));
+        List<Article> articles = pageIds.stream()
+                .map(articlesMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        FeedRepository.FeedKey lastKey = pageKeys.get(pageKeys.size() - 1);
+        Long nextCursorId = hasNext ? lastKey.getArticleId() : null;
+        String nextCursor = hasNext
+                ? new FeedCursor(lastKey.getPublishedAt(), lastKey.getArticleId()).encode()
+                : null;
+
+        return feedConverter.toArticleInFeedDto(responseCategoryName, hasNext, nextCursorId, nextCursor, articles);
+    }
+
+    private List<FeedRepository.FeedKey> findFeedKeys(List<Long> categoryIds, FeedCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+
+        if (cursor == null) {
+            return feedRepository.findFeedKeys(categoryIds, pageable);
         }
+        if (cursor.publishedAt() == null) {
+            return feedRepository.findUndatedFeedKeysAfter(categoryIds, cursor.articleId(), pageable);
+        }
+        return feedRepository.findFeedKeysAfter(categoryIds, cursor.publishedAt(), cursor.articleId(), pageable);
+    }
 
-        String responseCategoryName = String.join(",", categoryNames);
-        return buildFeedResponse(responseCategoryName, articleSlice);
+    // 실시간 인기 기사 (집계 스냅샷에서 바로 읽고, 조회/스크랩/공유 수만 최신 값으로 덮어씀)
+    @Override
+    public ArticleInFeedDto getTrending(String categoryName, int size) {
+        Long categoryId = categoryName == null || categoryName.isBlank()
+                ? null
+                : categoryIds(List.of(categoryName)).get(0);
+        return feedConverter.toArticleInFeedDtoFromCards(categoryId == null ? "트렌딩" : categoryName, false, null, null,
+                trendingService.top(categoryId, size));
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public ArticleInFeedDto getPersonalizedFeed(Long userId, Long lastArticleId) {
-        // 커서값이 유효하지 않은 경우
-        if (lastArticleId != null && lastArticleId <= 0) {
-            throw new CustomException(ErrorCode.FEED_9603);
-        }
+    public void validateTrendingRequest(String categoryName) {
+        if (categoryName != null && !categoryName.isBlank()) categoryIds(List.of(categoryName));
+    }
 
-        // 로그인 안 한 경우
-        if (userId == null) {
-            throw new CustomException(ErrorCode.FEED_9604);
+    // 메인 피드 요청 값 검증 (조회 없이 레지스트리/커서 해석만 - 304 판단 전에 호출)
+    @Override
+    public void validateMainFeedRequest(List<String> categoryNames, String cursor) {
+        // 카테고리 누락
+        if (categoryNames == null || categoryNames.isEmpty()) {
+            throw new CustomException(ErrorCode.FEED_9602);
         }
 
-        // 사용자의 최근 행동로그 조회
-        List<UserScrap> scraps = userScrapRepository.findTop20ByUserIdOrderByCreatedAtDesc(userId);
-        List<UserClicks> clicks = userClickRepository.findTop15ByUserIdOrderByCreatedAtDesc(userId);
-        List<SearchKeyword> searches = searchKeywordRepository.findTop10ByUserIdOrderByCreatedAtDesc(userId);
+        // 유효하지 않은 커서 값에 대한 예외처리
+        if (StringUtils.hasText(cursor)) FeedCursor.decode(cursor);
 
-        List<UserInteractionDto> interactions = new ArrayList<>();
-        scraps.forEach(scrap -> interactions.add(new UserInteractionDto(scrap.getArticle().getArticleId(), "scrap")));
-        clicks.forEach(click -> interactions.add(new UserInteractionDto(click.getArticle().getArticleId(), "click")));
-        searches.forEach(search -> interactions.add(new UserInteractionDto("search", search.getKeyword())));
+        categoryIds(categoryNames);
+    }
 
-        if (!interactions.isEmpty()) {
-            nlpService.updateUserProfile(userId, interactions);
+    // 유효하지 않은 카테고리에 대한 예외처리 (레지스트리 조회, 쿼리 없음)
+    private List<Long> categoryIds(List<String> categoryNames) {
+        List<Long> categoryIds = new ArrayList<>(categoryNames.size());
+        for (String categoryName : categoryNames) {
+            categoryIds.add(categoryRegistry.findIdByName(categoryName)
+                    .orElseThrow(() -> new CustomException(ErrorCode.FEED_9601)));
         }
+        return categoryIds;
+    }
 
-        // FastAPI한테 맞춤피드 페이지 요청
-        FeedResponseDto recommendedFeed = nlpService.getPersonalizedFeed(userId, 0, 16);
+    @Override
+    @Transactional(readOnly = true)
+    public ArticleInFeedDto getPersonalizedFeed(Long userId, String cursor) {
+        // 커서값이 유효하지 않은 경우
+        PersonalizedFeedCursor feedCursor = StringUtils.hasText(cursor) ? PersonalizedFeedCursor.decode(cursor) : null;
 
-        if (recommendedFeed == null || recommendedFeed.getArticles().isEmpty()) {
-            log.warn("맞춤 추천 결과가 없어 빈 피드를 반환합니다.");
-            return feedConverter.toArticleInFeedDto("맞춤 피드", false, null, new ArrayList<>());
+        // 로그인 안 한 경우
+        if (userId == null) {
+            throw new CustomException(ErrorCode.FEED_9604);
         }
 
-        List<Long> articleIds = recommendedFeed.getArticles().stream()
-                .map(RecommendedArticleDto::getArticleId)
-                .collect(Collectors.toList());
-
-        List<Long> filteredIds;
-        if (lastArticleId == null) {
-            // 첫 페이지: 처음 PAGE_SIZE개만 가져오기
-            filteredIds = articleIds.stream()
-                    .limit(PAGE_SIZE)
-                    .collect(Collectors.toList());
-        } else {
-            // 다음 페이지: lastArticleId 이후의 기사들 중 PAGE_SIZE개 가져오기
-            int lastIndex = articleIds.indexOf(lastArticleId);
-            if (lastIndex == -1 || lastIndex >= articleIds.size() - 1) {
-                // 더 이상 가져올 데이터가 없음
+        String snapshotId;
+        List<Long> rankedIds;
+        int offset;
+        if (feedCursor == null) {
+            // 첫 페이지: 프로필 갱신 + 랭킹을 한 번만 계산해 스냅샷으로 보관
+            rankedIds = fetchRankedArticleIds(userId);
+            if (rankedIds.isEmpty()) {
+                log.warn("맞춤 추천 결과가 없어 빈 피드를 반환합니다.");
                 return feedConverter.toArticleInFeedDto("맞춤 피드", false, null, new ArrayList<>());
             }
+            snapshotId = personalizedFeedSnapshotStore.save(userId, rankedIds);
+            offset = 0;
+        } else {
+            // 다음 페이지: 스냅샷에서 잘라서 응답 (FastAPI 호출 없음)
+            rankedIds = personalizedFeedSnapshotStore.find(feedCursor.snapshotId(), userId)
+                    .map(PersonalizedFeedSnapshotStore.Snapshot::articleIds)
+                    .orElseThrow(() -> new CustomException(ErrorCode.FEED_9607));
+            snapshotId = feedCursor.snapshotId();
+            offset = feedCursor.offset();
+        }
 
-            filteredIds = articleIds.stream()
-                    .skip(lastIndex + 1)
-                    .limit(PAGE_SIZE)
-                    .collect(Collectors.toList());
+        // 스냅샷에는 아직 READY가 아닌 기사가 섞여 있을 수 있으므로 PAGE_SIZE개가 찰 때까지 구간 단위로 조회
+        List<Article> pageArticles = new ArrayList<>(PAGE_SIZE);
+        while (pageArticles.size() < PAGE_SIZE && offset < rankedIds.size()) {
+            int windowEnd = Math.min(offset + (PAGE_SIZE - pageArticles.size()), rankedIds.size());
+            List<Long> windowIds = rankedIds.subList(offset, windowEnd);
+
+            Map<Long, Article> articlesMap = articleRepository.findAllReadyByIdIn(windowIds).stream()
+                    .collect(Collectors.toMap(Article::getArticleId, article -> article));
+            windowIds.stream()
+                    .map(articlesMap::get)
+                    .filter(Objects::nonNull)
+                    .forEach(pageArticles::add);
+            offset = windowEnd;
         }
 
-        if (filteredIds.isEmpty()) {
+        if (pageArticles.isEmpty()) {
             return feedConverter.toArticleInFeedDto("맞춤 피드", false, null, new ArrayList<>());
         }
 
-        Map<Long, Article> articlesMap = articleRepository.findAllReadyByIdIn(filteredIds).stream()
-                .collect(Collectors.toMap(Article::getArticleId, article -> article));
+        boolean hasNext = offset < rankedIds.size();
+        Long nextCursorId = hasNext ? pageArticles.get(pageArticles.size() - 1).getArticleId() : null;
+        String nextCursor = hasNext ? new PersonalizedFeedCursor(snapshotId, offset).encode() : null;
 
-        List<Article> sortedArticles = filteredIds.stream()
-                .map(articlesMap::get)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-        if (sortedArticles.isEmpty()) {
-            return feedConverter.toArticleInFeedDto("맞춤 피드", false, null, new ArrayList<>());
-        }
+        return feedConverter.toArticleInFeedDto("맞춤 피드", hasNext, nextCursorId, nextCursor, pageArticles);
+    }
 
-        boolean hasNext;
-        if (lastArticleId == null) {
-            // 첫 페이지인 경우
-            hasNext = articleIds.size() > PAGE_SIZE;
-        } else {
-            // 다음 페이지인 경우
-            int lastIndex = articleIds.indexOf(lastArticleId);
-            hasNext = lastIndex != -1 && (lastIndex + 1 + PAGE_SIZE) < articleIds.size();
+    // FastAPI에서 랭킹된 기사 ID 목록을 스냅샷 크기만큼 한 번에 조회
+    // 프로필 갱신은 UserProfileUpdateCoalescer가 행동 발생 시 비동기로 처리
+    private List<Long> fetchRankedArticleIds(Long userId) {
+        List<Long> rankedIds = requestRankedArticleIds(userId);
+        if (rankedIds.isEmpty() && userProfileUpdateCoalescer.updateNow(userId)) {
+            // 프로필이 아직 없는 사용자: 즉시 생성 후 한 번만 다시 조회
+            rankedIds = requestRankedArticleIds(userId);
         }
+        return rankedIds;
+    }
 
-        Long nextCursorId = hasNext && !sortedArticles.isEmpty() ?
-                sortedArticles.get(sortedArticles.size() - 1).getArticleId() : null;
+    private List<Long> requestRankedArticleIds(Long userId) {
+        // JVM 벡터 인덱스가 준비되어 있으면 사용자 벡터로 바로 top-k 계산
+        Optional<List<VectorMatrix.Scored>> local = userVectorRepository.findVectorJson(userId)
+                .flatMap(semanticVectorIndex::parseVector)
+                .flatMap(vector -> semanticVectorIndex.search(vector, SNAPSHOT_SIZE));
+        if (local.isPresent()) {
+            return local.get().stream()
+                    .map(VectorMatrix.Scored::id)
+                    .collect(Collectors.toList());
+        }
 
-        return feedConverter.toArticleInFeedDto("맞춤 피드", hasNext, nextCursorId, sortedArticles);
+        FeedResponseDto recommendedFeed = nlpService.getPersonalizedFeed(userId, 0, SNAPSHOT_SIZE);
+        if (recommendedFeed == null || recommendedFeed.getArticles() == null) {
+            return List.of();
+        }
+        return recommendedFeed.getArticles().stream()
+                .map(RecommendedArticleDto::getArticleId)
+                .distinct()
+                .collect(Collectors.toList());
     }
 
 
@@ -210,8 +295,44 @@ class FeedServiceImpl implements FeedService {
             }
             log.info("검색 요청 처리 - 원본: '{}', 디코딩: '{}', 정리: '{}'", query, decodedQuery, cleanedQuery);
 
-            // NLP 서비스 호출
-            SearchResponseDto result = nlpService.searchArticles(cleanedQuery, page, size, threshold);
+            // 페이지는 항상 결합(RRF) 순위에서 잘라냄 - 이 페이지까지 필요한 결과 수 (MAX_SEARCH_DEPTH를 넘으면 결과 끝으로 처리)
+            int depth = (int) Math.min((long) (page + 1) * size, MAX_SEARCH_DEPTH);
+
+            // 어휘 검색은 NLP 상태와 무관하게 인메모리 인덱스에서 바로 조회
+            List<LexicalArticleIndex.Hit> lexical = lexicalArticleIndex.search(cleanedQuery, Math.max(SEARCH_CACHE_SIZE, depth));
+
+            // 검색어별 상위 SEARCH_CACHE_SIZE개 랭킹을 캐시하고 페이지는 잘라서 응답
+            // 캐시 키만 정규화하고 FastAPI에는 원래 검색어를 넘김 (정확 일치 가산점이 대소문자를 구분)
+            SearchResponseDto semantic;
+            try {
+                semantic = searchResultCache.get(cleanedQuery, threshold,
+                        q -> semanticSearch(q, SEARCH_CACHE_SIZE, threshold));
+            } catch (CustomException e) {
+                // 잘못된 요청이 아닌 NLP 장애/무응답이면 어휘 검색 결과만으로 응답 (degraded mode)
+                if (lexical.isEmpty() || e.getErrorCode() == ErrorCode.NLP_9801 || e.getErrorCode() == ErrorCode.NLP_9807) {
+                    throw e;
+                }
+                // 장애 감지(쿨다운 시작)는 NlpCooldown이 한 번만 경고하므로 쿨다운 중에는 요청마다 경고하지 않음
+                if (nlpCooldown.isCoolingDown()) {
+                    log.debug("NLP 쿨다운 중 - 어휘 검색 결과만 반환합니다. 검색어: '{}'", cleanedQuery);
+                } else {
+                    log.warn("의미 검색 실패({}) - 어휘 검색 결과만 반환합니다. 검색어: '{}'", e.getErrorCode(), cleanedQuery);
+                }
+                semantic = null;
+            }
+
+            // 캐시 범위를 넘는 깊은 페이지는 의미 검색 상위 depth개를 받아 같은 방식으로 다시 결합
+            // (FastAPI의 페이지 번호는 의미 검색 단독 순위 기준이라 결합 순위의 페이지 번호를 넘기면 기사가 빠지거나 겹침)
+            if (semantic != null && depth > SEARCH_CACHE_SIZE && semantic.getTotalCount() > SEARCH_CACHE_SIZE) {
+                try {
+                    semantic = semanticSearch(cleanedQuery, depth, threshold);
+                } catch (CustomException e) {
+                    log.warn("깊은 페이지 의미 검색 실패({}) - 캐시된 범위만으로 응답합니다. 검색어: '{}'", e.getErrorCode(), cleanedQuery);
+                }
+            }
+
+            SearchResponseDto ranked = SearchRankFusion.fuse(cleanedQuery, semantic, lexical);
+            SearchResponseDto result = slicePage(ranked, page, size);
 
             if (result == null || result.getArticles() == null || result.getArticles().isEmpty()) {
                 log.info("검색 결과 없음 - 검색어: '{}'", cleanedQuery);
@@ -229,14 +350,77 @@ class FeedServiceImpl implements FeedService {
         }
     }
 
-    private ArticleInFeedDto buildFeedResponse(String categoryName, Slice<Article> articleSlice) {
-        // 메인피드 - 해당 카테고리의 기사가 없는 경우
-        if (!articleSlice.hasContent()) {
-            throw new CustomException(ErrorCode.FEED_9502);
+    /**
+     * 의미 검색 상위 limit개
+     * - 벡터 인덱스가 준비되어 있으면 검색어 벡터로 JVM에서 바로 순위 계산, 아니면 FastAPI 호출
+     *   (FastAPI에는 임베딩 캐시의 벡터를 전달, 없으면 FastAPI가 직접 임베딩)
+     * - NLP 장애 쿨다운 중에는 임베딩을 기다리지도 FastAPI를 부르지도 않고 바로 실패 → 호출측이 어휘 검색으로 응답
+     */
+    private SearchResponseDto semanticSearch(String query, int limit, double threshold) {
+        // 쿨다운 중이면 캐시된 벡터만 반환 (대기 없음)
+        Optional<float[]> vector = queryEmbeddingService.embed(query);
+        Optional<SearchResponseDto> local = searchLocally(query, vector, limit, threshold);
+        if (local.isPresent()) return local.get();
+
+        if (nlpCooldown.isCoolingDown()) {
+            throw new CustomException(ErrorCode.SERVER_5103);
         }
-        List<Article> articles = articleSlice.getContent();
-        Long nextCursorId = articleSlice.hasNext() ? articles.get(articles.size() - 1).getArticleId() : null;
-        return feedConverter.toArticleInFeedDto(categoryName, articleSlice.hasNext(), nextCursorId, articles);
+        try {
+            return nlpService.searchArticles(query, vector.orElse(null), 0, limit, threshold);
+        } catch (CustomException e) {
+            // 검색어 문제/결과 없음이 아닌 오류는 NLP 장애로 보고 쿨다운 시작
+            ErrorCode code = e.getErrorCode();
+            if (code != ErrorCode.NLP_9801 && code != ErrorCode.NLP_9807 && code != ErrorCode.NLP_9808) {
+                nlpCooldown.trip("의미 검색 " + code);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * JVM 벡터 인덱스로 의미 검색 상위 limit개 (임계값 이상, READY 기사만)
+     * - 기사 제목/요약/발행일은 어휘 인덱스의 문서에서 채움 (DB 조회 없음)
+     * - 한 개 더 조회해 limit를 넘는 결과가 있으면 전체 개수에 반영 (깊은 페이지 재조회 판단용)
+     * - 인덱스 미적재, 검색어 벡터 없음, 차원 불일치면 empty → FastAPI로 대체
+     */
+    private Optional<SearchResponseDto> searchLocally(String query, Optional<float[]> vector, int limit, double threshold) {
+        if (!semanticVectorIndex.isReady() || !lexicalArticleIndex.isReady()) return Optional.empty();
+
+        Optional<List<VectorMatrix.Scored>> scored = vector
+                .flatMap(v -> semanticVectorIndex.search(v, limit + 1));
+        if (scored.isEmpty()) return Optional.empty();
+
+        List<VectorMatrix.Scored> matches = scored.get().stream()
+                .filter(s -> s.score() >= threshold)
+                .toList();
+        Map<Long, LexicalArticleIndex.Doc> docs = lexicalArticleIndex.docs(matches.stream().map(VectorMatrix.Scored::id).toList());
+
+        List<ArticleSearchResultDto> articles = new ArrayList<>(Math.min(limit, matches.size()));
+        int total = 0;
+        for (VectorMatrix.Scored match : matches) {
+            LexicalArticleIndex.Doc doc = docs.get(match.id());
+            if (doc == null) continue;
+            total++;
+            if (articles.size() < limit) {
+                articles.add(ArticleSearchResultDto.builder()
+                        .articleId(doc.articleId())
+                        .title(doc.title())
+                        .summary(doc.summary())
+                        .score(match.score())
+                        .publishedAt(doc.publishedAt() != null ? doc.publishedAt().toString() : null)
+                        .build());
+            }
+        }
+        return Optional.of(new SearchResponseDto(query, total, articles));
+    }
+
+    private SearchResponseDto slicePage(SearchResponseDto ranked, int page, int size) {
+        List<ArticleSearchResultDto> all = ranked.getArticles() == null ? List.of() : ranked.getArticles();
+        long from = (long) page * size;
+        List<ArticleSearchResultDto> pageArticles = from >= all.size()
+                ? List.of()
+                : all.subList((int) from, (int) Math.min(from + size, all.size()));
+        return new SearchResponseDto(ranked.getQuery(), ranked.getTotalCount(), new ArrayList<>(pageArticles));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,253 @@
+package umc.snack.service.feed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import umc.snack.common.config.SchedulerConfig;
+import umc.snack.converter.feed.FeedConverter;
+import umc.snack.domain.article.entity.Article;
+import umc.snack.domain.article.event.ArticleReadyEvent;
+import umc.snack.domain.feed.dto.FeedCursor;
+import umc.snack.domain.feed.dto.IndividualArticleDto;
+import umc.snack.domain.feed.entity.CategoryType;
+import umc.snack.repository.feed.FeedRepository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리별 최신 READY 기사 카드 타임라인 (인메모리)
+ * - 카테고리마다 최신순으로 정렬된 최대 capacity개의 카드 배열을 보관
+ * - 여러 카테고리 요청은 k-way merge로 응답, DB 조회 없음
+ * - 기사가 READY가 되면 해당 카테고리 배열을 복사-수정 후 통째로 교체(copy-on-write)
+ * - 등록된 카테고리만 키로 두고, 보관 기간(max-age-days)이 지난 카드는 주기적으로 잘라냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedTimelineCache {
+
+    private final FeedRepository feedRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final FeedConverter feedConverter;
+
+    @Value("${feed.timeline.capacity:320}")
+    private int capacity;
+
+    // 이보다 오래된 카드는 주기적으로 타임라인에서 잘라냄 (그 구간은 DB 조회로 응답)
+    @Value("${feed.timeline.max-age-days:30}")
+    private long maxAgeDays;
+
+    // 읽기는 락 없이 스냅샷 참조, 쓰기는 writeLock으로 직렬화 후 새 Map으로 교체
+    private volatile Map<String, Timeline> timelines = Map.of();
+    private volatile boolean warm = false;
+    private final Object writeLock = new Object();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuildAll();
+        } catch (Exception e) {
+            log.error("피드 타임라인 초기화 실패 - DB 조회로 대체합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 모든 카테고리 타임라인을 DB에서 다시 만든 뒤 한 번에 교체
+     */
+    public void rebuildAll() {
+        Map<String, Timeline> rebuilt = new HashMap<>();
+        for (CategoryType type : CategoryType.values()) {
+            Optional<Long> categoryId = categoryRegistry.findIdByName(type.getCategoryName());
+            categoryId.ifPresent(id -> rebuilt.put(type.getCategoryName(), loadTimeline(id)));
+        }
+        synchronized (writeLock) {
+            timelines = Map.copyOf(rebuilt);
+            warm = true;
+        }
+        log.info("피드 타임라인 재구성 완료 - 카테고리 {}개, 카테고리당 최대 {}개", rebuilt.size(), capacity);
+    }
+
+    private Timeline loadTimeline(Long categoryId) {
+        List<FeedRepository.FeedKey> keys = feedRepository.findFeedKeys(List.of(categoryId), PageRequest.of(0, capacity + 1));
+        boolean truncated = keys.size() > capacity;
+        List<FeedRepository.FeedKey> kept = truncated ? keys.subList(0, capacity) : keys;
+
+        List<Long> ids = kept.stream().map(FeedRepository.FeedKey::getArticleId).collect(Collectors.toList());
+        Map<Long, Article> articles = ids.isEmpty() ? Map.of() : feedRepository.findAllWithCategoriesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Article::getArticleId, a -> a));
+
+        List<Entry> entries = new ArrayList<>(kept.size());
+        for (FeedRepository.FeedKey key : kept) {
+            Article article = articles.get(key.getArticleId());
+            if (article == null) continue;
+            entries.add(new Entry(new FeedCursor(key.getPublishedAt(), key.getArticleId()),
+                    feedConverter.toIndividualArticleDto(article)));
+        }
+        return new Timeline(entries.toArray(Entry[]::new), truncated);
+    }
+
+    /**
+     * 새로 READY가 된 기사를 소속 카테고리 타임라인에 삽입 (커밋 이후 실행)
+     */
+    @TransactionalEventListener
+    public void onArticleReady(ArticleReadyEvent event) {
+        if (!warm) return;
+        try {
+            List<Article> found = feedRepository.findAllWithCategoriesByIdIn(List.of(event.articleId()));
+            if (found.isEmpty()) return;
+
+            Article article = found.get(0);
+            Entry entry = new Entry(new FeedCursor(article.getPublishedAt(), article.getArticleId()),
+                    feedConverter.toIndividualArticleDto(article));
+
+            synchronized (writeLock) {
+                Map<String, Timeline> next = new HashMap<>(timelines);
+                for (String categoryName : entry.card().getCategories()) {
+                    // 등록된 카테고리만 보관 (알 수 없는 이름으로 키가 늘어나지 않도록)
+                    if (!categoryRegistry.exists(categoryName)) continue;
+                    Timeline current = next.getOrDefault(categoryName, Timeline.EMPTY);
+                    next.put(categoryName, current.insert(entry, capacity));
+                }
+                timelines = Map.copyOf(next);
+            }
+        } catch (Exception e) {
+            // 캐시 갱신 실패가 요약 파이프라인을 막지 않도록 로그만 남기고 다음 재구성에 맡김
+            log.warn("피드 타임라인 갱신 실패 - articleId: {}, 오류: {}", event.articleId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 카드 정리 - 카테고리 수 × capacity 상한과 별개로 오래된 카드를 메모리에 붙잡아 두지 않음
+     */
+    @Scheduled(fixedDelayString = "${feed.timeline.prune-interval-ms:600000}", scheduler = SchedulerConfig.FLUSH_SCHEDULER)
+    public void prune() {
+        if (!warm) return;
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+        synchronized (writeLock) {
+            Map<String, Timeline> next = new HashMap<>();
+            boolean changed = false;
+            for (Map.Entry<String, Timeline> e : timelines.entrySet()) {
+                Timeline pruned = e.getValue().olderThanRemoved(cutoff);
+                changed |= pruned != e.getValue();
+                next.put(e.getKey(), pruned);
+            }
+            if (changed) timelines = Map.copyOf(next);
+        }
+    }
+
+    /**
+     * 요청 카테고리들의 타임라인을 k-way merge 하여 커서 이후 한 페이지를 반환
+     * - 캐시만으로 정확한 페이지를 만들 수 없으면(미적재, 잘린 구간 이후) empty → 호출측에서 DB 조회
+     */
+    public Optional<TimelinePage> read(List<String> categoryNames, FeedCursor cursor, int pageSize) {
+        if (!warm) return Optional.empty();
+
+        Map<String, Timeline> snapshot = timelines;
+        PriorityQueue<Head> heads = new PriorityQueue<>((a, b) -> FeedCursor.NEWEST_FIRST.compare(a.key(), b.key()));
+
+        for (String categoryName : new LinkedHashSet<>(categoryNames)) {
+            Timeline timeline = snapshot.get(categoryName);
+            if (timeline == null) return Optional.empty();
+            int start = cursor == null ? 0 : timeline.firstIndexAfter(cursor);
+            if (start < timeline.entries().length) {
+                heads.add(new Head(timeline, start));
+            } else if (timeline.truncated()) {
+                // 캐시에 없는 오래된 구간 - DB 조회 필요
+                return Optional.empty();
+            }
+        }
+
+        List<Entry> picked = new ArrayList<>(pageSize + 1);
+        Set<Long> seen = new HashSet<>();
+        while (picked.size() <= pageSize && !heads.isEmpty()) {
+            Head head = heads.poll();
+            Entry entry = head.timeline().entries()[head.index()];
+            if (seen.add(entry.key().articleId())) {
+                picked.add(entry);
+            }
+            int nextIndex = head.index() + 1;
+            if (nextIndex < head.timeline().entries().length) {
+                heads.add(new Head(head.timeline(), nextIndex));
+            } else if (head.timeline().truncated() && picked.size() <= pageSize) {
+                // 잘린 타임라인을 다 소진했는데 페이지를 못 채움 → 이후 순서를 보장할 수 없음
+                return Optional.empty();
+            }
+        }
+
+        boolean hasNext = picked.size() > pageSize;
+        List<Entry> page = hasNext ? picked.subList(0, pageSize) : picked;
+
+        List<IndividualArticleDto> cards = page.stream().map(Entry::card).collect(Collectors.toList());
+        FeedCursor lastKey = page.isEmpty() ? null : page.get(page.size() - 1).key();
+        return Optional.of(new TimelinePage(cards, hasNext, lastKey));
+    }
+
+    public record TimelinePage(List<IndividualArticleDto> cards, boolean hasNext, FeedCursor lastKey) {}
+
+    private record Entry(FeedCursor key, IndividualArticleDto card) {}
+
+    private record Head(Timeline timeline, int index) {
+        FeedCursor key() {
+            return timeline.entries()[index].key();
+        }
+    }
+
+    private record Timeline(Entry[] entries, boolean truncated) {
+
+        static final Timeline EMPTY = new Timeline(new Entry[0], false);
+
+        // cursor보다 정렬상 뒤에 오는 첫 위치 (이진 탐색)
+        int firstIndexAfter(FeedCursor cursor) {
+            int lo = 0, hi = entries.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (FeedCursor.NEWEST_FIRST.compare(entries[mid].key(), cursor) <= 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // cutoff 이전 발행 카드를 잘라낸 새 배열 (최신순이므로 처음 만나는 오래된 카드부터 끝까지), 없으면 그대로
+        Timeline olderThanRemoved(LocalDateTime cutoff) {
+            for (int i = 0; i < entries.length; i++) {
+                LocalDateTime publishedAt = entries[i].key().publishedAt();
+                if (publishedAt != null && publishedAt.isBefore(cutoff)) {
+                    return new Timeline(Arrays.copyOf(entries, i), true);
+                }
+            }
+            return this;
+        }
+
+        // 정렬 위치에 삽입한 새 배열 반환 (같은 기사는 교체), capacity 초과분은 잘라냄
+        Timeline insert(Entry entry, int capacity) {
+            List<Entry> list = new ArrayList<>(entries.length + 1);
+            for (Entry e : entries) {
+                if (!e.key().articleId().equals(entry.key().articleId())) list.add(e);
+            }
+            int pos = Collections.binarySearch(list, entry, (a, b) -> FeedCursor.NEWEST_FIRST.compare(a.key(), b.key()));
+            int index = pos < 0 ? -pos - 1 : pos;
+            // 잘린 타임라인의 끝 뒤에 붙으면 그 사이 DB 기사들을 건너뛰게 되므로 넣지 않음 (그 구간은 DB 조회로 응답)
+            if (truncated && index == list.size()) {
+                return list.size() == entries.length ? this : new Timeline(list.toArray(Entry[]::new), true);
+            }
+            list.add(index, entry);
+
+            boolean nowTruncated = truncated || list.size() > capacity;
+            if (list.size() > capacity) {
+                list = list.subList(0, capacity);
+            }
+            return new Timeline(list.toArray(Entry[]::new), nowTruncated);
+        }
+    }
+}
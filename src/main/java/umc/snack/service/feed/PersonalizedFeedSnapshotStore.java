@@ -0,0 +1,45 @@
+package umc.snack.service.feed;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import umc.snack.common.config.CacheConfig;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 맞춤 피드 랭킹 스냅샷 저장소
+ * - 첫 페이지 요청 시 FastAPI 랭킹 결과(기사 ID 목록)를 통째로 보관
+ * - 이후 페이지는 스냅샷을 잘라서 응답하므로 프로필 재계산/재랭킹이 없음
+ * - TTL은 CacheConfig의 feed-snapshot 캐시 설정을 따름
+ */
+@Component
+public class PersonalizedFeedSnapshotStore {
+
+    private final Cache cache;
+
+    public PersonalizedFeedSnapshotStore(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheConfig.FEED_SNAPSHOT);
+    }
+
+    public String save(Long userId, List<Long> rankedArticleIds) {
+        String snapshotId = UUID.randomUUID().toString().replace("-", "");
+        cache.put(snapshotId, new Snapshot(userId, List.copyOf(rankedArticleIds)));
+        return snapshotId;
+    }
+
+    /**
+     * 다른 사용자의 스냅샷은 없는 것으로 취급
+     */
+    public Optional<Snapshot> find(String snapshotId, Long userId) {
+        Snapshot snapshot = cache.get(snapshotId, Snapshot.class);
+        if (snapshot == null || !snapshot.userId().equals(userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    public record Snapshot(Long userId, List<Long> articleIds) {}
+}
@@ -0,0 +1,55 @@
+package umc.snack.service.feed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import umc.snack.common.config.CacheConfig;
+import umc.snack.common.exception.CustomException;
+import umc.snack.domain.article.event.ArticleReadyEvent;
+import umc.snack.domain.nlp.dto.SearchResponseDto;
+import umc.snack.service.nlp.QueryEmbeddingService;
+
+import java.util.function.Function;
+
+/**
+ * 의미 검색 결과 캐시
+ * - 키: 정규화된 검색어(QueryEmbeddingService.normalize) + 임계값, 값: 상위 N개 전체 랭킹 결과
+ * - 페이지 요청은 캐시된 목록을 잘라서 응답 → 페이지마다 FastAPI를 다시 부르지 않음
+ * - 같은 키 동시 미스는 한 번만 로드 (Caffeine compute)
+ */
+@Slf4j
+@Component
+public class SearchResultCache {
+
+    private final Cache cache;
+
+    public SearchResultCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheConfig.SEARCH_RESULTS);
+    }
+
+    /**
+     * @param loader 원래 검색어를 받아 랭킹을 조회 (FastAPI의 정확 일치 가산점은 대소문자를 구분하므로 원문 그대로 전달)
+     */
+    public SearchResponseDto get(String cleanedQuery, double threshold, Function<String, SearchResponseDto> loader) {
+        String normalized = QueryEmbeddingService.normalize(cleanedQuery);
+        try {
+            return cache.get(normalized + "|" + threshold, () -> loader.apply(cleanedQuery));
+        } catch (Cache.ValueRetrievalException e) {
+            // 로더에서 던진 비즈니스 예외는 그대로 전달
+            if (e.getCause() instanceof CustomException ce) {
+                throw ce;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 새 기사가 READY가 되면 기존 랭킹이 달라질 수 있으므로 전체 무효화
+     */
+    @TransactionalEventListener
+    public void onArticleReady(ArticleReadyEvent event) {
+        cache.invalidate();
+    }
+}
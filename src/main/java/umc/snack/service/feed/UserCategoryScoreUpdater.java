@@ -0,0 +1,200 @@
+package umc.snack.service.feed;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import umc.snack.common.config.SchedulerConfig;
+import umc.snack.common.util.SnowflakeIdGenerator;
+import umc.snack.domain.article.entity.ArticleCategory;
+import umc.snack.repository.article.ArticleCategoryRepository;
+import umc.snack.repository.user.UserCategoryScoreBatchRepository;
+import umc.snack.repository.user.UserCategoryScoreBatchRepository.ScoreDelta;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 카테고리 선호 점수(user_category_score) 증분 유지
+ * - 스크랩/클릭/검색이 발생하면 (사용자, 기사)별 변화량만 메모리에 누적하고 즉시 반환
+ * - flush 주기마다 기사 카테고리를 한 번에 조회해 (사용자, 카테고리) 변화량으로 바꾼 뒤 upsert 배치로 반영
+ * - 매일 반감기 기준으로 점수를 감쇠, 매주 스크랩/클릭 로그에서 다시 계산해 누적 오차를 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCategoryScoreUpdater {
+
+    public enum Action { SCRAP, CLICK, SEARCH }
+
+    // 검색 한 번의 가중치를 나눠 줄 상위 검색 결과 수
+    private static final int SEARCH_RESULT_ARTICLES = 5;
+    // 감쇠 후 이 값보다 작아진 행은 삭제
+    private static final double MIN_BEHAVIOR_SCORE = 0.01;
+    // 재계산 시 로그를 읽을 기간 (반감기의 배수, 그 이전 행동은 3% 미만이라 무시)
+    private static final int REBUILD_HALF_LIVES = 5;
+
+    private final ArticleCategoryRepository articleCategoryRepository;
+    private final UserCategoryScoreBatchRepository userCategoryScoreBatchRepository;
+    private final SnowflakeIdGenerator idGenerator;
+
+    @Value("${preference.score.half-life-days:14}")
+    private double halfLifeDays;
+
+    @Value("${preference.score.user-chunk-size:5000}")
+    private long userChunkSize;
+
+    // 아직 반영되지 않은 변화량 ((userId, articleId) → [스크랩, 클릭, 검색])
+    private final Map<Pending, float[]> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 행동 기록 (트랜잭션 안이면 커밋 후에 누적, 롤백되면 버림)
+     */
+    public void record(Long userId, Long articleId, Action action, float weight) {
+        if (userId == null || articleId == null) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(userId, articleId, action, weight);
+                }
+            });
+        } else {
+            addNow(userId, articleId, action, weight);
+        }
+    }
+
+    /**
+     * 이전 행동 취소 (스크랩 취소 등) - 그동안 감쇠된 만큼만 빼서 원래 행동이 남긴 점수만 되돌림
+     */
+    public void undo(Long userId, Long articleId, Action action, LocalDateTime occurredAt) {
+        record(userId, articleId, action, -decayedWeight(occurredAt));
+    }
+
+    // 행동 시점부터 지금까지 반감기로 감쇠한 가중치 (재계산 쿼리와 같은 분 단위 기준)
+    float decayedWeight(LocalDateTime occurredAt) {
+        if (occurredAt == null) return 1f;
+        long minutes = Math.max(0, Duration.between(occurredAt, LocalDateTime.now()).toMinutes());
+        return (float) Math.pow(0.5, minutes / (halfLifeDays * 24 * 60));
+    }
+
+    /**
+     * 검색 한 번을 상위 검색 결과 기사들의 카테고리에 나눠서 기록
+     */
+    public void recordSearch(Long userId, List<Long> resultArticleIds) {
+        if (userId == null || resultArticleIds == null || resultArticleIds.isEmpty()) return;
+        List<Long> top = resultArticleIds.stream().filter(Objects::nonNull).distinct().limit(SEARCH_RESULT_ARTICLES).toList();
+        if (top.isEmpty()) return;
+        float weight = 1f / top.size();
+        top.forEach(articleId -> record(userId, articleId, Action.SEARCH, weight));
+    }
+
+    private void addNow(Long userId, Long articleId, Action action, float weight) {
+        pending.compute(new Pending(userId, articleId), (key, scores) -> {
+            float[] next = scores == null ? new float[3] : scores;
+            next[action.ordinal()] += weight;
+            return next;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${preference.score.flush-interval-ms:2000}", scheduler = SchedulerConfig.FLUSH_SCHEDULER)
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+
+        Map<Pending, float[]> taken = new HashMap<>();
+        for (Pending key : new ArrayList<>(pending.keySet())) {
+            float[] scores = pending.remove(key);
+            if (scores != null) taken.put(key, scores);
+        }
+        if (taken.isEmpty()) return;
+
+        try {
+            List<ScoreDelta> deltas = toCategoryDeltas(taken);
+            if (!deltas.isEmpty()) {
+                userCategoryScoreBatchRepository.applyDeltas(deltas, idGenerator::nextId);
+            }
+        } catch (Exception e) {
+            // 실패한 묶음은 다시 대기열로 (그 사이 들어온 변화량과 합침)
+            taken.forEach((key, scores) -> pending.merge(key, scores, (failed, newer) -> {
+                float[] merged = failed.clone();
+                for (int i = 0; i < merged.length; i++) merged[i] += newer[i];
+                return merged;
+            }));
+            log.warn("카테고리 선호 점수 반영 실패 - {}건, 다음 주기에 재시도: {}", taken.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 일 단위 감쇠: 하루 지날 때마다 반감기 기준 비율만큼 모든 점수를 줄임
+     */
+    @Scheduled(cron = "${preference.score.decay-cron:0 10 4 * * *}", zone = "Asia/Seoul")
+    public synchronized void decay() {
+        double factor = Math.pow(0.5, 1.0 / halfLifeDays);
+        long maxUserId = userCategoryScoreBatchRepository.findMaxUserId();
+        int pruned = 0;
+        for (long from = 1; from <= maxUserId; from += userChunkSize) {
+            pruned += userCategoryScoreBatchRepository.decayRange(from, from + userChunkSize - 1, factor, MIN_BEHAVIOR_SCORE);
+        }
+        log.info("카테고리 선호 점수 감쇠 완료 - 비율 {}, 정리된 행 {}", factor, pruned);
+    }
+
+    /**
+     * 주 단위 재계산: 스크랩/클릭 점수를 원본 로그에서 다시 구함 (검색 점수는 유지)
+     */
+    @Scheduled(cron = "${preference.score.rebuild-cron:0 40 4 * * SUN}", zone = "Asia/Seoul")
+    public synchronized void rebuild() {
+        // 재계산 전에 쌓인 변화량을 먼저 반영해 재계산 결과에 덮어써지도록 함
+        flush();
+        LocalDateTime since = LocalDateTime.now().minusDays((long) Math.ceil(halfLifeDays * REBUILD_HALF_LIVES));
+        double halfLifeMinutes = halfLifeDays * 24 * 60;
+        long maxUserId = userCategoryScoreBatchRepository.findMaxUserId();
+        for (long from = 1; from <= maxUserId; from += userChunkSize) {
+            long to = from + userChunkSize - 1;
+            try {
+                userCategoryScoreBatchRepository.rebuildRange(from, to, halfLifeMinutes, since, idGenerator::nextId);
+            } catch (Exception e) {
+                log.warn("카테고리 선호 점수 재계산 실패 - 사용자 {}~{}: {}", from, to, e.getMessage());
+            }
+        }
+        log.info("카테고리 선호 점수 재계산 완료 - 사용자 ID {}까지", maxUserId);
+    }
+
+    // 기사별 변화량을 카테고리별로 펼치고 (사용자, 카테고리) 순으로 정렬 (배치 간 잠금 순서를 맞춤)
+    private List<ScoreDelta> toCategoryDeltas(Map<Pending, float[]> taken) {
+        Set<Long> articleIds = new HashSet<>();
+        taken.keySet().forEach(key -> articleIds.add(key.articleId()));
+        Map<Long, List<Long>> categoriesByArticle = new HashMap<>();
+        for (ArticleCategory ac : articleCategoryRepository.findByArticleIdIn(articleIds)) {
+            categoriesByArticle.computeIfAbsent(ac.getArticleId(), id -> new ArrayList<>()).add(ac.getCategoryId());
+        }
+
+        Map<CategoryKey, float[]> byCategory = new TreeMap<>(Comparator
+                .comparingLong(CategoryKey::userId)
+                .thenComparingLong(CategoryKey::categoryId));
+        taken.forEach((key, scores) -> {
+            for (Long categoryId : categoriesByArticle.getOrDefault(key.articleId(), List.of())) {
+                float[] sum = byCategory.computeIfAbsent(new CategoryKey(key.userId(), categoryId), k -> new float[3]);
+                for (int i = 0; i < sum.length; i++) sum[i] += scores[i];
+            }
+        });
+
+        List<ScoreDelta> deltas = new ArrayList<>(byCategory.size());
+        byCategory.forEach((key, sum) -> deltas.add(new ScoreDelta(key.userId(), key.categoryId(), sum[0], sum[1], sum[2])));
+        return deltas;
+    }
+
+    private record Pending(long userId, long articleId) {}
+
+    private record CategoryKey(long userId, long categoryId) {}
+}
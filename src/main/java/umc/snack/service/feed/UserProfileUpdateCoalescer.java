@@ -0,0 +1,136 @@
+package umc.snack.service.feed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import umc.snack.common.config.SchedulerConfig;
+import umc.snack.domain.nlp.dto.UserInteractionDto;
+import umc.snack.domain.nlp.dto.UserProfileRequestDto;
+import umc.snack.repository.scrap.UserScrapRepository;
+import umc.snack.repository.user.UserClickRepository;
+import umc.snack.service.nlp.NlpService;
+import umc.snack.service.nlp.QueryEmbeddingService;
+import umc.snack.service.user.RecentSearchKeywordStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 프로필 갱신 병합기
+ * - 스크랩/클릭/검색이 발생하면 markDirty로 표시만 하고 즉시 반환
+ * - 일정 시간(debounce) 동안 추가 행동이 없거나 최대 대기 시간을 넘긴 사용자를 모아 FastAPI에 한 번에 전송
+ * - 맞춤 피드 조회 경로에서는 프로필 계산을 하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserProfileUpdateCoalescer {
+
+    private final UserScrapRepository userScrapRepository;
+    private final UserClickRepository userClickRepository;
+    private final RecentSearchKeywordStore recentSearchKeywordStore;
+    private final NlpService nlpService;
+    private final QueryEmbeddingService queryEmbeddingService;
+
+    @Value("${feed.profile.debounce-ms:3000}")
+    private long debounceMs;
+
+    @Value("${feed.profile.max-wait-ms:30000}")
+    private long maxWaitMs;
+
+    @Value("${feed.profile.batch-size:50}")
+    private int batchSize;
+
+    // userId → 대기 상태 (최초/최근 표시 시각)
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 프로필 재계산이 필요한 사용자로 표시
+     */
+    public void markDirty(Long userId) {
+        if (userId == null) return;
+        long now = System.currentTimeMillis();
+        pending.merge(userId, new Pending(now, now), (old, cur) -> new Pending(old.firstMarkedAt(), now));
+    }
+
+    @Scheduled(fixedDelayString = "${feed.profile.flush-interval-ms:1000}", scheduler = SchedulerConfig.FLUSH_SCHEDULER)
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        List<Long> ready = new ArrayList<>();
+        for (Map.Entry<Long, Pending> e : pending.entrySet()) {
+            Pending p = e.getValue();
+            if (now - p.lastMarkedAt() >= debounceMs || now - p.firstMarkedAt() >= maxWaitMs) {
+                // 읽은 값 그대로일 때만 제거 → 그 사이 새로 표시되면 다음 주기로 넘어감
+                if (pending.remove(e.getKey(), p)) {
+                    ready.add(e.getKey());
+                }
+            }
+        }
+
+        for (int from = 0; from < ready.size(); from += batchSize) {
+            sendBatch(ready.subList(from, Math.min(from + batchSize, ready.size())));
+        }
+    }
+
+    /**
+     * 맞춤 추천이 비어 있는 사용자(프로필 없음) 대상 즉시 갱신
+     * @return 프로필 요청을 보냈으면 true
+     */
+    public boolean updateNow(Long userId) {
+        List<UserInteractionDto> interactions = buildInteractions(userId);
+        if (interactions.isEmpty()) {
+            return false;
+        }
+        pending.remove(userId);
+        nlpService.updateUserProfile(userId, interactions);
+        return true;
+    }
+
+    private void sendBatch(List<Long> userIds) {
+        List<UserProfileRequestDto> profiles = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            List<UserInteractionDto> interactions = buildInteractions(userId);
+            if (!interactions.isEmpty()) {
+                profiles.add(new UserProfileRequestDto(userId, interactions));
+            }
+        }
+        if (profiles.isEmpty()) return;
+
+        try {
+            nlpService.updateUserProfiles(profiles);
+        } catch (Exception e) {
+            // 전송 실패 시 다시 표시해 다음 주기에 재시도
+            log.warn("사용자 프로필 배치 갱신 실패 - {}명, 재시도 예정: {}", profiles.size(), e.getMessage());
+            profiles.forEach(p -> markDirty(p.getUserId()));
+        }
+    }
+
+    // 사용자의 최근 행동로그 조회 (연관 엔티티 로딩 없이 ID만 사용)
+    private List<UserInteractionDto> buildInteractions(Long userId) {
+        List<UserInteractionDto> interactions = new ArrayList<>();
+        userScrapRepository.findTop20ByUserIdOrderByCreatedAtDesc(userId)
+                .forEach(scrap -> interactions.add(new UserInteractionDto(scrap.getArticleId(), "scrap")));
+        userClickRepository.findTop15ByUserIdOrderByCreatedAtDesc(userId)
+                .forEach(click -> interactions.add(new UserInteractionDto(click.getArticleId(), "click")));
+
+        // 검색어는 임베딩 캐시에 있으면 벡터를 함께 보내 FastAPI 재임베딩을 생략
+        List<String> keywords = recentSearchKeywordStore.recent(userId);
+        Map<String, float[]> vectors = keywords.isEmpty() ? Map.of() : queryEmbeddingService.embedAll(keywords);
+        for (String keyword : keywords) {
+            interactions.add(UserInteractionDto.builder()
+                    .action("search")
+                    .keyword(keyword)
+                    .vector(vectors.get(QueryEmbeddingService.normalize(keyword)))
+                    .build());
+        }
+        return interactions;
+    }
+
+    private record Pending(long firstMarkedAt, long lastMarkedAt) {}
+}
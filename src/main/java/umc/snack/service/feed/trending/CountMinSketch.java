@@ -0,0 +1,74 @@
+package umc.snack.service.feed.trending;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch (고정 크기 빈도 추정)
+ * - depth개 행 × width개 칸, 키마다 행별로 다른 해시 칸에 더하고 추정값은 행별 최솟값
+ * - conservative update: 최솟값보다 작은 칸만 올려 과대 추정을 줄임
+ * - 스레드 안전하지 않음: 단일 스레드(TrendingService 수집 스레드)에서만 갱신
+ */
+public class CountMinSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x2545F4914F6CDD1DL, 0x94D049BB133111EBL
+    };
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final int[] table;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth must be 1.." + SEEDS.length);
+        }
+        if (width < 1 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width must be a power of two");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.mask = width - 1;
+        this.table = new int[depth * width];
+    }
+
+    /**
+     * @return 더한 뒤의 추정값
+     */
+    public int add(long key, int count) {
+        int current = estimate(key);
+        int target = current + count;
+        for (int row = 0; row < depth; row++) {
+            int i = index(key, row);
+            if (table[i] < target) table[i] = target;
+        }
+        return target;
+    }
+
+    public int estimate(long key) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table[index(key, row)]);
+        }
+        return min;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0);
+    }
+
+    private int index(long key, int row) {
+        return row * width + (int) (mix(key ^ SEEDS[row]) & mask);
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,242 @@
+package umc.snack.service.feed.trending;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import umc.snack.converter.feed.FeedConverter;
+import umc.snack.domain.article.entity.Article;
+import umc.snack.domain.article.entity.ArticleCategory;
+import umc.snack.domain.feed.dto.IndividualArticleDto;
+import umc.snack.repository.article.ArticleCategoryRepository;
+import umc.snack.repository.feed.FeedRepository;
+import umc.snack.service.article.ArticleCounterService;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 인기 기사 집계
+ * - ArticleCounterService의 조회/스크랩/공유 증가를 가중치를 붙여 제한된 큐로 받음 (요청 스레드는 offer만)
+ * - 수집 스레드 하나가 전체 + 카테고리별 TrendingWindow(시간 버킷 Count-Min Sketch + 상위 후보)를 갱신
+ * - publish 주기마다 범위별 상위 기사 카드를 만들어 불변 스냅샷으로 교체, 조회 API는 스냅샷만 읽음
+ * - 메모리는 큐/스케치/후보/카테고리 캐시 모두 크기가 고정되어 트래픽과 무관
+ */
+@Slf4j
+@Service
+public class TrendingService {
+
+    private static final int VIEW_WEIGHT = 1;
+    private static final int SHARE_WEIGHT = 3;
+    private static final int SCRAP_WEIGHT = 5;
+
+    private final ArticleCounterService articleCounterService;
+    private final ArticleCategoryRepository articleCategoryRepository;
+    private final FeedRepository feedRepository;
+    private final FeedConverter feedConverter;
+
+    private final BlockingQueue<Event> queue;
+    private final Cache<Long, long[]> categoriesByArticle;
+    private final AtomicLong dropped = new AtomicLong();
+
+    @Value("${feed.trending.bucket-minutes:5}")
+    private long bucketMinutes;
+
+    @Value("${feed.trending.bucket-count:12}")
+    private int bucketCount;
+
+    @Value("${feed.trending.half-life-buckets:3}")
+    private double halfLifeBuckets;
+
+    @Value("${feed.trending.sketch-depth:4}")
+    private int sketchDepth;
+
+    @Value("${feed.trending.sketch-width:2048}")
+    private int sketchWidth;
+
+    @Value("${feed.trending.candidates:200}")
+    private int candidateCapacity;
+
+    @Value("${feed.trending.publish-size:50}")
+    private int publishSize;
+
+    @Value("${feed.trending.publish-interval-ms:30000}")
+    private long publishIntervalMs;
+
+    // 수집 스레드 전용 상태
+    private TrendingWindow global;
+    private final Map<Long, TrendingWindow> byCategory = new HashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private Thread collector;
+    private volatile boolean running;
+
+    public TrendingService(ArticleCounterService articleCounterService,
+                           ArticleCategoryRepository articleCategoryRepository,
+                           FeedRepository feedRepository,
+                           FeedConverter feedConverter,
+                           @Value("${feed.trending.queue-capacity:100000}") int queueCapacity,
+                           @Value("${feed.trending.category-cache-size:50000}") long categoryCacheSize) {
+        this.articleCounterService = articleCounterService;
+        this.articleCategoryRepository = articleCategoryRepository;
+        this.feedRepository = feedRepository;
+        this.feedConverter = feedConverter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.categoriesByArticle = Caffeine.newBuilder().maximumSize(categoryCacheSize).build();
+    }
+
+    @PostConstruct
+    public void start() {
+        global = newWindow();
+        articleCounterService.addListener(this::onCount);
+        running = true;
+        collector = new Thread(this::runCollector, "trending-collector");
+        collector.setDaemon(true);
+        collector.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        collector.interrupt();
+    }
+
+    /**
+     * 인기 기사 카드 (최신 스냅샷 기준)
+     * @param categoryId null이면 전체
+     */
+    public List<IndividualArticleDto> top(Long categoryId, int size) {
+        Snapshot current = snapshot;
+        List<IndividualArticleDto> cards = categoryId == null ? current.global() : current.byCategory().getOrDefault(categoryId, List.of());
+        return cards.size() > size ? cards.subList(0, size) : cards;
+    }
+
+    /**
+     * 스냅샷이 바뀔 때마다 증가 (응답 ETag용)
+     */
+    public long version() {
+        return snapshot.version();
+    }
+
+    private void onCount(Long articleId, ArticleCounterService.Counter counter, long delta) {
+        if (delta <= 0) return;
+        int weight = switch (counter) {
+            case VIEW -> VIEW_WEIGHT;
+            case SCRAP -> SCRAP_WEIGHT;
+            case SHARE -> SHARE_WEIGHT;
+        };
+        if (!queue.offer(new Event(articleId, (int) Math.min(Integer.MAX_VALUE / SCRAP_WEIGHT, delta) * weight))
+                && dropped.incrementAndGet() % 10_000 == 1) {
+            log.warn("트렌딩 이벤트 큐 포화 - 누적 {}건 버림", dropped.get());
+        }
+    }
+
+    private void runCollector() {
+        long nextPublish = System.currentTimeMillis() + publishIntervalMs;
+        while (running) {
+            try {
+                Event event = queue.poll(Math.max(1, nextPublish - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    apply(event);
+                }
+                if (System.currentTimeMillis() >= nextPublish) {
+                    publish();
+                    nextPublish = System.currentTimeMillis() + publishIntervalMs;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("트렌딩 집계 중 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void apply(Event event) {
+        long now = System.currentTimeMillis();
+        global.add(event.articleId(), event.weight(), now);
+        for (long categoryId : categoriesOf(event.articleId())) {
+            byCategory.computeIfAbsent(categoryId, id -> newWindow()).add(event.articleId(), event.weight(), now);
+        }
+    }
+
+    // 기사 카테고리는 처음 본 기사만 DB 조회 (수집 스레드에서 실행되므로 요청 지연과 무관)
+    private long[] categoriesOf(long articleId) {
+        return categoriesByArticle.get(articleId, id -> articleCategoryRepository.findByArticleId(id).stream()
+                .map(ArticleCategory::getCategoryId)
+                .mapToLong(Long::longValue)
+                .toArray());
+    }
+
+    private void publish() {
+        long now = System.currentTimeMillis();
+        List<TrendingWindow.Scored> globalTop = global.top(publishSize, now);
+        Map<Long, List<TrendingWindow.Scored>> categoryTop = new HashMap<>();
+        byCategory.forEach((id, window) -> categoryTop.put(id, window.top(publishSize, now)));
+
+        Set<Long> ids = new HashSet<>();
+        globalTop.forEach(s -> ids.add(s.articleId()));
+        categoryTop.values().forEach(list -> list.forEach(s -> ids.add(s.articleId())));
+
+        Map<Long, IndividualArticleDto> cards = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Article article : feedRepository.findAllWithCategoriesByIdIn(new ArrayList<>(ids))) {
+                // 요약 전(READY 아님) 기사는 노출하지 않음
+                if (article.getSummary() == null || article.getSummary().isBlank()) continue;
+                cards.put(article.getArticleId(), feedConverter.toIndividualArticleDto(article));
+            }
+        }
+
+        Map<Long, List<IndividualArticleDto>> categoryCards = new HashMap<>();
+        categoryTop.forEach((id, list) -> categoryCards.put(id, toCards(list, cards)));
+        List<IndividualArticleDto> globalCards = toCards(globalTop, cards);
+
+        Snapshot previous = snapshot;
+        if (!sameIds(previous.global(), globalCards) || !sameCategoryIds(previous.byCategory(), categoryCards)) {
+            snapshot = new Snapshot(previous.version() + 1, globalCards, Map.copyOf(categoryCards));
+        }
+    }
+
+    private static List<IndividualArticleDto> toCards(List<TrendingWindow.Scored> scored, Map<Long, IndividualArticleDto> cards) {
+        List<IndividualArticleDto> result = new ArrayList<>(scored.size());
+        for (TrendingWindow.Scored s : scored) {
+            IndividualArticleDto card = cards.get(s.articleId());
+            if (card != null) result.add(card);
+        }
+        return List.copyOf(result);
+    }
+
+    private static boolean sameIds(List<IndividualArticleDto> a, List<IndividualArticleDto> b) {
+        if (a.size() != b.size()) return false;
+        for (int i = 0; i < a.size(); i++) {
+            if (!a.get(i).getArticleId().equals(b.get(i).getArticleId())) return false;
+        }
+        return true;
+    }
+
+    private static boolean sameCategoryIds(Map<Long, List<IndividualArticleDto>> a, Map<Long, List<IndividualArticleDto>> b) {
+        if (!a.keySet().equals(b.keySet())) return false;
+        for (Map.Entry<Long, List<IndividualArticleDto>> e : a.entrySet()) {
+            if (!sameIds(e.getValue(), b.get(e.getKey()))) return false;
+        }
+        return true;
+    }
+
+    private TrendingWindow newWindow() {
+        return new TrendingWindow(bucketCount, Duration.ofMinutes(bucketMinutes).toMillis(), halfLifeBuckets,
+                sketchDepth, sketchWidth, candidateCapacity);
+    }
+
+    private record Event(long articleId, int weight) {}
+
+    private record Snapshot(long version, List<IndividualArticleDto> global, Map<Long, List<IndividualArticleDto>> byCategory) {
+        static final Snapshot EMPTY = new Snapshot(0L, List.of(), Map.of());
+    }
+}
@@ -0,0 +1,110 @@
+package umc.snack.service.feed.trending;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 슬라이딩 윈도우 인기 집계 (범위 하나: 전체 또는 카테고리 하나)
+ * - 시간 버킷마다 Count-Min Sketch 하나, 버킷 수만큼 링으로 돌려 쓰고 가장 오래된 버킷은 비워서 재사용
+ * - 점수 = Σ 버킷 추정값 × decay^(버킷 나이) → 최근 반응일수록 크게 반영
+ * - 상위 후보는 고정 크기 맵으로 유지 (가득 차면 점수가 가장 낮은 후보와 교체)
+ * - 메모리는 (버킷 수 × depth × width + 후보 수)로 고정, 트래픽과 무관
+ * - 스레드 안전하지 않음: 단일 스레드에서만 갱신
+ */
+public class TrendingWindow {
+
+    private final CountMinSketch[] buckets;
+    private final long bucketMillis;
+    private final double decayPerBucket;
+    private final int candidateCapacity;
+    private final Map<Long, Double> candidates;
+    private long headBucket = Long.MIN_VALUE;
+
+    public TrendingWindow(int bucketCount, long bucketMillis, double halfLifeBuckets,
+                          int depth, int width, int candidateCapacity) {
+        this.buckets = new CountMinSketch[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new CountMinSketch(depth, width);
+        }
+        this.bucketMillis = bucketMillis;
+        this.decayPerBucket = Math.pow(0.5, 1.0 / halfLifeBuckets);
+        this.candidateCapacity = candidateCapacity;
+        this.candidates = new HashMap<>(candidateCapacity * 2);
+    }
+
+    public void add(long articleId, int weight, long nowMillis) {
+        advance(nowMillis);
+        buckets[slot(headBucket)].add(articleId, weight);
+        offer(articleId, score(articleId));
+    }
+
+    /**
+     * 후보 점수를 현재 시각 기준으로 다시 계산해 상위 limit개 반환 (점수 내림차순)
+     */
+    public List<Scored> top(int limit, long nowMillis) {
+        advance(nowMillis);
+        List<Scored> scored = new ArrayList<>(candidates.size());
+        for (Map.Entry<Long, Double> e : candidates.entrySet()) {
+            double s = score(e.getKey());
+            e.setValue(s);
+            if (s > 0) scored.add(new Scored(e.getKey(), s));
+        }
+        // 윈도우 밖으로 밀려난 후보는 정리
+        candidates.values().removeIf(s -> s <= 0);
+        scored.sort((a, b) -> Double.compare(b.score(), a.score()));
+        return scored.size() > limit ? new ArrayList<>(scored.subList(0, limit)) : scored;
+    }
+
+    private double score(long articleId) {
+        double total = 0;
+        double weight = 1.0;
+        for (int age = 0; age < buckets.length; age++) {
+            total += buckets[slot(headBucket - age)].estimate(articleId) * weight;
+            weight *= decayPerBucket;
+        }
+        return total;
+    }
+
+    private void offer(long articleId, double score) {
+        if (candidates.containsKey(articleId) || candidates.size() < candidateCapacity) {
+            candidates.put(articleId, score);
+            return;
+        }
+        // 가득 찬 경우: 저장된 점수가 가장 낮은 후보보다 높을 때만 교체
+        Long minId = null;
+        double min = Double.MAX_VALUE;
+        for (Map.Entry<Long, Double> e : candidates.entrySet()) {
+            if (e.getValue() < min) {
+                min = e.getValue();
+                minId = e.getKey();
+            }
+        }
+        if (score > min) {
+            candidates.remove(minId);
+            candidates.put(articleId, score);
+        }
+    }
+
+    // 현재 시각의 버킷까지 전진하며 지나간 버킷을 비움 (오래 비어 있었으면 최대 버킷 수만큼만)
+    private void advance(long nowMillis) {
+        long current = Math.floorDiv(nowMillis, bucketMillis);
+        if (headBucket == Long.MIN_VALUE || current - headBucket >= buckets.length) {
+            for (CountMinSketch bucket : buckets) bucket.clear();
+            if (headBucket != Long.MIN_VALUE) candidates.clear();
+            headBucket = current;
+            return;
+        }
+        while (headBucket < current) {
+            headBucket++;
+            buckets[slot(headBucket)].clear();
+        }
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) buckets.length);
+    }
+
+    public record Scored(long articleId, double score) {}
+}
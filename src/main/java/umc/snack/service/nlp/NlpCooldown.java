@@ -0,0 +1,36 @@
+package umc.snack.service.nlp;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * FastAPI(NLP) 장애 쿨다운
+ * - 검색/임베딩 호출이 시간 초과나 서버 오류로 실패하면 cooldownSeconds 동안 장애 상태로 둠
+ * - 장애 상태에서는 호출측이 임베딩 대기와 FastAPI 호출을 건너뛰고 바로 대체 경로(어휘 검색 등)로 응답
+ * - 쿨다운이 끝난 뒤 첫 요청이 다시 시도하고, 또 실패하면 쿨다운을 다시 시작
+ */
+@Slf4j
+@Component
+public class NlpCooldown {
+
+    @Value("${nlp.cooldown-seconds:30}")
+    private long cooldownSeconds;
+
+    private volatile long downUntil = System.nanoTime();
+
+    public boolean isCoolingDown() {
+        return System.nanoTime() - downUntil < 0;
+    }
+
+    /**
+     * 장애 기록 - 이미 쿨다운 중이면 종료 시각만 연장
+     */
+    public void trip(String reason) {
+        boolean wasUp = !isCoolingDown();
+        downUntil = System.nanoTime() + cooldownSeconds * 1_000_000_000L;
+        if (wasUp) {
+            log.warn("NLP 서버 장애 감지({}) - {}초 동안 의미 검색/임베딩 호출을 건너뜁니다.", reason, cooldownSeconds);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.web.client.HttpServerErrorException;
 
 import jakarta.annotation.PostConstruct;
 import org.springframework.web.util.UriComponentsBuilder;
+import umc.snack.common.metrics.PipelineMetrics;
 import umc.snack.common.exception.CustomException;
 import umc.snack.common.exception.ErrorCode;
 import umc.snack.domain.nlp.dto.*;
@@ -34,14 +35,17 @@ public class NlpService {
     private final RestTemplate fastApiRestTemplate;
     private final RestTemplate longTimeoutRestTemplate;
     private final String fastapiUrl;
+    private final PipelineMetrics pipelineMetrics;
 
     // application.yml 파일에서 fastapi.url 가져오기!!
     public NlpService(@Qualifier("fastApiRestTemplate") RestTemplate fastApiRestTemplate,
                       @Qualifier("longTimeoutRestTemplate") RestTemplate longTimeoutRestTemplate,
-                      @Value("${fastapi.url}") String fastapiUrl){
+                      @Value("${fastapi.url}") String fastapiUrl,
+                      PipelineMetrics pipelineMetrics){
         this.fastApiRestTemplate = fastApiRestTemplate;
         this.longTimeoutRestTemplate = longTimeoutRestTemplate;
         this.fastapiUrl = fastapiUrl;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
     @PostConstruct
@@ -91,7 +95,14 @@ public class NlpService {
 
                 log.info("FastAPI 배치 요청: ({}개)", batchSize);
 
-                ResponseEntity<Map> response = longTimeoutRestTemplate.postForEntity(url, request, Map.class);
+                long startedAt = System.nanoTime();
+                ResponseEntity<Map> response;
+                try {
+                    response = longTimeoutRestTemplate.postForEntity(url, request, Map.class);
+                } catch (RuntimeException e) {
+                    pipelineMetrics.vectorize(System.nanoTime() - startedAt, 0, PipelineMetrics.ERROR);
+                    throw e;
+                }
                 Map<String, Object> body = response.getBody();
 
                 if (body == null || "no_articles".equals(body.get("status"))) {
@@ -100,6 +111,7 @@ public class NlpService {
 
                 } else {
                     int processedInThisBatch = (int) body.getOrDefault("processed", 0);
+                    pipelineMetrics.vectorize(System.nanoTime() - startedAt, processedInThisBatch, PipelineMetrics.OK);
                     totalProcessed += processedInThisBatch;
                     log.info("이번 배치에서 {}개 처리 완료 (총 {}개 처리)", processedInThisBatch, totalProcessed);
 
@@ -133,20 +145,25 @@ public class NlpService {
         List<Integer> intArticleIds = articleIds.stream().map(Long::intValue).toList();
         HttpEntity<List<Integer>> request = new HttpEntity<>(intArticleIds);
 
+        long startedAt = System.nanoTime();
         try {
             ResponseEntity<Map> response = longTimeoutRestTemplate.postForEntity(url, request, Map.class);
             if (response.getBody() != null) {
                 log.info("벡터화 완료: {}", response.getBody());
+                pipelineMetrics.vectorize(System.nanoTime() - startedAt, articleIds.size(), PipelineMetrics.OK);
                 return response.getBody();
             }
             throw new CustomException(ErrorCode.NLP_9806); // 벡터 계산 오류
         } catch (ResourceAccessException e) {
+            pipelineMetrics.vectorize(System.nanoTime() - startedAt, articleIds.size(), PipelineMetrics.ERROR);
             log.error("FastAPI 연결 시간 초과: {}", url, e);
             throw new CustomException(ErrorCode.SERVER_5102);
         } catch (HttpClientErrorException | HttpServerErrorException e) {
+            pipelineMetrics.vectorize(System.nanoTime() - startedAt, articleIds.size(), PipelineMetrics.ERROR);
             log.error("FastAPI HTTP 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
             throw new CustomException(ErrorCode.NLP_9806);
         } catch (Exception e) {
+            pipelineMetrics.vectorize(System.nanoTime() - startedAt, articleIds.size(), PipelineMetrics.ERROR);
             log.error("벡터화 실패: {}", e.getMessage(), e);
             throw new CustomException(ErrorCode.SERVER_5101);
         }
@@ -156,6 +173,13 @@ public class NlpService {
      * 의미 기반 검색
      */
     public SearchResponseDto searchArticles(String cleanedQuery, int page, int size, double threshold) {
+        return searchArticles(cleanedQuery, null, page, size, threshold);
+    }
+
+    /**
+     * 의미 기반 검색 - 검색어 벡터를 이미 알고 있으면 벡터 검색 엔드포인트로 전달
+     */
+    public SearchResponseDto searchArticles(String cleanedQuery, float[] queryVector, int page, int size, double threshold) {
 
         if (!StringUtils.hasText(cleanedQuery)) {
             throw new CustomException(ErrorCode.NLP_9807);
@@ -164,15 +188,21 @@ public class NlpService {
         log.info("FastAPI 검색 요청 - 정리된 검색어: '{}', 페이지: {}, 크기: {}", cleanedQuery, page, size);
 
         try {
-            String encodedQuery = URLEncoder.encode(cleanedQuery, "UTF-8");
-            String url = String.format("%s/api/articles/search?query=%s&page=%d&size=%d&threshold=%.1f",
-                    fastapiUrl, encodedQuery, page, size, threshold);
-
-            log.info("FastAPI 호출 URL: {}", url);
-
-            URI uri = URI.create(url);
-
-            ResponseEntity<SearchResponseDto> response = fastApiRestTemplate.getForEntity(uri, SearchResponseDto.class);
+            ResponseEntity<SearchResponseDto> response;
+            if (queryVector != null) {
+                String url = fastapiUrl + "/api/articles/search/vector";
+                HttpEntity<VectorSearchRequestDto> request = new HttpEntity<>(
+                        new VectorSearchRequestDto(cleanedQuery, queryVector, page, size, threshold));
+                response = fastApiRestTemplate.postForEntity(url, request, SearchResponseDto.class);
+            } else {
+                String encodedQuery = URLEncoder.encode(cleanedQuery, "UTF-8");
+                String url = String.format("%s/api/articles/search?query=%s&page=%d&size=%d&threshold=%.1f",
+                        fastapiUrl, encodedQuery, page, size, threshold);
+
+                log.info("FastAPI 호출 URL: {}", url);
+
+                response = fastApiRestTemplate.getForEntity(URI.create(url), SearchResponseDto.class);
+            }
 
             if (response.getBody() == null) {
                 log.warn("FastAPI 응답 본문이 null - 검색어: '{}'", cleanedQuery);
@@ -237,6 +267,28 @@ public class NlpService {
         }
     }
 
+    /**
+     * 텍스트 일괄 임베딩 (QueryEmbeddingService 배치 처리용)
+     */
+    public EmbeddingResponseDto embedTexts(List<String> texts) {
+        String url = fastapiUrl + "/api/nlp/embed";
+        try {
+            ResponseEntity<EmbeddingResponseDto> response = fastApiRestTemplate.postForEntity(
+                    url, new HttpEntity<>(new EmbeddingRequestDto(texts)), EmbeddingResponseDto.class);
+            EmbeddingResponseDto body = response.getBody();
+            if (body == null || body.getVectors() == null || body.getVectors().size() != texts.size()) {
+                throw new CustomException(ErrorCode.NLP_9899);
+            }
+            return body;
+        } catch (ResourceAccessException e) {
+            log.error("FastAPI 연결 시간 초과: {}", url, e);
+            throw new CustomException(ErrorCode.SERVER_5102);
+        } catch (HttpClientErrorException | HttpServerErrorException e) {
+            log.error("FastAPI 임베딩 HTTP 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
+            throw new CustomException(ErrorCode.NLP_9899);
+        }
+    }
+
     public void updateUserProfile(Long userId, List<UserInteractionDto> interactions) {
         String url = fastapiUrl + "/api/nlp/user-profile";
         log.info("FastAPI 사용자 프로필 업데이트 요청: userId={}", userId);
@@ -257,6 +309,29 @@ public class NlpService {
         }
     }
 
+    /**
+     * 여러 사용자 프로필 일괄 업데이트 (UserProfileUpdateCoalescer에서 호출)
+     */
+    public void updateUserProfiles(List<UserProfileRequestDto> profiles) {
+        String url = fastapiUrl + "/api/nlp/user-profile/batch";
+        log.info("FastAPI 사용자 프로필 일괄 업데이트 요청: {}명", profiles.size());
+        HttpEntity<UserProfileBatchRequestDto> request = new HttpEntity<>(new UserProfileBatchRequestDto(profiles));
+
+        try {
+            fastApiRestTemplate.postForEntity(url, request, Map.class);
+            log.info("FastAPI 사용자 프로필 일괄 업데이트 성공: {}명", profiles.size());
+        } catch (ResourceAccessException e) {
+            log.error("FastAPI 연결 시간 초과: {}", url, e);
+            throw new CustomException(ErrorCode.SERVER_5102);
+        } catch (HttpClientErrorException | HttpServerErrorException e) {
+            log.error("FastAPI 프로필 일괄 업데이트 HTTP 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
+            throw new CustomException(ErrorCode.NLP_9899);
+        } catch (Exception e) {
+            log.error("FastAPI 프로필 일괄 업데이트 실패: {}", e.getMessage(), e);
+            throw new CustomException(ErrorCode.SERVER_5101);
+        }
+    }
+
     public FeedResponseDto getPersonalizedFeed(Long userId, int page, int size) {
         log.info("FastAPI 맞춤 피드 요청: userId={}, page={}, size={}", userId, page, size);
         URI uri = UriComponentsBuilder.fromHttpUrl(fastapiUrl)
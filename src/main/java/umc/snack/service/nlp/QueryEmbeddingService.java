@@ -0,0 +1,181 @@
+package umc.snack.service.nlp;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import umc.snack.common.config.CacheConfig;
+import umc.snack.domain.nlp.dto.EmbeddingResponseDto;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 검색어 임베딩 캐시 + 배치 인코더
+ * - 캐시 키: "모델버전:정규화된 텍스트"
+ * - 캐시 미스는 큐에 모았다가 짧은 대기(window) 후 FastAPI /api/nlp/embed 한 번으로 처리
+ * - 같은 텍스트 동시 미스는 하나의 요청으로 합침
+ * - 임베딩 실패 시 empty → 호출측은 기존처럼 FastAPI가 직접 임베딩하도록 텍스트만 전달
+ * - 실패/시간 초과는 NlpCooldown에 기록, 쿨다운 중에는 캐시만 확인하고 요청·대기하지 않음
+ */
+@Slf4j
+@Service
+public class QueryEmbeddingService {
+
+    private final NlpService nlpService;
+    private final NlpCooldown nlpCooldown;
+    private final Cache cache;
+
+    @Value("${nlp.embedding.model-version:jhgan/ko-sbert-sts}")
+    private volatile String modelVersion;
+
+    @Value("${nlp.embedding.batch-window-ms:15}")
+    private long batchWindowMs;
+
+    @Value("${nlp.embedding.max-batch-size:64}")
+    private int maxBatchSize;
+
+    @Value("${nlp.embedding.timeout-ms:2000}")
+    private long timeoutMs;
+
+    private final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+    private final Map<String, CompletableFuture<float[]>> inFlight = new ConcurrentHashMap<>();
+    private Thread batcher;
+    private volatile boolean running;
+
+    public QueryEmbeddingService(NlpService nlpService, NlpCooldown nlpCooldown, CacheManager cacheManager) {
+        this.nlpService = nlpService;
+        this.nlpCooldown = nlpCooldown;
+        this.cache = cacheManager.getCache(CacheConfig.QUERY_EMBEDDINGS);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        batcher = new Thread(this::runBatcher, "embedding-batcher");
+        batcher.setDaemon(true);
+        batcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        batcher.interrupt();
+        inFlight.values().forEach(f -> f.completeExceptionally(new CancellationException("shutdown")));
+    }
+
+    public Optional<float[]> embed(String text) {
+        return Optional.ofNullable(embedAll(List.of(text)).get(normalize(text)));
+    }
+
+    /**
+     * 여러 텍스트 임베딩 (키: 정규화된 텍스트), 실패한 텍스트는 결과에서 빠짐
+     */
+    public Map<String, float[]> embedAll(Collection<String> texts) {
+        Map<String, float[]> result = new HashMap<>();
+        Map<String, CompletableFuture<float[]>> waiting = new HashMap<>();
+        boolean coolingDown = nlpCooldown.isCoolingDown();
+
+        for (String text : texts) {
+            String normalized = normalize(text);
+            if (normalized.isEmpty() || result.containsKey(normalized) || waiting.containsKey(normalized)) continue;
+
+            float[] cached = cache.get(cacheKey(normalized), float[].class);
+            if (cached != null) {
+                result.put(normalized, cached);
+            } else if (!coolingDown) {
+                waiting.put(normalized, enqueue(normalized));
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        for (Map.Entry<String, CompletableFuture<float[]>> e : waiting.entrySet()) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                result.put(e.getKey(), e.getValue().get(remaining, TimeUnit.NANOSECONDS));
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (TimeoutException ex) {
+                log.debug("임베딩 대기 시간 초과 - '{}'", e.getKey());
+                nlpCooldown.trip("임베딩 시간 초과");
+            } catch (ExecutionException ex) {
+                log.debug("임베딩 대기 실패 - '{}': {}", e.getKey(), ex.toString());
+            }
+        }
+        return result;
+    }
+
+    public static String normalize(String text) {
+        if (text == null) return "";
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private String cacheKey(String normalized) {
+        return modelVersion + ":" + normalized;
+    }
+
+    private CompletableFuture<float[]> enqueue(String normalized) {
+        return inFlight.computeIfAbsent(normalized, key -> {
+            queue.add(key);
+            return new CompletableFuture<>();
+        });
+    }
+
+    private void runBatcher() {
+        List<String> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                // 첫 요청 이후 잠깐 더 모아서 한 번에 전송
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWindowMs);
+                while (batch.size() < maxBatchSize) {
+                    String next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("임베딩 배치 처리 중 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<String> batch) {
+        try {
+            EmbeddingResponseDto response = nlpService.embedTexts(batch);
+            if (response.getModelVersion() != null && !response.getModelVersion().equals(modelVersion)) {
+                // 모델이 바뀌면 이전 버전 키는 자연히 미스가 됨
+                log.info("임베딩 모델 버전 변경: {} → {}", modelVersion, response.getModelVersion());
+                modelVersion = response.getModelVersion();
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                float[] vector = response.getVectors().get(i);
+                cache.put(cacheKey(batch.get(i)), vector);
+                complete(batch.get(i), vector, null);
+            }
+        } catch (Exception e) {
+            log.warn("임베딩 배치 요청 실패 - {}건: {}", batch.size(), e.getMessage());
+            nlpCooldown.trip("임베딩 요청 실패");
+            batch.forEach(text -> complete(text, null, e));
+        }
+    }
+
+    private void complete(String text, float[] vector, Exception error) {
+        CompletableFuture<float[]> future = inFlight.remove(text);
+        if (future == null) return;
+        if (error != null) {
+            future.completeExceptionally(error);
+        } else {
+            future.complete(vector);
+        }
+    }
+}
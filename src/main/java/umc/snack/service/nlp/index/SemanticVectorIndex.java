@@ -0,0 +1,166 @@
+package umc.snack.service.nlp.index;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import umc.snack.common.config.SchedulerConfig;
+import umc.snack.repository.nlp.ArticleSemanticVectorRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 기사 대표 벡터 인메모리 인덱스 (JVM 측 brute-force top-k)
+ * - 기동 시 article_semantic_vectors.representative_vector 전체를 VectorMatrix에 적재
+ * - 이후 updatedAt 워터마크 이후 변경분만 주기적으로 추가/교체, 벡터가 NULL이 된 기사는 제거
+ * - 조회는 읽기 락, 적재는 쓰기 락 (적재는 배치 단위로 짧게 잡음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SemanticVectorIndex {
+
+    private final ArticleSemanticVectorRepository articleSemanticVectorRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${nlp.vector-index.dimension:768}")
+    private int dimension;
+
+    @Value("${nlp.vector-index.load-batch-size:2000}")
+    private int loadBatchSize;
+
+    // 같은 초에 늦게 커밋된 행을 놓치지 않도록 워터마크보다 조금 앞에서부터 다시 읽음 (put은 멱등)
+    @Value("${nlp.vector-index.overlap-seconds:120}")
+    private long overlapSeconds;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private VectorMatrix matrix;
+    private LocalDateTime watermark = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            lock.writeLock().lock();
+            try {
+                matrix = new VectorMatrix(dimension, 16_384);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            int loaded = loadSince(watermark);
+            ready = true;
+            log.info("벡터 인덱스 적재 완료 - {}개, 차원 {}", loaded, dimension);
+        } catch (Exception e) {
+            log.error("벡터 인덱스 적재 실패 - FastAPI 전체 스캔으로 대체합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${nlp.vector-index.refresh-interval-ms:60000}", scheduler = SchedulerConfig.FLUSH_SCHEDULER)
+    public void refresh() {
+        if (!ready) return;
+        try {
+            int loaded = loadSince(watermark.minusSeconds(overlapSeconds));
+            if (loaded > 0) {
+                log.info("벡터 인덱스 증분 반영 - {}개", loaded);
+            }
+        } catch (Exception e) {
+            log.warn("벡터 인덱스 증분 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 코사인 유사도 상위 k개 기사
+     * - 인덱스 미적재 또는 차원 불일치면 empty → 호출측에서 FastAPI로 대체
+     */
+    public Optional<List<VectorMatrix.Scored>> search(float[] query, int k) {
+        if (!ready || query == null || query.length != dimension) return Optional.empty();
+        lock.readLock().lock();
+        try {
+            return Optional.of(matrix.topK(query, k));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스에 있는 기사의 최근접 기사 k개 (자기 자신 제외)
+     * - 인덱스 미적재 또는 해당 기사 벡터가 없으면 empty
+     */
+    public Optional<List<VectorMatrix.Scored>> neighbors(long articleId, int k) {
+        if (!ready) return Optional.empty();
+        lock.readLock().lock();
+        try {
+            List<VectorMatrix.Scored> result = matrix.neighbors(articleId, k);
+            return result.isEmpty() ? Optional.empty() : Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<float[]> parseVector(String json) {
+        if (json == null || json.isBlank()) return Optional.empty();
+        try {
+            return Optional.of(objectMapper.readValue(json, float[].class));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    // since 이후 변경된 벡터를 키셋 페이지 단위로 읽어 반영, 반영 건수 반환
+    private synchronized int loadSince(LocalDateTime since) {
+        LocalDateTime cursorTime = since;
+        Long cursorId = 0L;
+        int total = 0;
+
+        while (true) {
+            List<ArticleSemanticVectorRepository.VectorRow> rows = articleSemanticVectorRepository
+                    .findVectorRowsAfter(cursorTime, cursorId, PageRequest.of(0, loadBatchSize));
+            if (rows.isEmpty()) break;
+
+            // JSON 파싱은 락 밖에서
+            long[] ids = new long[rows.size()];
+            float[][] vectors = new float[rows.size()][];
+            for (int i = 0; i < rows.size(); i++) {
+                ids[i] = rows.get(i).getArticleId();
+                vectors[i] = parseVector(rows.get(i).getRepresentativeVector()).orElse(null);
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (int i = 0; i < ids.length; i++) {
+                    // 벡터가 NULL로 바뀐(또는 읽을 수 없는) 행은 같은 패스에서 삭제
+                    // 차원이 다르거나 영벡터(키워드 없는 기사)는 put 내부에서 제외/삭제
+                    if (vectors[i] == null) {
+                        matrix.remove(ids[i]);
+                    } else {
+                        matrix.put(ids[i], vectors[i]);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            ArticleSemanticVectorRepository.VectorRow last = rows.get(rows.size() - 1);
+            cursorTime = last.getUpdatedAt();
+            cursorId = last.getArticleId();
+            if (cursorTime != null && cursorTime.isAfter(watermark)) {
+                watermark = cursorTime;
+            }
+            total += rows.size();
+            if (rows.size() < loadBatchSize) break;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,246 @@
+package umc.snack.service.nlp.index;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 정규화된 벡터를 하나의 연속 float 배열(row-major)에 보관하는 행렬
+ * - 저장 시 한 번만 L2 정규화 → 조회 시 코사인 유사도 = 내적
+ * - 내적은 JDK Vector API(SIMD), 전체 스캔은 행 구간을 나눠 병렬 처리
+ * - 스레드 안전하지 않음: 쓰기/읽기 동기화는 호출측(SemanticVectorIndex) 책임
+ */
+public class VectorMatrix {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    // 파티션 하나가 맡을 최소 행 수 (너무 잘게 나누면 병렬화 비용이 더 큼)
+    private static final int MIN_ROWS_PER_PARTITION = 8192;
+
+    private final int dim;
+    private float[] data;
+    private long[] ids;
+    private int size;
+    private final Map<Long, Integer> rowById = new HashMap<>();
+
+    public VectorMatrix(int dim, int initialCapacity) {
+        if (dim <= 0) throw new IllegalArgumentException("dim must be positive");
+        int capacity = Math.max(initialCapacity, 16);
+        this.dim = dim;
+        this.data = new float[Math.multiplyExact(capacity, dim)];
+        this.ids = new long[capacity];
+    }
+
+    public int dim() {
+        return dim;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 벡터 추가 또는 교체 (같은 id면 기존 행을 덮어씀)
+     * @return 차원이 다르거나 영벡터라 저장하지 않았으면 false
+     */
+    public boolean put(long id, float[] vector) {
+        if (vector == null || vector.length != dim) return false;
+        float norm = (float) Math.sqrt(dot(vector, 0, vector, 0, dim));
+        if (norm == 0f || Float.isNaN(norm)) {
+            remove(id);
+            return false;
+        }
+
+        Integer row = rowById.get(id);
+        if (row == null) {
+            ensureCapacity(size + 1);
+            row = size++;
+            ids[row] = id;
+            rowById.put(id, row);
+        }
+        int offset = row * dim;
+        float inv = 1f / norm;
+        for (int i = 0; i < dim; i++) {
+            data[offset + i] = vector[i] * inv;
+        }
+        return true;
+    }
+
+    /**
+     * 마지막 행을 빈 자리로 옮겨 삭제 (순서는 보장하지 않음)
+     */
+    public boolean remove(long id) {
+        Integer row = rowById.remove(id);
+        if (row == null) return false;
+        int last = --size;
+        if (row != last) {
+            System.arraycopy(data, last * dim, data, row * dim, dim);
+            ids[row] = ids[last];
+            rowById.put(ids[row], row);
+        }
+        return true;
+    }
+
+    /**
+     * 코사인 유사도 상위 k개 (점수 내림차순)
+     */
+    public List<Scored> topK(float[] query, int k) {
+        if (query.length != dim) {
+            throw new IllegalArgumentException("query dim " + query.length + " != " + dim);
+        }
+        if (size == 0 || k <= 0) return List.of();
+
+        float[] q = normalize(query);
+        int rows = size;
+        int partitions = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), rows / MIN_ROWS_PER_PARTITION));
+        int chunk = (rows + partitions - 1) / partitions;
+
+        TopK merged = IntStream.range(0, partitions)
+                .parallel()
+                .mapToObj(p -> scan(q, p * chunk, Math.min(rows, (p + 1) * chunk), k))
+                .reduce(TopK::mergeInto) // 각 부분 결과는 한 번만 쓰이므로 제자리 병합 가능
+                .orElseGet(() -> new TopK(k));
+
+        return merged.toSortedList(ids);
+    }
+
+    /**
+     * 이미 저장된 행을 질의로 한 상위 k개 (자기 자신 제외), 없는 id면 빈 목록
+     */
+    public List<Scored> neighbors(long id, int k) {
+        Integer row = rowById.get(id);
+        if (row == null || k <= 0) return List.of();
+        float[] q = Arrays.copyOfRange(data, row * dim, row * dim + dim);
+        return topK(q, k + 1).stream()
+                .filter(s -> s.id() != id)
+                .limit(k)
+                .toList();
+    }
+
+    private TopK scan(float[] q, int fromRow, int toRow, int k) {
+        TopK top = new TopK(k);
+        for (int row = fromRow; row < toRow; row++) {
+            top.offer(dot(q, 0, data, row * dim, dim), row);
+        }
+        return top;
+    }
+
+    public static float[] normalize(float[] vector) {
+        float norm = (float) Math.sqrt(dot(vector, 0, vector, 0, vector.length));
+        float[] out = Arrays.copyOf(vector, vector.length);
+        if (norm == 0f) return out;
+        float inv = 1f / norm;
+        for (int i = 0; i < out.length; i++) out[i] *= inv;
+        return out;
+    }
+
+    // SIMD 내적: 레인 단위 FMA 누적 후 마지막에 한 번 합산, 나머지는 스칼라 처리
+    static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        FloatVector acc = FloatVector.zero(SPECIES);
+        int i = 0;
+        int bound = SPECIES.loopBound(length);
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, aOffset + i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, bOffset + i);
+            acc = va.fma(vb, acc);
+        }
+        float sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += a[aOffset + i] * b[bOffset + i];
+        }
+        return sum;
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= ids.length) return;
+        int capacity = Math.max(rows, ids.length + (ids.length >> 1));
+        data = Arrays.copyOf(data, Math.multiplyExact(capacity, dim));
+        ids = Arrays.copyOf(ids, capacity);
+    }
+
+    public record Scored(long id, float score) {}
+
+    /**
+     * 크기 k의 최소 힙 (루트 = 현재 k번째 점수), 박싱 없이 배열로 관리
+     */
+    private static final class TopK {
+        private final int k;
+        private final float[] scores;
+        private final int[] rows;
+        private int count;
+
+        TopK(int k) {
+            this.k = k;
+            this.scores = new float[k];
+            this.rows = new int[k];
+        }
+
+        void offer(float score, int row) {
+            if (count < k) {
+                scores[count] = score;
+                rows[count] = row;
+                siftUp(count++);
+            } else if (score > scores[0]) {
+                scores[0] = score;
+                rows[0] = row;
+                siftDown(0);
+            }
+        }
+
+        TopK mergeInto(TopK other) {
+            for (int i = 0; i < other.count; i++) {
+                offer(other.scores[i], other.rows[i]);
+            }
+            return this;
+        }
+
+        List<Scored> toSortedList(long[] ids) {
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> Float.compare(scores[b], scores[a]));
+            List<Scored> result = new ArrayList<>(count);
+            for (int i : order) {
+                result.add(new Scored(ids[rows[i]], scores[i]));
+            }
+            return result;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[i] >= scores[parent]) break;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= count) break;
+                int smallest = left;
+                int right = left + 1;
+                if (right < count && scores[right] < scores[left]) smallest = right;
+                if (scores[i] <= scores[smallest]) break;
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            float s = scores[a];
+            scores[a] = scores[b];
+            scores[b] = s;
+            int r = rows[a];
+            rows[a] = rows[b];
+            rows[b] = r;
+        }
+    }
+}
@@ -11,6 +11,9 @@ import umc.snack.domain.user.entity.UserScrap;
 import umc.snack.repository.article.ArticleRepository;
 import umc.snack.repository.scrap.UserScrapRepository;
 import umc.snack.repository.user.UserRepository;
+import umc.snack.service.article.ArticleCounterService;
+import umc.snack.service.feed.UserCategoryScoreUpdater;
+import umc.snack.service.feed.UserProfileUpdateCoalescer;
 
 import umc.snack.common.exception.CustomException;
 import umc.snack.common.exception.ErrorCode;
@@ -22,6 +25,9 @@ public class UserScrapServiceImpl implements UserScrapService {
     private final UserScrapRepository userScrapRepository;
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
+    private final UserProfileUpdateCoalescer userProfileUpdateCoalescer;
+    private final ArticleCounterService articleCounterService;
+    private final UserCategoryScoreUpdater userCategoryScoreUpdater;
 
     @Override
     @Transactional
@@ -49,6 +55,11 @@ public class UserScrapServiceImpl implements UserScrapService {
                     .build();
 
             userScrapRepository.save(scrap);
+            articleCounterService.increment(articleId, ArticleCounterService.Counter.SCRAP);
+            userCategoryScoreUpdater.record(userId, articleId, UserCategoryScoreUpdater.Action.SCRAP, 1f);
+
+            // 맞춤 피드 프로필 갱신 예약 (비동기 일괄 처리)
+            userProfileUpdateCoalescer.markDirty(userId);
         } catch (CustomException e) {
             throw e; // 비즈니스 로직 예외는 그대로 다시 던짐
         } catch (Exception e) {
@@ -66,6 +77,8 @@ public class UserScrapServiceImpl implements UserScrapService {
 
             // 스크랩 삭제
             userScrapRepository.delete(scrap);
+            articleCounterService.decrement(articleId, ArticleCounterService.Counter.SCRAP);
+            userCategoryScoreUpdater.undo(userId, articleId, UserCategoryScoreUpdater.Action.SCRAP, scrap.getCreatedAt());
         } catch (CustomException e) {
             throw e; // 비즈니스 예외는 그대로 던짐
         } catch (Exception e) {
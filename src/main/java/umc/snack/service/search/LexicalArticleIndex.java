@@ -0,0 +1,267 @@
+package umc.snack.service.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import umc.snack.domain.article.event.ArticleReadyEvent;
+import umc.snack.repository.article.ArticleRepository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 기사 제목/요약 어휘 검색 인덱스 (인메모리 역색인)
+ * - 색인어: 토큰 내 문자 bigram (한글 음절 2글자, 영문/숫자도 동일), 1글자 토큰은 unigram
+ * - 포스팅: int 배열, 값 = (문서 순번 << 1) | 제목 포함 여부
+ * - 기동 시 READY 기사 전체 적재, 이후 ArticleReadyEvent마다 증분 반영
+ * - NLP 상태와 무관하게 동작 → 의미 검색 장애 시 단독 응답(degraded mode)에 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LexicalArticleIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final float TITLE_WEIGHT = 2.0f;
+    private static final float SUMMARY_WEIGHT = 1.0f;
+    // 질의 색인어 중 이 비율 이상 포함한 문서만 결과로 인정
+    private static final double MIN_TERM_COVERAGE = 0.5;
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final ArticleRepository articleRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, IntList> postings = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+    private final Map<Long, Integer> ordinalByArticleId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            long afterId = 0L;
+            int total = 0;
+            while (true) {
+                List<ArticleRepository.SearchDocRow> rows =
+                        articleRepository.findReadySearchDocsAfter(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                if (rows.isEmpty()) break;
+                addAll(rows);
+                afterId = rows.get(rows.size() - 1).getArticleId();
+                total += rows.size();
+                if (rows.size() < LOAD_BATCH_SIZE) break;
+            }
+            ready = true;
+            log.info("어휘 검색 인덱스 적재 완료 - 기사 {}개, 색인어 {}개", total, postings.size());
+        } catch (Exception e) {
+            log.error("어휘 검색 인덱스 적재 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onArticleReady(ArticleReadyEvent event) {
+        try {
+            addAll(articleRepository.findReadySearchDocsByIdIn(List.of(event.articleId())));
+        } catch (Exception e) {
+            log.warn("어휘 검색 인덱스 갱신 실패 - articleId: {}, 오류: {}", event.articleId(), e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 질의와 어휘가 겹치는 기사 상위 limit개 (점수 내림차순, 동점이면 최근 색인 순)
+     */
+    public List<Hit> search(String query, int limit) {
+        int[] queryTerms = terms(query);
+        if (queryTerms.length == 0 || limit <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            int docCount = docs.size();
+            if (docCount == 0) return List.of();
+
+            // 점수 배열은 스레드별로 재사용하고 이번 질의가 건드린 칸만 되돌림 (요청마다 문서 수 크기 배열을 만들지 않음)
+            Scratch scratch = SCRATCH.get().ensureCapacity(docCount);
+            float[] scores = scratch.scores;
+            int[] matched = scratch.matched;
+            IntList touched = scratch.touched;
+            try {
+                float maxScore = 0f;
+                for (int term : queryTerms) {
+                    IntList list = postings.get(term);
+                    if (list == null) {
+                        maxScore += TITLE_WEIGHT; // 없는 색인어도 만점 계산에는 포함
+                        continue;
+                    }
+                    float idf = (float) Math.log(1.0 + (double) docCount / list.size);
+                    maxScore += TITLE_WEIGHT * idf;
+                    for (int i = 0; i < list.size; i++) {
+                        int posting = list.values[i];
+                        int ordinal = posting >>> 1;
+                        if (matched[ordinal]++ == 0) touched.add(ordinal);
+                        scores[ordinal] += ((posting & 1) == 1 ? TITLE_WEIGHT : SUMMARY_WEIGHT) * idf;
+                    }
+                }
+
+                // 상위 limit개만 힙에 유지 (머리 = 현재 가장 약한 후보)
+                Comparator<Integer> weakestFirst = (a, b) -> {
+                    int c = Float.compare(scores[a], scores[b]);
+                    return c != 0 ? c : Integer.compare(a, b);
+                };
+                int minMatched = Math.max(1, (int) Math.ceil(queryTerms.length * MIN_TERM_COVERAGE));
+                PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(limit, touched.size) + 1, weakestFirst);
+                for (int i = 0; i < touched.size; i++) {
+                    int ordinal = touched.values[i];
+                    if (matched[ordinal] < minMatched || deleted.get(ordinal)) continue;
+                    top.add(ordinal);
+                    if (top.size() > limit) top.poll();
+                }
+
+                Hit[] hits = new Hit[top.size()];
+                for (int i = hits.length - 1; i >= 0; i--) {
+                    int ordinal = top.poll();
+                    hits[i] = new Hit(docs.get(ordinal), maxScore > 0 ? Math.min(1f, scores[ordinal] / maxScore) : 0f);
+                }
+                return Arrays.asList(hits);
+            } finally {
+                scratch.reset();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된(READY) 기사의 제목/요약/발행일 (색인에 없는 ID는 결과에서 빠짐)
+     */
+    public Map<Long, Doc> docs(Collection<Long> articleIds) {
+        Map<Long, Doc> result = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Long articleId : articleIds) {
+                Integer ordinal = ordinalByArticleId.get(articleId);
+                if (ordinal != null && !deleted.get(ordinal)) result.put(articleId, docs.get(ordinal));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private void addAll(List<ArticleRepository.SearchDocRow> rows) {
+        if (rows.isEmpty()) return;
+        lock.writeLock().lock();
+        try {
+            for (ArticleRepository.SearchDocRow row : rows) {
+                add(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 같은 기사가 다시 들어오면 이전 순번은 삭제 표시 후 새 순번으로 색인 (포스팅 정렬 유지)
+    private void add(ArticleRepository.SearchDocRow row) {
+        Integer previous = ordinalByArticleId.get(row.getArticleId());
+        if (previous != null) deleted.set(previous);
+
+        int ordinal = docs.size();
+        docs.add(new Doc(row.getArticleId(), row.getTitle(), row.getSummary(), row.getPublishedAt()));
+        ordinalByArticleId.put(row.getArticleId(), ordinal);
+
+        Set<Integer> titleTerms = new HashSet<>();
+        for (int term : terms(row.getTitle())) titleTerms.add(term);
+        Set<Integer> allTerms = new HashSet<>(titleTerms);
+        for (int term : terms(row.getSummary())) allTerms.add(term);
+
+        for (int term : allTerms) {
+            postings.computeIfAbsent(term, k -> new IntList(4))
+                    .add((ordinal << 1) | (titleTerms.contains(term) ? 1 : 0));
+        }
+    }
+
+    /**
+     * 텍스트 → 중복 없는 색인어 배열
+     * - 한글 음절/영문/숫자만 토큰 문자로 보고 나머지는 구분자로 처리
+     */
+    static int[] terms(String text) {
+        if (text == null || text.isEmpty()) return new int[0];
+        String lower = text.toLowerCase(Locale.ROOT);
+        Set<Integer> terms = new LinkedHashSet<>();
+        int tokenStart = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean tokenChar = i < lower.length() && isTokenChar(lower.charAt(i));
+            if (tokenChar && tokenStart < 0) {
+                tokenStart = i;
+            } else if (!tokenChar && tokenStart >= 0) {
+                if (i - tokenStart == 1) {
+                    terms.add(lower.charAt(tokenStart) << 16);
+                } else {
+                    for (int j = tokenStart; j < i - 1; j++) {
+                        terms.add((lower.charAt(j) << 16) | lower.charAt(j + 1));
+                    }
+                }
+                tokenStart = -1;
+            }
+        }
+        return terms.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static boolean isTokenChar(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    public record Doc(Long articleId, String title, String summary, LocalDateTime publishedAt) {}
+
+    public record Hit(Doc doc, float score) {}
+
+    /**
+     * 검색 한 번의 작업 공간 - 문서 순번별 점수/일치 색인어 수, 값이 들어간 순번 목록
+     */
+    private static final class Scratch {
+        private float[] scores = new float[0];
+        private int[] matched = new int[0];
+        private final IntList touched = new IntList(64);
+
+        Scratch ensureCapacity(int docCount) {
+            if (scores.length < docCount) {
+                int capacity = Math.max(docCount, scores.length + (scores.length >> 1));
+                scores = new float[capacity];
+                matched = new int[capacity];
+            }
+            return this;
+        }
+
+        void reset() {
+            for (int i = 0; i < touched.size; i++) {
+                int ordinal = touched.values[i];
+                scores[ordinal] = 0f;
+                matched[ordinal] = 0;
+            }
+            touched.size = 0;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values;
+        private int size;
+
+        IntList(int capacity) {
+            values = new int[capacity];
+        }
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package umc.snack.service.search;
+
+import umc.snack.domain.nlp.dto.ArticleSearchResultDto;
+import umc.snack.domain.nlp.dto.SearchResponseDto;
+
+import java.util.*;
+
+/**
+ * 의미 검색 + 어휘 검색 결과 결합 (Reciprocal Rank Fusion)
+ * - 점수 = Σ 1 / (K + 순위), 두 목록의 점수 스케일이 달라도 순위만으로 합침
+ * - 응답의 score는 의미 점수가 있으면 그대로, 어휘 단독 결과는 어휘 점수(0~1)
+ */
+public final class SearchRankFusion {
+
+    private static final int K = 60;
+
+    private SearchRankFusion() {
+    }
+
+    /**
+     * @param semantic 의미 검색 결과 (NLP 장애 시 null → 어휘 결과만 사용)
+     */
+    public static SearchResponseDto fuse(String query, SearchResponseDto semantic, List<LexicalArticleIndex.Hit> lexical) {
+        List<ArticleSearchResultDto> semanticArticles =
+                semantic == null || semantic.getArticles() == null ? List.of() : semantic.getArticles();
+
+        Map<Long, ArticleSearchResultDto> byId = new LinkedHashMap<>();
+        Map<Long, Double> fused = new HashMap<>();
+
+        for (int rank = 0; rank < semanticArticles.size(); rank++) {
+            ArticleSearchResultDto article = semanticArticles.get(rank);
+            byId.putIfAbsent(article.getArticleId(), article);
+            fused.merge(article.getArticleId(), 1.0 / (K + rank + 1), Double::sum);
+        }
+        for (int rank = 0; rank < lexical.size(); rank++) {
+            LexicalArticleIndex.Hit hit = lexical.get(rank);
+            byId.putIfAbsent(hit.doc().articleId(), toDto(hit));
+            fused.merge(hit.doc().articleId(), 1.0 / (K + rank + 1), Double::sum);
+        }
+
+        List<ArticleSearchResultDto> merged = new ArrayList<>(byId.values());
+        merged.sort((a, b) -> Double.compare(fused.get(b.getArticleId()), fused.get(a.getArticleId())));
+
+        // 의미 검색 전체 개수에는 캐시 범위 밖 결과도 포함되어 있으므로 더 큰 쪽을 사용
+        int semanticTotal = semantic == null ? 0 : semantic.getTotalCount();
+        int lexicalOnly = merged.size() - semanticArticles.size();
+        return new SearchResponseDto(query, Math.max(merged.size(), semanticTotal + lexicalOnly), merged);
+    }
+
+    private static ArticleSearchResultDto toDto(LexicalArticleIndex.Hit hit) {
+        LexicalArticleIndex.Doc doc = hit.doc();
+        return ArticleSearchResultDto.builder()
+                .articleId(doc.articleId())
+                .title(doc.title())
+                .summary(doc.summary())
+                .score(hit.score())
+                .publishedAt(doc.publishedAt() != null ? doc.publishedAt().toString() : null)
+                .build();
+    }
+}
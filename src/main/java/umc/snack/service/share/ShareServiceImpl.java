@@ -11,6 +11,7 @@ import umc.snack.domain.share.dto.ShareResultDto;
 import umc.snack.domain.share.dto.SharedArticleContentDto;
 import umc.snack.domain.share.entity.ArticleShare;
 import umc.snack.repository.article.ArticleShareRepository;
+import umc.snack.service.article.ArticleCounterService;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,6 +25,7 @@ public class ShareServiceImpl implements ShareService {
 
     private final ArticleRepository articleRepository;
     private final ArticleShareRepository articleShareRepository;
+    private final ArticleCounterService articleCounterService;
 
     @Override
     public ShareResultDto createShareLink(Long articleId, Long userId) {
@@ -45,6 +47,7 @@ public class ShareServiceImpl implements ShareService {
                 .build();
 
         articleShareRepository.save(articleShare);
+        articleCounterService.increment(article.getArticleId(), ArticleCounterService.Counter.SHARE);
 
         String sharedUrl = "https://app.snacknews.site/share/" + uuid;
         return new ShareResultDto(uuid, sharedUrl);
@@ -0,0 +1,183 @@
+package umc.snack.service.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import umc.snack.common.util.SnowflakeIdGenerator;
+import umc.snack.repository.user.UserClickBatchRepository;
+import umc.snack.repository.user.UserClickBatchRepository.ClickRow;
+import umc.snack.service.feed.UserCategoryScoreUpdater;
+import umc.snack.service.feed.UserProfileUpdateCoalescer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클릭 로그 비동기 수집기
+ * - 요청 스레드: 최근 클릭 중복 확인(메모리) 후 제한된 큐에 넣기만 함 (DB 접근 없음)
+ * - 수집 스레드: 큐를 모아 JDBC 배치 INSERT, ID는 Snowflake로 생성해 동시 요청에도 충돌 없음
+ * - 큐가 가득 차면 요청을 막지 않고 해당 클릭을 버림 (버린 건수는 주기적으로 로그)
+ */
+@Slf4j
+@Component
+public class ClickLogIngestor {
+
+    private final UserClickBatchRepository userClickBatchRepository;
+    private final SnowflakeIdGenerator idGenerator;
+    private final UserProfileUpdateCoalescer userProfileUpdateCoalescer;
+    private final UserCategoryScoreUpdater userCategoryScoreUpdater;
+
+    private final BlockingQueue<ClickRow> queue;
+    private final Cache<Long, Boolean> recentClicks;
+    private final int maxBatchSize;
+    private final long batchWindowMs;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private Thread writer;
+    private volatile boolean running;
+
+    public ClickLogIngestor(UserClickBatchRepository userClickBatchRepository,
+                            SnowflakeIdGenerator idGenerator,
+                            UserProfileUpdateCoalescer userProfileUpdateCoalescer,
+                            UserCategoryScoreUpdater userCategoryScoreUpdater,
+                            @Value("${click.ingest.queue-capacity:50000}") int queueCapacity,
+                            @Value("${click.ingest.max-batch-size:500}") int maxBatchSize,
+                            @Value("${click.ingest.batch-window-ms:200}") long batchWindowMs,
+                            @Value("${click.ingest.dedupe.max-entries:1000000}") long dedupeMaxEntries,
+                            @Value("${click.ingest.dedupe.ttl-hours:24}") long dedupeTtlHours) {
+        this.userClickBatchRepository = userClickBatchRepository;
+        this.idGenerator = idGenerator;
+        this.userProfileUpdateCoalescer = userProfileUpdateCoalescer;
+        this.userCategoryScoreUpdater = userCategoryScoreUpdater;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindowMs = batchWindowMs;
+        // (user, article) 한 쌍은 한 번만 저장하므로 최근에 본 쌍은 큐에 넣기 전에 걸러냄 (최종 중복 판단은 INSERT 조건)
+        this.recentClicks = Caffeine.newBuilder()
+                .maximumSize(dedupeMaxEntries)
+                .expireAfterWrite(Duration.ofHours(dedupeTtlHours))
+                .build();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::runWriter, "click-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 남은 큐는 종료 전에 마저 저장
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        List<ClickRow> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int from = 0; from < rest.size(); from += maxBatchSize) {
+            write(rest.subList(from, Math.min(rest.size(), from + maxBatchSize)));
+        }
+    }
+
+    /**
+     * 클릭 접수 (즉시 반환)
+     * @return 새 클릭으로 큐에 들어갔으면 true, 최근 중복이거나 큐가 가득 차 버렸으면 false
+     */
+    public boolean submit(Long userId, Long articleId) {
+        long key = pairKey(userId, articleId);
+        if (recentClicks.asMap().putIfAbsent(key, Boolean.TRUE) != null) {
+            return false;
+        }
+        ClickRow row = new ClickRow(idGenerator.nextId(), userId, articleId, LocalDateTime.now());
+        if (!queue.offer(row)) {
+            // 저장하지 못했으므로 다음 클릭 때 다시 시도할 수 있게 중복 표시 해제
+            recentClicks.invalidate(key);
+            if (dropped.incrementAndGet() % 1000 == 1) {
+                log.warn("클릭 로그 큐 포화 - 누적 {}건 버림 (용량 {})", dropped.get(), queue.remainingCapacity() + queue.size());
+            }
+            return false;
+        }
+        return true;
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void runWriter() {
+        List<ClickRow> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                // 첫 클릭 이후 잠깐 더 모아서 한 번에 저장
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWindowMs);
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    if (batch.size() >= maxBatchSize) break;
+                    ClickRow next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // 꺼낸 배치는 버리지 않고 stop()에서 마저 저장하도록 큐에 되돌림
+                batch.forEach(queue::offer);
+                return;
+            } catch (Exception e) {
+                log.error("클릭 로그 배치 처리 중 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<ClickRow> batch) {
+        if (batch.isEmpty()) return;
+        int[] results;
+        try {
+            results = userClickBatchRepository.insertIfAbsent(batch);
+        } catch (Exception e) {
+            // 배치 단위 실패 → 건별로 다시 시도해 문제 있는 클릭만 버림
+            log.warn("클릭 로그 배치 저장 실패 - {}건 건별 재시도: {}", batch.size(), e.getMessage());
+            results = new int[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                ClickRow row = batch.get(i);
+                try {
+                    results[i] = userClickBatchRepository.insertIfAbsent(List.of(row))[0];
+                } catch (Exception single) {
+                    recentClicks.invalidate(pairKey(row.userId(), row.articleId()));
+                    log.warn("클릭 로그 저장 실패 - userId: {}, articleId: {}, 오류: {}",
+                            row.userId(), row.articleId(), single.getMessage());
+                }
+            }
+        }
+
+        // 새로 저장된 클릭만 맞춤 피드 프로필 갱신 예약 + 카테고리 선호 점수 반영 (드라이버가 건수를 모르면 저장된 것으로 간주)
+        Set<Long> touchedUsers = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (results[i] == 0) continue;
+            ClickRow row = batch.get(i);
+            touchedUsers.add(row.userId());
+            userCategoryScoreUpdater.record(row.userId(), row.articleId(), UserCategoryScoreUpdater.Action.CLICK, 1f);
+        }
+        touchedUsers.forEach(userProfileUpdateCoalescer::markDirty);
+    }
+
+    // userId 상위 32비트, articleId 하위 32비트로 합친 중복 확인 키 (박싱된 문자열 키보다 가벼움)
+    private static long pairKey(Long userId, Long articleId) {
+        return (userId << 32) ^ (articleId & 0xFFFFFFFFL);
+    }
+}
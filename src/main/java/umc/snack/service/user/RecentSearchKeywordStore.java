@@ -0,0 +1,170 @@
+package umc.snack.service.user;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import umc.snack.common.config.SchedulerConfig;
+import umc.snack.domain.user.entity.SearchKeyword;
+import umc.snack.repository.user.SearchKeywordBatchRepository;
+import umc.snack.repository.user.SearchKeywordBatchRepository.KeywordRow;
+import umc.snack.repository.user.SearchKeywordRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 최근 검색어 (인메모리, 최대 CAPACITY개) + write-behind 저장
+ * - 검색 시 메모리 목록 맨 앞으로 옮기고 끝을 잘라낸 뒤, DB 반영은 주기적으로 모아서 처리
+ * - 조회(최근 검색어 API, 맞춤 피드 프로필)는 메모리 목록만 읽음, 없으면 DB에서 한 번 적재
+ * - DB 반영: 사용자·검색어별 upsert 배치 + 사용자별 trim 한 문장
+ */
+@Slf4j
+@Component
+public class RecentSearchKeywordStore {
+
+    public static final int CAPACITY = 10;
+
+    private final SearchKeywordRepository searchKeywordRepository;
+    private final SearchKeywordBatchRepository searchKeywordBatchRepository;
+    private final LoadingCache<Long, Recent> recentByUser;
+
+    // 아직 DB에 반영되지 않은 검색 (userId → 검색어 → 마지막 검색 시각)
+    private final Map<Long, Map<String, LocalDateTime>> pending = new ConcurrentHashMap<>();
+    // flush가 꺼내 DB에 쓰는 중인 검색 (커밋 전까지 캐시 미스 적재에서 함께 합침)
+    private final Map<Long, Map<String, LocalDateTime>> inFlight = new ConcurrentHashMap<>();
+
+    public RecentSearchKeywordStore(SearchKeywordRepository searchKeywordRepository,
+                                    SearchKeywordBatchRepository searchKeywordBatchRepository,
+                                    @Value("${search.keyword.cache.max-users:100000}") long maxUsers,
+                                    @Value("${search.keyword.cache.ttl-minutes:60}") long ttlMinutes) {
+        this.searchKeywordRepository = searchKeywordRepository;
+        this.searchKeywordBatchRepository = searchKeywordBatchRepository;
+        this.recentByUser = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .build(this::load);
+    }
+
+    /**
+     * 최근 검색어 (최신순)
+     */
+    public List<String> recent(Long userId) {
+        return recentByUser.get(userId).snapshot();
+    }
+
+    public void record(Long userId, String keyword) {
+        LocalDateTime now = LocalDateTime.now();
+        recentByUser.get(userId).push(keyword);
+        pending.compute(userId, (id, keywords) -> {
+            Map<String, LocalDateTime> next = keywords == null ? new LinkedHashMap<>() : keywords;
+            next.put(keyword, now);
+            return next;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${search.keyword.flush-interval-ms:1000}", scheduler = SchedulerConfig.FLUSH_SCHEDULER)
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+
+        // 대기열에서 빼기 전에 inFlight에 먼저 올려서, 적재 중인 조회가 어느 쪽에서든 보게 함
+        Map<Long, Map<String, LocalDateTime>> taken = new HashMap<>();
+        for (Long userId : new ArrayList<>(pending.keySet())) {
+            pending.computeIfPresent(userId, (id, keywords) -> {
+                inFlight.put(id, keywords);
+                taken.put(id, keywords);
+                return null;
+            });
+        }
+        if (taken.isEmpty()) return;
+
+        List<KeywordRow> rows = new ArrayList<>();
+        taken.forEach((userId, keywords) ->
+                keywords.forEach((keyword, at) -> rows.add(new KeywordRow(userId, keyword, at))));
+        List<Long> userIds = new ArrayList<>(taken.keySet());
+        Collections.sort(userIds);
+
+        try {
+            searchKeywordBatchRepository.upsert(rows);
+            searchKeywordBatchRepository.trim(userIds, CAPACITY);
+        } catch (Exception e) {
+            // 실패한 묶음은 다시 대기열로 (그 사이 들어온 더 최근 검색이 있으면 그 값을 유지)
+            // 복사본을 넣어 inFlight에 남아 있는 맵은 record()가 수정하지 않게 함
+            taken.forEach((userId, keywords) -> pending.merge(userId, new LinkedHashMap<>(keywords), (failed, newer) -> {
+                Map<String, LocalDateTime> merged = new LinkedHashMap<>(failed);
+                merged.putAll(newer);
+                return merged;
+            }));
+            log.warn("최근 검색어 반영 실패 - 사용자 {}명, 다음 주기에 재시도: {}", userIds.size(), e.getMessage());
+        } finally {
+            // 커밋됐으면 DB에, 실패했으면 다시 대기열에 있으므로 제거
+            taken.keySet().forEach(inFlight::remove);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 캐시 미스: DB 최근 목록 + 아직 반영 안 된(대기 중 / 쓰는 중) 검색을 합쳐서 구성
+    // 반영 안 된 검색을 DB보다 먼저 읽음 - 그 사이 커밋된 검색은 DB 조회에 나오므로 어느 시점이든 빠지지 않음
+    // pending의 맵은 record()가 같은 키의 compute 안에서 수정하므로 같은 잠금(computeIfPresent) 안에서 복사
+    // inFlight의 맵은 대기열에서 꺼낸 뒤로 수정되지 않음
+    private Recent load(Long userId) {
+        Map<String, LocalDateTime> unsaved = new HashMap<>();
+        pending.computeIfPresent(userId, (id, keywords) -> {
+            mergeLatest(unsaved, keywords);
+            return keywords;
+        });
+        mergeLatest(unsaved, inFlight.get(userId));
+
+        Recent recent = new Recent();
+        List<SearchKeyword> stored = searchKeywordRepository.findTop10ByUserIdOrderByCreatedAtDesc(userId);
+        for (int i = stored.size() - 1; i >= 0; i--) {
+            recent.push(stored.get(i).getKeyword());
+        }
+        unsaved.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .forEach(e -> recent.push(e.getKey()));
+        return recent;
+    }
+
+    private static void mergeLatest(Map<String, LocalDateTime> into, Map<String, LocalDateTime> from) {
+        if (from == null) return;
+        from.forEach((keyword, at) -> into.merge(keyword, at,
+                (a, b) -> a.isAfter(b) ? a : b));
+    }
+
+    /**
+     * 최신순 고정 크기 목록 (같은 검색어는 맨 앞으로 이동)
+     */
+    static final class Recent {
+        private final String[] items = new String[CAPACITY];
+        private int size;
+
+        synchronized void push(String keyword) {
+            int found = -1;
+            for (int i = 0; i < size; i++) {
+                if (items[i].equals(keyword)) {
+                    found = i;
+                    break;
+                }
+            }
+            // 기존 위치(없으면 마지막 칸)까지 한 칸씩 뒤로 밀고 맨 앞에 기록
+            int shiftEnd = found >= 0 ? found : Math.min(size, CAPACITY - 1);
+            System.arraycopy(items, 0, items, 1, shiftEnd);
+            items[0] = keyword;
+            if (found < 0 && size < CAPACITY) size++;
+        }
+
+        synchronized List<String> snapshot() {
+            return List.of(Arrays.copyOf(items, size));
+        }
+    }
+}
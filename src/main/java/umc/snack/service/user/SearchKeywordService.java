@@ -1,59 +1,38 @@
 package umc.snack.service.user;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import umc.snack.common.exception.CustomException;
 import umc.snack.common.exception.ErrorCode;
-import umc.snack.domain.user.entity.SearchKeyword;
-import umc.snack.repository.user.SearchKeywordRepository;
+import umc.snack.service.feed.UserProfileUpdateCoalescer;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SearchKeywordService {
 
-    private final SearchKeywordRepository repository;
+    private final RecentSearchKeywordStore recentSearchKeywordStore;
+    private final UserProfileUpdateCoalescer userProfileUpdateCoalescer;
 
-    @Cacheable(value = "searchKeyword", key = "#userId")
     public List<String> getRecentKeywords(Long userId) {
         try {
-            return repository.findTop10ByUserIdOrderByCreatedAtDesc(userId)
-                    .stream()
-                    .map(SearchKeyword::getKeyword)
-                    .collect(Collectors.toList());
+            return recentSearchKeywordStore.recent(userId);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.SEARCH_9401);
         }
     }
 
-    @Transactional
-    @CacheEvict(value = "searchKeyword", key = "#userId")
+    /**
+     * 최근 검색어 기록: 메모리 목록만 갱신하고 DB 반영은 RecentSearchKeywordStore가 모아서 처리
+     */
     public void saveKeyword(Long userId, String keyword) {
+        if (keyword == null || keyword.isBlank()) return;
         try {
-            Optional<SearchKeyword> existing = repository.findByUserIdAndKeyword(userId, keyword);
+            recentSearchKeywordStore.record(userId, keyword.trim());
 
-            if (existing.isPresent()) {
-                SearchKeyword history = existing.get();
-                history.setCreatedAt(LocalDateTime.now());
-            } else {
-                SearchKeyword keywordEntity = SearchKeyword.builder()
-                        .userId(userId)
-                        .keyword(keyword)
-                        .build();
-                repository.save(keywordEntity);
-            }
-
-            List<SearchKeyword> all = repository.findAllByUserIdOrderByCreatedAtDesc(userId);
-            if (all.size() > 10) {
-                repository.deleteAll(all.subList(10, all.size()));
-            }
+            // 맞춤 피드 프로필 갱신 예약 (비동기 일괄 처리)
+            userProfileUpdateCoalescer.markDirty(userId);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.SEARCH_9400);
         }
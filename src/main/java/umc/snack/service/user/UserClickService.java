@@ -14,31 +14,20 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class UserClickService {
     
     private final UserClickRepository userClickRepository;
-    
+    private final ClickLogIngestor clickLogIngestor;
+
+    /**
+     * 클릭 로그 접수: 요청 스레드에서는 큐에 넣기만 하고 저장은 ClickLogIngestor가 배치로 처리
+     * - 같은 사용자·기사 중복 클릭은 메모리에서 먼저 거르고, 저장 시 INSERT 조건으로 한 번 더 거름
+     */
     public void saveUserClick(UserClicksDto userClicksDto) {
-        try {
-            // 중복 클릭 방지: 같은 사용자가 같은 기사를 이미 클릭했는지 확인
-            boolean exists = userClickRepository.existsByUserIdAndArticleId(
-                userClicksDto.getUserId(), 
-                userClicksDto.getArticleId()
-            );
-            
-            if (!exists) {
-                UserClicks userClick = UserClicks.builder()
-                    .clickId(System.currentTimeMillis()) // 현재 시간을 clickId로 사용
-                    .userId(userClicksDto.getUserId())
-                    .articleId(userClicksDto.getArticleId())
-                    .build();
-                
-                userClickRepository.save(userClick);
-            }
-        } catch (Exception e) {
+        if (userClicksDto.getUserId() == null || userClicksDto.getArticleId() == null) {
             throw new CustomException(ErrorCode.CLICK_9400);
         }
+        clickLogIngestor.submit(userClicksDto.getUserId(), userClicksDto.getArticleId());
     }
     
     @Transactional(readOnly = true)
@@ -0,0 +1,43 @@
+package umc.snack.common.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PipelineMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PipelineMetrics metrics = new PipelineMetrics(registry);
+
+    @Test
+    @DisplayName("거절 사유와 호스트별 조회 지연은 태그별로 따로 쌓인다")
+    void recordsPerTag() {
+        metrics.rejected("invalid_body");
+        metrics.rejected("invalid_body");
+        metrics.rejected("already_crawled", 5);
+        metrics.rejected("near_duplicate", 0);
+        metrics.fetch("n.news.naver.com", TimeUnit.MILLISECONDS.toNanos(120), PipelineMetrics.OK);
+        metrics.fetch("news.naver.com", TimeUnit.MILLISECONDS.toNanos(80), PipelineMetrics.OK);
+
+        assertThat(registry.get("snack.crawl.rejected").tag("reason", "invalid_body").counter().count()).isEqualTo(2);
+        assertThat(registry.get("snack.crawl.rejected").tag("reason", "already_crawled").counter().count()).isEqualTo(5);
+        assertThat(registry.find("snack.crawl.rejected").tag("reason", "near_duplicate").counter()).isNull();
+        assertThat(registry.get("snack.crawl.fetch").tag("host", "n.news.naver.com").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("READY 지연은 발행/수집 시각 기준으로 기록하고, 시각이 없으면 건너뛴다")
+    void readyLatency() {
+        metrics.articleReady(LocalDateTime.now().minusHours(3), null);
+
+        assertThat(registry.get("snack.article.ready.latency").tag("from", "published").timer()
+                .totalTime(TimeUnit.MINUTES)).isBetween(179.0, 181.0);
+        assertThat(registry.find("snack.article.ready.latency").tag("from", "crawled").timer()).isNull();
+    }
+}
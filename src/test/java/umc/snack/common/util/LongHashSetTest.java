@@ -0,0 +1,44 @@
+package umc.snack.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("확장을 거쳐도 HashSet과 같은 멤버십을 유지한다")
+    void addAndContains_matchHashSetAcrossResizes() {
+        LongHashSet set = new LongHashSet(4);
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            long value = random.nextInt(100_000) * 10_000_000_000_000L / 100_000 + random.nextInt(1000);
+            assertThat(set.add(value)).isEqualTo(expected.add(value));
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (long value : expected) {
+            assertThat(set.contains(value)).isTrue();
+        }
+        assertThat(set.contains(-1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("0도 일반 값처럼 저장한다")
+    void zeroIsStoredLikeAnyValue() {
+        LongHashSet set = new LongHashSet();
+
+        assertThat(set.contains(0L)).isFalse();
+        assertThat(set.add(0L)).isTrue();
+        assertThat(set.add(0L)).isFalse();
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+    }
+}
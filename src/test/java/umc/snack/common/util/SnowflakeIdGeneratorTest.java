@@ -0,0 +1,36 @@
+package umc.snack.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 ID가 겹치지 않는다")
+    void nextId_uniqueUnderConcurrency() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 200_000).parallel().forEach(i -> ids.add(generator.nextId()));
+
+        assertThat(ids).hasSize(200_000);
+    }
+
+    @Test
+    @DisplayName("같은 노드에서 생성한 ID는 단조 증가한다")
+    void nextId_monotonic() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+}
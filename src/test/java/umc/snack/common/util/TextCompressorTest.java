@@ -0,0 +1,42 @@
+package umc.snack.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TextCompressorTest {
+
+    private static final String ARTICLE = String.join(" ",
+            "(서울=연합뉴스) 김철수 기자 = 지난해 반도체 수출이 전년 대비 20% 감소한 것으로 나타났다.",
+            "산업통상자원부는 이날 오전 발표한 자료에서 올해 상반기 수출이 회복세로 돌아설 것으로 예상된다고 밝혔다.",
+            "정부 관계자는 \"하반기에는 인공지능(AI) 수요 증가로 반도체 업황이 개선될 것\"이라고 말했다.",
+            "한편 코스피는 외국인 매수세에 힘입어 전 거래일 대비 1.2% 오른 2,650선에서 마감했다.",
+            "전문가들은 금리 인하 시점과 환율 흐름이 향후 증시 방향을 가를 것으로 보인다고 설명했다.",
+            "저작권자(c) 연합뉴스, 무단 전재-재배포 금지");
+
+    @Test
+    @DisplayName("기사 본문은 원문보다 작게 압축되고 그대로 복원된다")
+    void compressesArticleAndRoundTrips() {
+        byte[] stored = TextCompressor.compress(ARTICLE);
+
+        assertThat(stored.length).isLessThan(ARTICLE.getBytes(StandardCharsets.UTF_8).length * 3 / 4);
+        assertThat(TextCompressor.decompress(stored)).isEqualTo(ARTICLE);
+    }
+
+    @Test
+    @DisplayName("짧은 문자열과 null도 복원되고, 잘린 값은 오류로 알린다")
+    void handlesShortNullAndTruncatedValues() {
+        assertThat(TextCompressor.decompress(TextCompressor.compress("속보"))).isEqualTo("속보");
+        assertThat(TextCompressor.decompress(TextCompressor.compress(""))).isEmpty();
+        assertThat(TextCompressor.compress(null)).isNull();
+
+        byte[] stored = TextCompressor.compress(ARTICLE);
+        byte[] truncated = Arrays.copyOf(stored, stored.length / 2);
+        assertThatThrownBy(() -> TextCompressor.decompress(truncated)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -4,32 +4,68 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import umc.snack.common.cache.ContentVersions;
+import umc.snack.common.cache.SerializedResponseCache;
+import umc.snack.common.exception.CustomException;
+import umc.snack.common.exception.ErrorCode;
 import umc.snack.domain.feed.dto.ArticleInFeedDto;
+import umc.snack.domain.feed.dto.FeedCursor;
 import umc.snack.domain.feed.dto.IndividualArticleDto;
 import umc.snack.service.feed.FeedService;
+import umc.snack.service.feed.UserCategoryScoreUpdater;
+import umc.snack.service.feed.trending.TrendingService;
+import umc.snack.service.user.SearchKeywordService;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(FeedController.class)
+@Import({SerializedResponseCache.class, ContentVersions.class, FeedControllerTest.CacheTestConfig.class})
 class FeedControllerTest {
 
+    @TestConfiguration
+    static class CacheTestConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockitoBean
     private FeedService feedService;
 
+    @MockitoBean
+    private SearchKeywordService searchKeywordService;
+
+    @MockitoBean
+    private TrendingService trendingService;
+
+    @MockitoBean
+    private UserCategoryScoreUpdater userCategoryScoreUpdater;
+
     @Test
     @DisplayName("카테고리별 피드 첫 페이지 조회 성공")
     @WithMockUser
@@ -45,7 +81,7 @@ class FeedControllerTest {
                 ))
                 .build();
 
-        given(feedService.getMainFeedByCategory(eq(category), eq(null), any())).willReturn(mockResponse);
+        given(feedService.getMainFeedByCategories(eq(List.of(category)), eq(null), any())).willReturn(mockResponse);
 
         // when & then: URL에서 {category} 제거, .param()으로 추가
         mockMvc.perform(get("/api/feeds/main")
@@ -60,7 +96,7 @@ class FeedControllerTest {
     void getMainFeedArticles_nextPage_success() throws Exception {
         // given
         String category = "경제";
-        Long lastArticleId = 100L;
+        String cursor = new FeedCursor(LocalDateTime.of(2025, 8, 1, 9, 0), 100L).encode();
         ArticleInFeedDto mockResponse = ArticleInFeedDto.builder()
                 .category("경제")
                 .hasNext(false)
@@ -68,13 +104,58 @@ class FeedControllerTest {
                 .articles(Collections.emptyList())
                 .build();
 
-        given(feedService.getMainFeedByCategory(eq(category), eq(lastArticleId), any())).willReturn(mockResponse);
+        given(feedService.getMainFeedByCategories(eq(List.of(category)), eq(cursor), any())).willReturn(mockResponse);
 
         // when & then: URL에서 {category} 제거, .param()으로 추가
         mockMvc.perform(get("/api/feeds/main")
                         .param("category", category)
-                        .param("lastArticleId", String.valueOf(lastArticleId)))
+                        .param("cursor", cursor))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.result.category").value("경제"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("같은 버전의 ETag로 재요청하면 조회 없이 304")
+    @WithMockUser
+    void getMainFeedArticles_notModified() throws Exception {
+        String category = "경제";
+        ArticleInFeedDto mockResponse = ArticleInFeedDto.builder()
+                .category("경제")
+                .hasNext(false)
+                .articles(Collections.emptyList())
+                .build();
+        given(feedService.getMainFeedByCategories(eq(List.of(category)), eq(null), any())).willReturn(mockResponse);
+
+        String etag = mockMvc.perform(get("/api/feeds/main").param("category", category))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/feeds/main")
+                        .param("category", category)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verify(feedService, times(1)).getMainFeedByCategories(eq(List.of(category)), eq(null), any());
+    }
+
+    @Test
+    @DisplayName("ETag가 같아도 잘못된 요청이면 304가 아닌 오류 응답")
+    @WithMockUser
+    void getMainFeedArticles_invalidRequestWithMatchingEtag() throws Exception {
+        String category = "경제";
+        given(feedService.getMainFeedByCategories(eq(List.of(category)), eq(null), any()))
+                .willReturn(ArticleInFeedDto.builder().category(category).hasNext(false).articles(Collections.emptyList()).build());
+
+        String etag = mockMvc.perform(get("/api/feeds/main").param("category", category))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        willThrow(new CustomException(ErrorCode.FEED_9601)).given(feedService).validateMainFeedRequest(eq(List.of("없는카테고리")), any());
+
+        mockMvc.perform(get("/api/feeds/main")
+                        .param("category", "없는카테고리")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isBadRequest());
+    }
+}
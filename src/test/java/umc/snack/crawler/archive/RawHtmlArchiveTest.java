@@ -0,0 +1,79 @@
+package umc.snack.crawler.archive;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import umc.snack.crawler.service.ArticleExtractor;
+import umc.snack.crawler.service.CrawlCandidate;
+import umc.snack.crawler.service.NaverUrlKey;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RawHtmlArchiveTest {
+
+    private static final String URL = "https://n.news.naver.com/mnews/article/028/0002750000?sid=100";
+    private static final String HTML = "<html><head><title>재추출 테스트 제목</title></head><body>"
+            + "<div id=\"dic_area\">" + "한글 본문 문장입니다. ".repeat(20) + "</div>"
+            + "<span class=\"media_end_head_journalist_name\">홍길동 기자</span>"
+            + "<span class=\"_ARTICLE_DATE_TIME\" data-date-time=\"2025-07-17 15:24:17\"></span>"
+            + "</body></html>";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("보관한 원문을 다시 열어도 읽을 수 있고, 네트워크 없이 추출기로 재생된다")
+    void appendReopenAndReplay() {
+        RawHtmlArchive archive = new RawHtmlArchive(dir.toString(), 1024, true);
+        archive.open();
+        archive.append(URL, HTML);
+        for (int i = 1; i <= 50; i++) {
+            archive.append("https://n.news.naver.com/article/025/" + i, "<p>" + i + "</p>");
+        }
+        archive.close();
+
+        // 작은 세그먼트 크기로 여러 파일에 나눠 기록됨
+        RawHtmlArchive reopened = new RawHtmlArchive(dir.toString(), 1024, true);
+        reopened.open();
+        assertThat(reopened.size()).isEqualTo(51);
+
+        RawHtmlArchive.ArchivedPage page = reopened.read(NaverUrlKey.pack(URL)).orElseThrow();
+        assertThat(page.url()).isEqualTo(URL);
+        assertThat(page.html()).isEqualTo(HTML);
+
+        CrawlCandidate replayed = new ArticleExtractor().extract(page.url(), Jsoup.parse(page.html(), page.url()));
+        assertThat(replayed.title()).isEqualTo("재추출 테스트 제목");
+        assertThat(replayed.author()).isEqualTo("홍길동");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("색인이 없거나 마지막 레코드가 잘려도 세그먼트를 다시 읽어 복구한다")
+    void rebuildsIndexAndDropsTornTail() throws Exception {
+        RawHtmlArchive archive = new RawHtmlArchive(dir.toString(), 1 << 20, true);
+        archive.open();
+        archive.append(URL, HTML);
+        archive.append("https://n.news.naver.com/article/025/1", "<p>1</p>");
+        archive.close();
+
+        // 색인 삭제 + 쓰다 만 레코드 흉내
+        Files.delete(dir.resolve("index.idx"));
+        Files.write(dir.resolve("segment-000001.raw"), new byte[]{0x52, 0x41, 0x57}, StandardOpenOption.APPEND);
+
+        RawHtmlArchive recovered = new RawHtmlArchive(dir.toString(), 1 << 20, true);
+        recovered.open();
+        assertThat(recovered.size()).isEqualTo(2);
+        assertThat(recovered.read(NaverUrlKey.pack(URL)).orElseThrow().html()).isEqualTo(HTML);
+
+        // 잘린 꼬리를 잘라낸 뒤에 이어 쓴 레코드도 정상
+        recovered.append("https://n.news.naver.com/article/025/2", "<p>2</p>");
+        assertThat(recovered.read(NaverUrlKey.pack("https://n.news.naver.com/article/025/2")).orElseThrow().html())
+                .isEqualTo("<p>2</p>");
+        recovered.close();
+    }
+}
@@ -0,0 +1,20 @@
+package umc.snack.crawler.fetch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PoliteFetcherTest {
+
+    @Test
+    @DisplayName("같은 사이트의 여러 호스트는 하나의 등록 도메인으로 묶는다")
+    void siteOf_groupsHostsByRegistrableDomain() {
+        assertThat(PoliteFetcher.siteOf("n.news.naver.com")).isEqualTo("naver.com");
+        assertThat(PoliteFetcher.siteOf("news.naver.com")).isEqualTo("naver.com");
+        assertThat(PoliteFetcher.siteOf("naver.com")).isEqualTo("naver.com");
+        assertThat(PoliteFetcher.siteOf("www.hani.co.kr")).isEqualTo("hani.co.kr");
+        assertThat(PoliteFetcher.siteOf("127.0.0.1")).isEqualTo("127.0.0.1");
+        assertThat(PoliteFetcher.siteOf("unknown")).isEqualTo("unknown");
+    }
+}
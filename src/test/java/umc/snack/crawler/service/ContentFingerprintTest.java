@@ -0,0 +1,58 @@
+package umc.snack.crawler.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentFingerprintTest {
+
+    private static final Random RANDOM = new Random(7);
+    private static final String[] WORDS = new String[3000];
+
+    static {
+        for (int i = 0; i < WORDS.length; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int j = 0, len = 2 + RANDOM.nextInt(3); j < len; j++) {
+                word.append((char) (0xAC00 + RANDOM.nextInt(2350)));
+            }
+            WORDS[i] = word.toString();
+        }
+    }
+
+    @Test
+    @DisplayName("머리말/저작권 문구만 다른 통신 기사는 같은 기사로 찾고, 다른 기사는 찾지 않는다")
+    void findsWireCopiesButNotUnrelatedArticles() {
+        MinHashLsh table = new MinHashLsh();
+        String body = article(300);
+        table.put(ContentFingerprint.signature("(서울=연합뉴스) 김철수 기자 = " + body + " 저작권자(c) 연합뉴스, 무단 전재-재배포 금지"), 1L);
+        for (long id = 2; id <= 200; id++) {
+            table.put(ContentFingerprint.signature(article(300)), id);
+        }
+
+        int[] copy = ContentFingerprint.signature("[한겨레] 이영희 기자 " + body + " ⓒ 한겨레신문사 무단전재 및 재배포 금지");
+        int[] unrelated = ContentFingerprint.signature(article(300));
+
+        assertThat(table.findMostSimilar(copy, 0.8)).hasValue(1L);
+        assertThat(table.findMostSimilar(unrelated, 0.8)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("짧은 본문은 지문을 만들지 않고, 저장 형식으로 왕복해도 같은 지문이다")
+    void shortTextHasNoSignatureAndBytesRoundTrip() {
+        assertThat(ContentFingerprint.signature("짧은 속보 한 줄")).isNull();
+
+        int[] signature = ContentFingerprint.signature(article(100));
+        assertThat(ContentFingerprint.fromBytes(ContentFingerprint.toBytes(signature))).containsExactly(signature);
+    }
+
+    private static String article(int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sb.append(WORDS[RANDOM.nextInt(WORDS.length)]).append(i % 12 == 11 ? ". " : " ");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package umc.snack.crawler.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuotaTrackerTest {
+
+    @Test
+    @DisplayName("동시에 채택을 시도해도 카테고리 목표와 언론사 상한을 넘지 않는다")
+    void tryClaim_honoursQuotasUnderConcurrency() {
+        QuotaTracker quota = new QuotaTracker(Map.of("100", 3, "101", 2), 2);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 200; i++) {
+                int n = i;
+                String sid1 = n % 2 == 0 ? "100" : "101";
+                String oid = String.format("%03d", n % 4);
+                executor.submit(() -> quota.tryClaim(sid1, oid, oid + ":" + n, "title-" + n, candidate("https://n.news.naver.com/article/" + oid + "/" + n)));
+            }
+        }
+
+        assertThat(quota.accepted()).hasSize(5);
+        assertThat(quota.pickedInCategory("100")).isEqualTo(3);
+        assertThat(quota.pickedInCategory("101")).isEqualTo(2);
+        assertThat(quota.pickedPerPublisher().values()).allMatch(count -> count <= 2);
+    }
+
+    @Test
+    @DisplayName("같은 URL이나 같은 정규화 제목은 한 번만 채택한다")
+    void tryClaim_rejectsBatchDuplicates() {
+        QuotaTracker quota = new QuotaTracker(Map.of("100", 5), 0);
+
+        assertThat(quota.tryClaim("100", "028", "028:1", "제목", candidate("a"))).isEqualTo(QuotaTracker.Claim.ACCEPTED);
+        assertThat(quota.tryClaim("100", "025", "028:1", "다른 제목", candidate("b"))).isEqualTo(QuotaTracker.Claim.DUPLICATE);
+        assertThat(quota.tryClaim("100", "025", "025:2", "제목", candidate("c"))).isEqualTo(QuotaTracker.Claim.DUPLICATE);
+        assertThat(quota.accepted()).extracting(CrawlCandidate::url).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("유사 기사는 할당량을 쓰지 않고 따로 모으며, 같은 URL은 다시 채택하지 않는다")
+    void addNearDuplicate_keepsQuotaAndBlocksUrl() {
+        QuotaTracker quota = new QuotaTracker(Map.of("100", 1), 0);
+
+        assertThat(quota.addNearDuplicate("028:1", candidate("a"))).isTrue();
+        assertThat(quota.addNearDuplicate("028:1", candidate("a"))).isFalse();
+        assertThat(quota.tryClaim("100", "028", "028:1", "제목", candidate("a"))).isEqualTo(QuotaTracker.Claim.DUPLICATE);
+        assertThat(quota.isOpen("100", "028")).isTrue();
+        assertThat(quota.nearDuplicates()).extracting(CrawlCandidate::url).containsExactly("a");
+        assertThat(quota.accepted()).isEmpty();
+    }
+
+    private CrawlCandidate candidate(String url) {
+        return new CrawlCandidate(url, "제목", "본문", "기자", null);
+    }
+}
@@ -0,0 +1,59 @@
+package umc.snack.domain.feed.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import umc.snack.common.exception.CustomException;
+import umc.snack.common.exception.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeedCursorTest {
+
+    @Test
+    @DisplayName("커서 토큰 인코딩/디코딩 왕복")
+    void encodeAndDecode() {
+        FeedCursor cursor = new FeedCursor(LocalDateTime.of(2025, 8, 1, 9, 30, 15), 1234L);
+
+        FeedCursor decoded = FeedCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("발행일이 없는 기사의 커서도 왕복 가능")
+    void encodeAndDecode_withoutPublishedAt() {
+        FeedCursor cursor = new FeedCursor(null, 77L);
+
+        assertThat(FeedCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 토큰은 FEED_9603")
+    void decode_invalidToken() {
+        assertThatThrownBy(() -> FeedCursor.decode("not-a-cursor"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.FEED_9603);
+    }
+
+    @Test
+    @DisplayName("정렬 순서는 발행일 DESC, 기사 ID DESC, 발행일 없는 기사는 맨 뒤")
+    void newestFirstOrdering() {
+        LocalDateTime t = LocalDateTime.of(2025, 8, 1, 9, 0);
+        FeedCursor newest = new FeedCursor(t.plusHours(1), 1L);
+        FeedCursor sameTimeHigherId = new FeedCursor(t, 20L);
+        FeedCursor sameTimeLowerId = new FeedCursor(t, 10L);
+        FeedCursor undated = new FeedCursor(null, 99L);
+
+        List<FeedCursor> cursors = new ArrayList<>(List.of(undated, sameTimeLowerId, newest, sameTimeHigherId));
+        cursors.sort(FeedCursor.NEWEST_FIRST);
+
+        assertThat(cursors).containsExactly(newest, sameTimeHigherId, sameTimeLowerId, undated);
+        assertThat(newest.isBefore(undated)).isTrue();
+    }
+}
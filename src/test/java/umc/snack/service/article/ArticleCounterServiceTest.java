@@ -0,0 +1,112 @@
+package umc.snack.service.article;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import umc.snack.common.cache.ContentVersions;
+import umc.snack.repository.article.ArticleCounterRepository;
+import umc.snack.repository.article.ArticleCounterRepository.CounterDelta;
+import umc.snack.repository.article.ArticleCounterRepository.CounterRow;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleCounterServiceTest {
+
+    @Mock
+    private ArticleCounterRepository articleCounterRepository;
+
+    @Mock
+    private ContentVersions contentVersions;
+
+    @InjectMocks
+    private ArticleCounterService articleCounterService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(articleCounterService, "loadBatchSize", 100);
+        ReflectionTestUtils.setField(articleCounterService, "maxPendingUnknown", 1);
+        when(articleCounterRepository.findCountsAfter(anyLong(), anyInt()))
+                .thenReturn(List.of(new CounterRow(1L, 10, 2, 0), new CounterRow(2L, 0, 0, 0)));
+        articleCounterService.onApplicationReady();
+    }
+
+    @Test
+    @DisplayName("증분은 flush 전에도 노출 값에 포함되고, flush 시 기사별 한 건으로 묶여 반영된다")
+    void incrementThenFlush() {
+        articleCounterService.increment(1L, ArticleCounterService.Counter.VIEW);
+        articleCounterService.increment(1L, ArticleCounterService.Counter.VIEW);
+        articleCounterService.increment(1L, ArticleCounterService.Counter.SCRAP);
+        articleCounterService.decrement(2L, ArticleCounterService.Counter.SCRAP);
+
+        assertThat(articleCounterService.get(1L, ArticleCounterService.Counter.VIEW, 0)).isEqualTo(12);
+        assertThat(articleCounterService.get(1L, ArticleCounterService.Counter.SCRAP, 0)).isEqualTo(3);
+
+        articleCounterService.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CounterDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(articleCounterRepository).applyDeltas(captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                new CounterDelta(1L, 2, 1, 0),
+                new CounterDelta(2L, 0, -1, 0));
+
+        // 반영 후에도 노출 값은 그대로, 다음 flush는 보낼 것이 없음
+        assertThat(articleCounterService.get(1L, ArticleCounterService.Counter.VIEW, 0)).isEqualTo(12);
+        articleCounterService.flush();
+        verify(articleCounterRepository, times(1)).applyDeltas(anyList());
+    }
+
+    @Test
+    @DisplayName("DB 반영이 실패하면 증분을 유지했다가 다음 flush에서 다시 보낸다")
+    void flushFailure_retriesNextTime() {
+        articleCounterService.increment(1L, ArticleCounterService.Counter.SHARE);
+        doThrow(new RuntimeException("db down")).doReturn(new int[]{1}).when(articleCounterRepository).applyDeltas(anyList());
+
+        articleCounterService.flush();
+        articleCounterService.flush();
+
+        verify(articleCounterRepository, times(2)).applyDeltas(List.of(new CounterDelta(1L, 0, 0, 1)));
+        assertThat(articleCounterService.get(1L, ArticleCounterService.Counter.SHARE, 0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재된 적 없는 기사 ID의 조회수는 집계하지 않는다")
+    void unknownArticleView_ignored() {
+        articleCounterService.increment(999L, ArticleCounterService.Counter.VIEW);
+
+        articleCounterService.flush();
+
+        verify(articleCounterRepository, never()).applyDeltas(anyList());
+    }
+
+    @Test
+    @DisplayName("적재 전에 받은 조회수는 갱신된 행이 없으면 버리고, 모르는 기사는 상한까지만 보관한다")
+    void viewsBeforeWarmup_droppedWhenArticleMissing() {
+        ReflectionTestUtils.setField(articleCounterService, "warm", false);
+        articleCounterService.increment(999L, ArticleCounterService.Counter.VIEW);
+        articleCounterService.increment(998L, ArticleCounterService.Counter.VIEW); // 상한 초과
+        assertThat(articleCounterService.get(998L, ArticleCounterService.Counter.VIEW, 0)).isZero();
+        ReflectionTestUtils.setField(articleCounterService, "warm", true);
+
+        when(articleCounterRepository.applyDeltas(anyList())).thenReturn(new int[]{0});
+        articleCounterService.flush();
+
+        verify(articleCounterRepository).applyDeltas(List.of(new CounterDelta(999L, 1, 0, 0)));
+        assertThat(articleCounterService.get(999L, ArticleCounterService.Counter.VIEW, 0)).isZero();
+        articleCounterService.flush();
+        verify(articleCounterRepository, times(1)).applyDeltas(anyList());
+    }
+}
@@ -0,0 +1,117 @@
+package umc.snack.service.feed;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import umc.snack.converter.feed.FeedConverter;
+import umc.snack.domain.article.entity.Article;
+import umc.snack.domain.article.event.ArticleReadyEvent;
+import umc.snack.domain.feed.dto.FeedCursor;
+import umc.snack.domain.feed.dto.IndividualArticleDto;
+import umc.snack.repository.feed.FeedRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("FeedTimelineCache UnitTest")
+class FeedTimelineCacheTest {
+
+    private static final String CATEGORY = "경제";
+    private static final LocalDateTime BASE = LocalDateTime.now().minusDays(1);
+
+    @InjectMocks
+    private FeedTimelineCache cache;
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    @Mock
+    private CategoryRegistry categoryRegistry;
+
+    @Mock
+    private FeedConverter feedConverter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "capacity", 3);
+        ReflectionTestUtils.setField(cache, "maxAgeDays", 30L);
+        when(categoryRegistry.findIdByName(anyString())).thenReturn(Optional.empty());
+        when(categoryRegistry.findIdByName(CATEGORY)).thenReturn(Optional.of(1L));
+        when(categoryRegistry.exists(CATEGORY)).thenReturn(true);
+        when(feedConverter.toIndividualArticleDto(any())).thenAnswer(inv -> card(inv.getArgument(0)));
+
+        // DB에는 10, 9, 8, 7 (최신순) → 용량 3이라 7은 잘려서 타임라인은 truncated
+        when(feedRepository.findFeedKeys(any(), any())).thenReturn(List.of(key(10), key(9), key(8), key(7)));
+        List<Article> retained = List.of(article(10), article(9), article(8));
+        when(feedRepository.findAllWithCategoriesByIdIn(List.of(10L, 9L, 8L))).thenReturn(retained);
+        cache.rebuildAll();
+    }
+
+    @Test
+    @DisplayName("잘린 타임라인 끝보다 오래된 기사는 넣지 않고, 경계를 넘는 페이지는 DB 조회로 넘긴다")
+    void onArticleReady_olderThanTruncatedTail_isNotInserted() {
+        Article old = article(5);
+        when(feedRepository.findAllWithCategoriesByIdIn(List.of(5L))).thenReturn(List.of(old));
+        cache.onArticleReady(new ArticleReadyEvent(5L));
+
+        FeedTimelineCache.TimelinePage first = cache.read(List.of(CATEGORY), null, 2).orElseThrow();
+        assertThat(first.cards()).extracting(IndividualArticleDto::getArticleId).containsExactly(10L, 9L);
+        assertThat(first.hasNext()).isTrue();
+
+        // 8 다음은 DB에만 있는 7이어야 하므로 캐시로 응답하지 않음 (5를 붙여 7을 건너뛰지 않음)
+        assertThat(cache.read(List.of(CATEGORY), first.lastKey(), 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잘린 타임라인이어도 최신 기사는 앞에 삽입된다")
+    void onArticleReady_newerArticle_isInserted() {
+        Article newer = article(11);
+        when(feedRepository.findAllWithCategoriesByIdIn(List.of(11L))).thenReturn(List.of(newer));
+        cache.onArticleReady(new ArticleReadyEvent(11L));
+
+        FeedTimelineCache.TimelinePage first = cache.read(List.of(CATEGORY), null, 2).orElseThrow();
+        assertThat(first.cards()).extracting(IndividualArticleDto::getArticleId).containsExactly(11L, 10L);
+    }
+
+    private static LocalDateTime publishedAt(long id) {
+        return BASE.minusHours(20 - id);
+    }
+
+    private static FeedRepository.FeedKey key(long id) {
+        return new FeedRepository.FeedKey() {
+            @Override public Long getArticleId() { return id; }
+            @Override public LocalDateTime getPublishedAt() { return publishedAt(id); }
+        };
+    }
+
+    private static Article article(long id) {
+        Article article = mock(Article.class);
+        when(article.getArticleId()).thenReturn(id);
+        when(article.getPublishedAt()).thenReturn(publishedAt(id));
+        return article;
+    }
+
+    private static IndividualArticleDto card(Article article) {
+        return IndividualArticleDto.builder()
+                .articleId(article.getArticleId())
+                .publishedAt(article.getPublishedAt())
+                .categories(List.of(CATEGORY))
+                .build();
+    }
+}
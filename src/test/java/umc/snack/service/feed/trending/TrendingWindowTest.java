@@ -0,0 +1,52 @@
+package umc.snack.service.feed.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingWindowTest {
+
+    private static final long BUCKET = 60_000L;
+
+    private TrendingWindow window() {
+        return new TrendingWindow(6, BUCKET, 2, 4, 1024, 3);
+    }
+
+    @Test
+    @DisplayName("최근 반응이 같은 양의 과거 반응보다 높은 점수를 받는다")
+    void top_prefersRecentActivity() {
+        TrendingWindow window = window();
+        window.add(1L, 10, 0);
+        window.add(2L, 10, 3 * BUCKET);
+
+        List<TrendingWindow.Scored> top = window.top(2, 3 * BUCKET);
+
+        assertThat(top).extracting(TrendingWindow.Scored::articleId).containsExactly(2L, 1L);
+        assertThat(top.get(1).score()).isLessThan(top.get(0).score());
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 반응은 집계에서 빠진다")
+    void top_dropsExpiredBuckets() {
+        TrendingWindow window = window();
+        window.add(1L, 10, 0);
+        window.add(2L, 1, 6 * BUCKET);
+
+        assertThat(window.top(5, 6 * BUCKET)).extracting(TrendingWindow.Scored::articleId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("후보가 가득 차면 점수가 가장 낮은 후보를 교체한다")
+    void add_replacesLowestCandidate() {
+        TrendingWindow window = window();
+        window.add(1L, 5, 0);
+        window.add(2L, 1, 0);
+        window.add(3L, 4, 0);
+        window.add(4L, 8, 0);
+
+        assertThat(window.top(5, 0)).extracting(TrendingWindow.Scored::articleId).containsExactly(4L, 1L, 3L);
+    }
+}
@@ -0,0 +1,32 @@
+package umc.snack.service.nlp;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NlpCooldown UnitTest")
+class NlpCooldownTest {
+
+    @Test
+    @DisplayName("장애를 기록하면 쿨다운 동안 장애 상태로 본다")
+    void trip_startsCooldown() {
+        NlpCooldown cooldown = new NlpCooldown();
+        ReflectionTestUtils.setField(cooldown, "cooldownSeconds", 30L);
+
+        assertFalse(cooldown.isCoolingDown());
+        cooldown.trip("test");
+        assertTrue(cooldown.isCoolingDown());
+    }
+
+    @Test
+    @DisplayName("쿨다운이 지나면 다시 호출을 허용한다")
+    void cooldownExpires() {
+        NlpCooldown cooldown = new NlpCooldown();
+        ReflectionTestUtils.setField(cooldown, "cooldownSeconds", 0L);
+
+        cooldown.trip("test");
+        assertFalse(cooldown.isCoolingDown());
+    }
+}
@@ -0,0 +1,92 @@
+package umc.snack.service.nlp.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VectorMatrix UnitTest")
+class VectorMatrixTest {
+
+    private static final int DIM = 37; // SIMD 레인 수로 나누어떨어지지 않는 차원 (나머지 처리 확인)
+
+    @Test
+    @DisplayName("top-k 결과가 스칼라 코사인 전체 정렬과 같다")
+    void topK_matchesBruteForce() {
+        Random random = new Random(7);
+        int rows = 20_000;
+        float[][] vectors = new float[rows][];
+        VectorMatrix matrix = new VectorMatrix(DIM, 16);
+        for (int i = 0; i < rows; i++) {
+            vectors[i] = randomVector(random);
+            matrix.put(i, vectors[i]);
+        }
+        float[] query = randomVector(random);
+
+        List<VectorMatrix.Scored> result = matrix.topK(query, 10);
+
+        List<Integer> expected = IntStream.range(0, rows).boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> cosine(query, vectors[i])).reversed())
+                .limit(10)
+                .toList();
+        assertEquals(expected, result.stream().map(s -> (int) s.id()).toList());
+        assertEquals(cosine(query, vectors[expected.get(0)]), result.get(0).score(), 1e-4);
+    }
+
+    @Test
+    @DisplayName("같은 id는 교체, 삭제 시 마지막 행이 빈 자리로 이동")
+    void putReplaceAndRemove() {
+        VectorMatrix matrix = new VectorMatrix(DIM, 16);
+        Random random = new Random(1);
+        float[] a = randomVector(random);
+        float[] b = randomVector(random);
+        matrix.put(1L, a);
+        matrix.put(2L, b);
+        matrix.put(1L, b);
+
+        assertEquals(2, matrix.size());
+        assertEquals(1.0f, matrix.topK(b, 2).get(1).score(), 1e-5);
+
+        assertTrue(matrix.remove(1L));
+        assertEquals(1, matrix.size());
+        assertEquals(2L, matrix.topK(a, 5).get(0).id());
+        assertFalse(matrix.put(3L, new float[DIM])); // 영벡터는 저장하지 않음
+    }
+
+    @Test
+    @DisplayName("neighbors는 저장된 행 기준 top-k에서 자기 자신을 뺀다")
+    void neighbors_excludesSelf() {
+        Random random = new Random(3);
+        VectorMatrix matrix = new VectorMatrix(DIM, 16);
+        for (int i = 0; i < 100; i++) {
+            matrix.put(i, randomVector(random));
+        }
+
+        List<VectorMatrix.Scored> neighbors = matrix.neighbors(42L, 5);
+
+        assertEquals(5, neighbors.size());
+        assertTrue(neighbors.stream().noneMatch(s -> s.id() == 42L));
+        assertTrue(matrix.neighbors(999L, 5).isEmpty());
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] v = new float[DIM];
+        for (int i = 0; i < DIM; i++) v[i] = random.nextFloat() * 2 - 1;
+        return v;
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0, na = 0, nb = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            na += a[i] * a[i];
+            nb += b[i] * b[i];
+        }
+        return dot / (Math.sqrt(na) * Math.sqrt(nb));
+    }
+}
@@ -0,0 +1,76 @@
+package umc.snack.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import umc.snack.domain.article.event.ArticleReadyEvent;
+import umc.snack.repository.article.ArticleRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LexicalArticleIndex UnitTest")
+class LexicalArticleIndexTest {
+
+    @InjectMocks
+    private LexicalArticleIndex index;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(articleRepository.findReadySearchDocsAfter(anyLong(), any())).thenReturn(List.of(
+                new Row(1L, "한은 기준금리 동결", "한국은행이 기준금리를 연 3.5%로 동결했다."),
+                new Row(2L, "대선 후보 첫 TV 토론", "대선을 앞두고 후보들이 경제 정책을 두고 맞붙었다."),
+                new Row(3L, "주담대 이자 상승세", "시중은행 대출 금리가 다시 오르고 있다.")
+        ));
+        index.onApplicationReady();
+    }
+
+    @Test
+    @DisplayName("제목에 포함된 기사가 요약에만 포함된 기사보다 앞선다")
+    void search_titleMatchRanksFirst() {
+        List<LexicalArticleIndex.Hit> hits = index.search("금리", 10);
+
+        assertEquals(List.of(1L, 3L), hits.stream().map(h -> h.doc().articleId()).toList());
+        assertTrue(hits.get(0).score() > 0 && hits.get(0).score() <= 1);
+    }
+
+    @Test
+    @DisplayName("요약이 갱신되면 이전 색인은 결과에서 제외된다")
+    void onArticleReady_reindexesArticle() {
+        when(articleRepository.findReadySearchDocsByIdIn(List.of(2L)))
+                .thenReturn(List.of(new Row(2L, "대선 후보 토론", "부동산 정책 공방")));
+
+        index.onArticleReady(new ArticleReadyEvent(2L));
+
+        assertTrue(index.search("경제", 10).isEmpty());
+        assertEquals(2L, index.search("부동산", 10).get(0).doc().articleId());
+    }
+
+    @Test
+    @DisplayName("1글자 토큰은 unigram, 영문은 소문자 bigram으로 색인")
+    void terms() {
+        assertArrayEquals(new int[]{'전' << 16}, LexicalArticleIndex.terms("전"));
+        assertArrayEquals(LexicalArticleIndex.terms("tv"), LexicalArticleIndex.terms("TV!"));
+        assertEquals(0, LexicalArticleIndex.terms("!!").length);
+    }
+
+    private record Row(Long articleId, String title, String summary) implements ArticleRepository.SearchDocRow {
+        @Override public Long getArticleId() { return articleId; }
+        @Override public String getTitle() { return title; }
+        @Override public String getSummary() { return summary; }
+        @Override public LocalDateTime getPublishedAt() { return null; }
+    }
+}
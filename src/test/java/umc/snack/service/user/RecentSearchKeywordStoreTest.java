@@ -0,0 +1,36 @@
+package umc.snack.service.user;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentSearchKeywordStoreTest {
+
+    @Test
+    @DisplayName("같은 검색어는 맨 앞으로 이동하고 중복 저장되지 않는다")
+    void push_movesExistingToFront() {
+        RecentSearchKeywordStore.Recent recent = new RecentSearchKeywordStore.Recent();
+        recent.push("금리");
+        recent.push("환율");
+        recent.push("부동산");
+        recent.push("금리");
+
+        assertThat(recent.snapshot()).containsExactly("금리", "부동산", "환율");
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래된 검색어부터 밀려난다")
+    void push_evictsOldest() {
+        RecentSearchKeywordStore.Recent recent = new RecentSearchKeywordStore.Recent();
+        IntStream.range(0, RecentSearchKeywordStore.CAPACITY + 2).forEach(i -> recent.push("q" + i));
+
+        assertThat(recent.snapshot())
+                .hasSize(RecentSearchKeywordStore.CAPACITY)
+                .startsWith("q11", "q10")
+                .endsWith("q2")
+                .doesNotContain("q0", "q1");
+    }
+}